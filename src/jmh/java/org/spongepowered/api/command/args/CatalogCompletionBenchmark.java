@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.parsing.SingleArg;
+import org.spongepowered.api.text.Text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the completion of catalog ids, for catalogs the size of
+ * {@code BlockTypes} and {@code ItemTypes}, by compiling the input as a
+ * pattern and testing every id, as was done before, with the prefix lookup
+ * of an indexed {@link PatternMatchingCommandElement}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CatalogCompletionBenchmark {
+
+    private static final String[] INPUTS = {"m", "minecraft:", "minecraft:s", "minecraft:stone", "minecraft:red", "minecraft:zz"};
+
+    @Param({"256", "512"})
+    public int size;
+
+    private List<String> ids;
+    private PatternMatchingCommandElement element;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        this.ids = new ArrayList<>();
+        for (int i = 0; i < this.size; i++) {
+            final StringBuilder id = new StringBuilder("minecraft:");
+            for (int j = 5 + random.nextInt(10); j > 0; j--) {
+                id.append((char) ('a' + random.nextInt(26)));
+            }
+            this.ids.add(id.toString());
+        }
+        final ChoiceIndex index = ChoiceIndex.of(this.ids);
+        this.element = new PatternMatchingCommandElement(Text.of("type")) {
+            @Override
+            protected Iterable<String> getChoices(CommandSource source) {
+                return index.getChoices();
+            }
+
+            @Override
+            protected Iterable<String> getChoicesWithPrefix(CommandSource source, String prefix) {
+                return index.getChoicesWithPrefix(prefix);
+            }
+
+            @Override
+            protected Object getValue(String choice) throws IllegalArgumentException {
+                return choice;
+            }
+        };
+    }
+
+    @Benchmark
+    public List<String> completePattern() {
+        final String input = INPUTS[this.counter++ % INPUTS.length];
+        // Like before, the choices were collected again and the pattern compiled for every choice
+        final List<String> choices = this.ids.stream().collect(Collectors.toList());
+        return ImmutableList.copyOf(Iterables.filter(choices, choice -> Pattern.compile("^" + input, Pattern.CASE_INSENSITIVE)
+                .matcher(choice).find()));
+    }
+
+    @Benchmark
+    public List<String> completeIndexed() {
+        final String input = INPUTS[this.counter++ % INPUTS.length];
+        return this.element.complete(null, new CommandArgs(input, ImmutableList.of(new SingleArg(input, 0, input.length()))),
+                new CommandContext());
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.spongepowered.api.data.DataQuery.of;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of copying a large container and then modifying a single
+ * entry of the copy, for each kind of {@link DataContainer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataContainerCopyBenchmark {
+
+    private static final DataQuery EDITED = of("view0", "nested", "entry0");
+
+    @Param({"memory", "flat", "persistent"})
+    public String type;
+
+    @Param({"100", "10000"})
+    public int entryCount;
+
+    private DataContainer container;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        if (this.type.equals("memory")) {
+            this.container = DataContainer.createNew();
+        } else if (this.type.equals("flat")) {
+            this.container = DataContainer.createFlat();
+        } else {
+            this.container = DataContainer.createPersistent();
+        }
+        final int views = (int) Math.sqrt(this.entryCount);
+        for (int i = 0; i < this.entryCount; i++) {
+            this.container.set(of("view" + (i % views), "nested", "entry" + (i / views)), i);
+        }
+    }
+
+    @Benchmark
+    public DataContainer copy() {
+        return this.container.copy();
+    }
+
+    @Benchmark
+    public DataContainer copyThenEdit() {
+        return this.container.copy().set(EDITED, this.counter++);
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link BinaryDataFormat} against materializing the same data
+ * through {@link MemoryDataContainer}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BinaryDataFormatBenchmark {
+
+    private static final DataQuery ITEMS = of("Items");
+    private static final DataQuery OWNER = of("Owner");
+
+    @Param({"10", "1000"})
+    public int itemCount;
+
+    private DataContainer container;
+    private byte[] encoded;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setup() throws IOException {
+        this.container = new MemoryDataContainer();
+        final ImmutableList.Builder<DataView> items = ImmutableList.builder();
+        for (int i = 0; i < this.itemCount; i++) {
+            final DataContainer item = new MemoryDataContainer();
+            item.set(of("ItemType"), "minecraft:stone");
+            item.set(of("Count"), i % 64);
+            item.set(of("UnsafeDamage"), 0);
+            item.set(of("Data", "Enchantments"), ImmutableList.of("minecraft:unbreaking", "minecraft:efficiency"));
+            item.set(of("Data", "Lore"), new int[] {i, i + 1, i + 2});
+            items.add(item);
+        }
+        this.container.set(ITEMS, items.build());
+        this.container.set(OWNER, "Notch");
+
+        this.output = new ByteArrayOutputStream();
+        BinaryDataFormat.instance().writeTo(this.output, this.container);
+        this.encoded = this.output.toByteArray();
+    }
+
+    @Benchmark
+    public DataContainer copyMemory() {
+        return this.container.copy();
+    }
+
+    @Benchmark
+    public int write() throws IOException {
+        this.output.reset();
+        BinaryDataFormat.instance().writeTo(this.output, this.container);
+        return this.output.size();
+    }
+
+    @Benchmark
+    public DataContainer read() throws IOException {
+        return BinaryDataFormat.instance().readFrom(new ByteArrayInputStream(this.encoded));
+    }
+
+    @Benchmark
+    public String readSkipping() throws IOException {
+        // Only the owner is of interest, the items are skipped as a whole
+        final BinaryDataReader reader = BinaryDataFormat.instance().newReader(new ByteArrayInputStream(this.encoded));
+        reader.beginView();
+        String owner = null;
+        while (reader.hasNext()) {
+            if (reader.nextQuery().equals(OWNER)) {
+                owner = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endView();
+        return owner;
+    }
+
+}
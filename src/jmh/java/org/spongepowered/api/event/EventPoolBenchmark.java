@@ -0,0 +1,86 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.event.block.TickBlockEvent;
+import org.spongepowered.api.event.cause.Cause;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of creating a {@link TickBlockEvent} for every post
+ * against reusing a pooled one.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rates.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EventPoolBenchmark {
+
+    private final Cause cause = Cause.source("source").build();
+    private final BlockSnapshot block = (BlockSnapshot) Proxy.newProxyInstance(BlockSnapshot.class.getClassLoader(),
+            new Class<?>[] {BlockSnapshot.class}, (proxy, method, args) -> null);
+    private final EventPool<TickBlockEvent> pool = EventPool.of(TickBlockEvent.class);
+
+    @Benchmark
+    public boolean factory() {
+        final TickBlockEvent event = SpongeEventFactory.createTickBlockEvent(this.cause, this.block);
+        return this.post(event);
+    }
+
+    @Benchmark
+    public boolean pooled() {
+        final Map<String, Object> values = this.pool.getValues();
+        values.put("cause", this.cause);
+        values.put("targetBlock", this.block);
+        final TickBlockEvent event = this.pool.create(values);
+        try {
+            return this.post(event);
+        } finally {
+            this.pool.release(event);
+        }
+    }
+
+    private boolean post(TickBlockEvent event) {
+        return event.getTargetBlock() == null || event.isCancelled();
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.dispatch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.util.generator.event.listener.AnnotatedEventListenerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of invoking a listener method through a generated
+ * listener class, with its filter annotations compiled in, against invoking
+ * it through reflection and evaluating its filters reflectively.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ListenerInvocationBenchmark {
+
+    @Param({"onEvent", "onFiltered"})
+    public String listenerMethod;
+
+    private final TestListener listener = new TestListener();
+    private final TestEvent event = new TestEvent(Cause.source("source").named("count", 5).build());
+    private Method method;
+    private Class<?>[] parameterTypes;
+    private Annotation[][] parameterAnnotations;
+    private EventListener<Event> generated;
+
+    @Setup
+    public void setup() throws Exception {
+        for (Method method : TestListener.class.getMethods()) {
+            if (method.getName().equals(this.listenerMethod)) {
+                this.method = method;
+            }
+        }
+        this.parameterTypes = this.method.getParameterTypes();
+        this.parameterAnnotations = this.method.getParameterAnnotations();
+        this.generated = new AnnotatedEventListenerFactory("org.spongepowered.benchmark").create(this.listener, this.method);
+    }
+
+    @Benchmark
+    public int generated() throws Exception {
+        this.generated.handle(this.event);
+        return this.listener.calls;
+    }
+
+    @Benchmark
+    public int reflective() throws Exception {
+        if (this.event.isCancelled()) {
+            return this.listener.calls;
+        }
+        final Object[] args = new Object[this.parameterTypes.length];
+        args[0] = this.event;
+        for (int i = 1; i < args.length; i++) {
+            if (this.parameterAnnotations[i][0] instanceof First) {
+                final Optional<?> value = this.event.getCause().first(this.parameterTypes[i]);
+                if (!value.isPresent()) {
+                    return this.listener.calls;
+                }
+                args[i] = value.get();
+            }
+        }
+        this.method.invoke(this.listener, args);
+        return this.listener.calls;
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+
+        public TestEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+    public static class TestListener {
+
+        int calls;
+
+        public void onEvent(TestEvent event) {
+            this.calls++;
+        }
+
+        public void onFiltered(TestEvent event, @First String source, @First Integer count) {
+            this.calls += count;
+        }
+
+    }
+
+}
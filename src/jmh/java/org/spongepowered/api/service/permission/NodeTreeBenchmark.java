@@ -0,0 +1,109 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import com.google.common.collect.Maps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link NodeTree} with its previous, hash map based,
+ * implementation on a tree of 10000 nodes, for lookups of a small set of
+ * frequently checked nodes, lookups spread over the whole tree, and
+ * modifications.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NodeTreeBenchmark {
+
+    private static final int NODE_COUNT = 10000;
+    private static final int HOT_NODE_COUNT = 64;
+
+    @Param({"hash", "compiled"})
+    public String implementation;
+
+    private HashNodeTree hashTree;
+    private NodeTree tree;
+    private String[] nodes;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        final Map<String, Boolean> values = Maps.newHashMap();
+        this.nodes = new String[NODE_COUNT];
+        for (int i = 0; i < NODE_COUNT; i++) {
+            this.nodes[i] = "plugin" + random.nextInt(20) + ".command" + random.nextInt(50) + ".sub" + random.nextInt(20) + ".node" + i;
+            values.put(this.nodes[i], random.nextBoolean());
+        }
+        this.hashTree = HashNodeTree.of(values);
+        this.tree = NodeTree.of(values);
+    }
+
+    @Benchmark
+    public Tristate getHot() {
+        return this.get(this.nodes[this.counter++ % HOT_NODE_COUNT]);
+    }
+
+    @Benchmark
+    public Tristate getSpread() {
+        return this.get(this.nodes[this.counter++ % NODE_COUNT]);
+    }
+
+    @Benchmark
+    public Object withValue() {
+        final String node = this.nodes[this.counter++ % NODE_COUNT];
+        if (this.implementation.equals("hash")) {
+            return this.hashTree.withValue(node, Tristate.TRUE);
+        }
+        return this.tree.withValue(node, Tristate.TRUE);
+    }
+
+    private Tristate get(String node) {
+        if (this.implementation.equals("hash")) {
+            return this.hashTree.get(node);
+        }
+        return this.tree.get(node);
+    }
+
+}
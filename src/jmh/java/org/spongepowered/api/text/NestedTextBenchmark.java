@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.serializer.TextSerializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building deeply nested texts through {@link Text.Builder}, and
+ * serializing them into a string, an {@link Appendable} and a
+ * {@link ByteBuffer} through the streaming methods of
+ * {@link TextSerializer}.
+ *
+ * <p>The JSON serializer is provided by the implementation, so a
+ * {@link SimpleJsonTextSerializer} is used instead, which writes to an
+ * {@link Appendable} directly and uses the default implementation for byte
+ * buffers, encoding the cached string. Run with {@code -prof gc} to compare
+ * the allocation rates.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NestedTextBenchmark {
+
+    @Param({"8", "32", "128"})
+    public int depth;
+
+    private final TextSerializer serializer = new SimpleJsonTextSerializer();
+    private final StringBuilder output = new StringBuilder();
+    private ByteBuffer buffer;
+    private Text text;
+
+    @Setup
+    public void setup() {
+        this.text = this.build();
+        this.buffer = ByteBuffer.allocateDirect(this.serializer.serialize(this.text).length() * 4);
+    }
+
+    /**
+     * Builds a text with the given depth, where each level has some content,
+     * a nested text and a literal sibling after it.
+     *
+     * @return The text
+     */
+    @Benchmark
+    public Text build() {
+        Text text = Text.of("Leaf");
+        for (int i = 0; i < this.depth; i++) {
+            text = Text.builder("Level " + i + " ")
+                    .onShiftClick(TextActions.insertText("level " + i))
+                    .append(text)
+                    .append(Text.of(" after " + i))
+                    .build();
+        }
+        return text;
+    }
+
+    @Benchmark
+    public String serializeString() {
+        return this.serializer.serialize(this.text);
+    }
+
+    @Benchmark
+    public int serializeAppendable() throws IOException {
+        this.output.setLength(0);
+        this.serializer.serialize(this.text, this.output);
+        return this.output.length();
+    }
+
+    @Benchmark
+    public int serializeByteBuffer() {
+        this.buffer.clear();
+        this.serializer.serialize(this.text, this.buffer);
+        return this.buffer.position();
+    }
+
+}
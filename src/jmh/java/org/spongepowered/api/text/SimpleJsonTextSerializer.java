@@ -0,0 +1,89 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import org.spongepowered.api.text.serializer.TextSerializer;
+
+import java.io.IOException;
+
+/**
+ * A simple JSON {@link TextSerializer} for the benchmarks, which only
+ * supports the content of literal texts, their insertion and their
+ * children, because the JSON serializer is provided by the implementation.
+ */
+final class SimpleJsonTextSerializer implements TextSerializer {
+
+    @Override
+    public String serialize(Text text) {
+        final StringBuilder builder = new StringBuilder();
+        try {
+            this.serialize(text, builder);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void serialize(Text text, Appendable output) throws IOException {
+        output.append("{\"text\":");
+        appendString(text instanceof LiteralText ? ((LiteralText) text).getContent() : "", output);
+        if (text.getShiftClickAction().isPresent()) {
+            output.append(",\"insertion\":");
+            appendString(String.valueOf(text.getShiftClickAction().get().getResult()), output);
+        }
+        if (!text.getChildren().isEmpty()) {
+            output.append(",\"extra\":[");
+            boolean first = true;
+            for (Text child : text.getChildren()) {
+                if (!first) {
+                    output.append(',');
+                }
+                first = false;
+                this.serialize(child, output);
+            }
+            output.append(']');
+        }
+        output.append('}');
+    }
+
+    private static void appendString(String value, Appendable output) throws IOException {
+        output.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                output.append('\\');
+            }
+            output.append(c);
+        }
+        output.append('"');
+    }
+
+    @Override
+    public Text deserialize(String input) {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.serializer.TextSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of serializing the same {@link Text} tree repeatedly,
+ * as done when broadcasting a message, with and without the serialized form
+ * cached by {@link Text#toSerialized(TextSerializer)}.
+ *
+ * <p>The JSON serializer is provided by the implementation, so a
+ * {@link SimpleJsonTextSerializer} is used instead.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TextSerializationBenchmark {
+
+    @Param({"2", "4"})
+    public int depth;
+
+    private final TextSerializer serializer = new SimpleJsonTextSerializer();
+    private Text text;
+
+    @Setup
+    public void setup() {
+        this.text = createText(this.depth);
+    }
+
+    private static Text createText(int depth) {
+        final Text.Builder builder = Text.builder("Depth " + depth + " ").onShiftClick(TextActions.insertText("depth " + depth));
+        if (depth > 0) {
+            for (int i = 0; i < 3; i++) {
+                builder.append(createText(depth - 1));
+            }
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public String serialize() {
+        return this.serializer.serialize(this.text);
+    }
+
+    @Benchmark
+    public String cached() {
+        return this.text.toSerialized(this.serializer);
+    }
+
+}
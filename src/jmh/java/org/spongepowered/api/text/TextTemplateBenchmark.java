@@ -0,0 +1,82 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of applying a chat format like {@link TextTemplate}
+ * with named parameters and with positional parameters through its
+ * {@link CompiledTextTemplate}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TextTemplateBenchmark {
+
+    private TextTemplate template;
+    private CompiledTextTemplate compiled;
+    private Map<String, Object> params;
+    private Object[] positionalParams;
+
+    @Setup
+    public void setup() {
+        this.template = TextTemplate.of("[", TextTemplate.arg("world"), "] <", TextTemplate.arg("prefix").optional().defaultValue(Text.of("Guest")),
+                " ", TextTemplate.arg("name"), "> ", TextTemplate.arg("message"));
+        this.compiled = this.template.compile();
+        this.params = ImmutableMap.of("world", "world_nether", "name", "Notch", "message", Text.of("Hello world"));
+        this.positionalParams = new Object[this.compiled.getArgumentNames().size()];
+        for (Map.Entry<String, Object> entry : this.params.entrySet()) {
+            this.positionalParams[this.compiled.getArgumentIndex(entry.getKey())] = entry.getValue();
+        }
+    }
+
+    @Benchmark
+    public Text applyNamed() {
+        return this.template.apply(this.params).build();
+    }
+
+    @Benchmark
+    public Text applyPositional() {
+        return this.compiled.apply(this.positionalParams).build();
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A sorted index of the choices of a {@link PatternMatchingCommandElement},
+ * to look up the choices starting with a prefix without testing every
+ * choice.
+ */
+final class ChoiceIndex {
+
+    private final String[] keys;
+    private final ImmutableList<String> choices;
+
+    private ChoiceIndex(String[] keys, ImmutableList<String> choices) {
+        this.keys = keys;
+        this.choices = choices;
+    }
+
+    /**
+     * Creates an index of the given choices.
+     *
+     * @param choices The choices
+     * @return The index
+     */
+    static ChoiceIndex of(Iterable<String> choices) {
+        final String[] sorted = ImmutableList.copyOf(choices).toArray(new String[0]);
+        Arrays.sort(sorted, Comparator.comparing(ChoiceIndex::toKey));
+        final String[] keys = new String[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = toKey(sorted[i]);
+        }
+        return new ChoiceIndex(keys, ImmutableList.copyOf(sorted));
+    }
+
+    private static String toKey(String choice) {
+        return choice.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Gets all choices of this index, ordered by their lower case form.
+     *
+     * @return The choices
+     */
+    List<String> getChoices() {
+        return this.choices;
+    }
+
+    /**
+     * Gets the choices starting with the given prefix, ignoring case.
+     *
+     * @param prefix The prefix
+     * @return The matching choices
+     */
+    List<String> getChoicesWithPrefix(String prefix) {
+        final String key = toKey(prefix);
+        // Find the first key not less than the prefix
+        int from = 0;
+        int high = this.keys.length;
+        while (from < high) {
+            final int mid = (from + high) >>> 1;
+            if (this.keys[mid].compareTo(key) < 0) {
+                from = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int to = from;
+        while (to < this.keys.length && this.keys[to].startsWith(key)) {
+            to++;
+        }
+        return this.choices.subList(from, to);
+    }
+
+    /**
+     * Gets the number of choices of this index.
+     *
+     * @return The number of choices
+     */
+    int size() {
+        return this.keys.length;
+    }
+
+}
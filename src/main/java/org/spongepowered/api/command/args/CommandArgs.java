@@ -26,6 +26,7 @@
 
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.command.args.parsing.SingleArg;
 
@@ -41,6 +42,7 @@
 public final class CommandArgs {
     private final String rawInput;
     private List<SingleArg> args;
+    private boolean sharedArgs;
     private int index = -1;
 
     /**
@@ -51,7 +53,17 @@ public final class CommandArgs {
      */
     public CommandArgs(String rawInput, List<SingleArg> args) {
         this.rawInput = rawInput;
-        this.args = new ArrayList<>(args);
+        // Immutable lists, such as the cached tokens of a ParseProgram, are only copied once modified
+        this.sharedArgs = args instanceof ImmutableList;
+        this.args = this.sharedArgs ? args : new ArrayList<>(args);
+    }
+
+    private List<SingleArg> getMutableArgs() {
+        if (this.sharedArgs) {
+            this.args = new ArrayList<>(this.args);
+            this.sharedArgs = false;
+        }
+        return this.args;
     }
 
     /**
@@ -159,7 +171,7 @@ public String getRaw() {
      */
     public void insertArg(String value) {
         int index = this.index < 0 ? 0 : this.args.get(this.index).getEndIdx();
-        this.args.add(this.index + 1, new SingleArg(value, index, index));
+        getMutableArgs().add(this.index + 1, new SingleArg(value, index, index));
     }
 
     /**
@@ -181,8 +193,9 @@ public void removeArgs(Object startState, Object endState) {
                 this.index -= (endIdx - startIdx) + 1;
             }
         }
+        final List<SingleArg> args = getMutableArgs();
         for (int i = startIdx; i <= endIdx; ++i) {
-            this.args.remove(startIdx);
+            args.remove(startIdx);
         }
     }
 
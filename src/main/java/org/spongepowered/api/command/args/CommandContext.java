@@ -28,27 +28,64 @@
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.text.Text;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
 
 /**
  * Context that a command is executed in.
  * This object stores parsed arguments from other commands
+ *
+ * <p>Contexts created by a {@link ParseProgram} store the values of the keys
+ * known to the program in an array, indexed by the slot of the key. Values
+ * of other keys are stored in a multimap.</p>
  */
 public final class CommandContext {
-    private final Multimap<String, Object> parsedArgs;
+    private final ImmutableMap<String, Integer> slots;
+    // Each slot holds either nothing, a single value or MultipleValues
+    private final Object[] values;
+    @Nullable private Multimap<String, Object> parsedArgs;
 
     /**
      * Create a new empty CommandContext.
      */
     public CommandContext() {
-        this.parsedArgs = ArrayListMultimap.create();
+        this(ImmutableMap.of());
+    }
+
+    /**
+     * Create a new empty CommandContext storing the values of the given keys
+     * in slots.
+     *
+     * @param slots The slot indices of the keys
+     */
+    CommandContext(ImmutableMap<String, Integer> slots) {
+        this.slots = slots;
+        this.values = new Object[slots.size()];
+    }
+
+    ImmutableMap<String, Integer> getSlots() {
+        return this.slots;
+    }
+
+    /**
+     * Gets the keys with values which aren't stored in a slot.
+     *
+     * @return The keys
+     */
+    Set<String> getUnslottedKeys() {
+        return this.parsedArgs == null ? ImmutableSet.of() : this.parsedArgs.keySet();
     }
 
     /**
@@ -61,7 +98,18 @@ public CommandContext() {
      */
     @SuppressWarnings("unchecked")
     public <T> Collection<T> getAll(String key) {
-        return Collections.unmodifiableCollection((Collection<T>) this.parsedArgs.get(key));
+        final Integer slot = this.slots.get(key);
+        if (slot == null) {
+            return this.parsedArgs == null ? Collections.emptyList()
+                    : Collections.unmodifiableCollection((Collection<T>) this.parsedArgs.get(key));
+        }
+        final Object value = this.values[slot];
+        if (value == null) {
+            return Collections.emptyList();
+        } else if (value instanceof MultipleValues) {
+            return Collections.unmodifiableList((MultipleValues<T>) value);
+        }
+        return Collections.singletonList((T) value);
     }
 
     /**
@@ -85,12 +133,17 @@ public <T> Collection<T> getAll(Text key) {
      */
     @SuppressWarnings("unchecked")
     public <T> Optional<T> getOne(String key) {
-        Collection<Object> values = this.parsedArgs.get(key);
-        if (values.size() != 1) {
-            return Optional.empty();
-        } else {
-            return Optional.ofNullable((T) values.iterator().next());
+        final Integer slot = this.slots.get(key);
+        if (slot == null) {
+            Collection<Object> values = this.parsedArgs == null ? Collections.emptyList() : this.parsedArgs.get(key);
+            if (values.size() != 1) {
+                return Optional.empty();
+            } else {
+                return Optional.ofNullable((T) values.iterator().next());
+            }
         }
+        final Object value = this.values[slot];
+        return value instanceof MultipleValues ? Optional.empty() : Optional.ofNullable((T) value);
     }
 
     /**
@@ -111,9 +164,28 @@ public <T> Optional<T> getOne(Text key) {
      * @param key the key to store the arg under
      * @param value the value for this argument
      */
+    @SuppressWarnings("unchecked")
     public void putArg(String key, Object value) {
         checkNotNull(value, "value");
-        this.parsedArgs.put(key, value);
+        final Integer slot = this.slots.get(key);
+        if (slot == null) {
+            if (this.parsedArgs == null) {
+                this.parsedArgs = ArrayListMultimap.create();
+            }
+            this.parsedArgs.put(key, value);
+            return;
+        }
+        final Object current = this.values[slot];
+        if (current == null) {
+            this.values[slot] = value;
+        } else if (current instanceof MultipleValues) {
+            ((MultipleValues<Object>) current).add(value);
+        } else {
+            final MultipleValues<Object> values = new MultipleValues<>();
+            values.add(current);
+            values.add(value);
+            this.values[slot] = values;
+        }
     }
 
     /**
@@ -146,7 +218,11 @@ public void checkPermission(CommandSource commander, String permission) throws C
      * @return whether there are any values present
      */
     public boolean hasAny(String key) {
-        return this.parsedArgs.containsKey(key);
+        final Integer slot = this.slots.get(key);
+        if (slot == null) {
+            return this.parsedArgs != null && this.parsedArgs.containsKey(key);
+        }
+        return this.values[slot] != null;
     }
 
     /**
@@ -158,4 +234,15 @@ public boolean hasAny(String key) {
     public boolean hasAny(Text key) {
         return hasAny(ArgUtils.textToArgKey(key));
     }
+
+    /**
+     * The values of a slot with more than one value.
+     *
+     * @param <T> The type of the values
+     */
+    private static final class MultipleValues<T> extends ArrayList<T> {
+
+        private static final long serialVersionUID = 1L;
+
+    }
 }
@@ -34,6 +34,9 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.GameRegistry;
+import org.spongepowered.api.GameState;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandMessageFormatting;
 import org.spongepowered.api.command.CommandSource;
@@ -65,6 +68,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -196,6 +200,16 @@ public static <T extends CatalogType> CommandElement catalogedElement(Text key,
         return new CatalogedTypeCommandElement<>(key, catalogType);
     }
 
+    /**
+     * Discards the indexed ids completed by {@link #catalogedElement(Text, Class)}
+     * elements, which are otherwise only indexed again when the
+     * {@link GameState} changes. This should be called when catalog types are
+     * registered while the game is running.
+     */
+    public static void invalidateCatalogedElements() {
+        CatalogedTypeCommandElement.indices.clear();
+    }
+
     /**
      * Expect an argument to represent a {@link PluginContainer}'s id.
      *
@@ -259,7 +273,7 @@ public static CommandElement seq(CommandElement... elements) {
         return new SequenceCommandElement(ImmutableList.copyOf(elements));
     }
 
-    private static class SequenceCommandElement extends CommandElement {
+    static class SequenceCommandElement extends CommandElement {
         private final List<CommandElement> elements;
 
         SequenceCommandElement(List<CommandElement> elements) {
@@ -267,6 +281,10 @@ private static class SequenceCommandElement extends CommandElement {
             this.elements = elements;
         }
 
+        List<CommandElement> getElements() {
+            return this.elements;
+        }
+
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
             for (CommandElement element : this.elements) {
@@ -1317,6 +1335,9 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
     }
 
     private static class CatalogedTypeCommandElement<T extends CatalogType> extends PatternMatchingCommandElement {
+        // The indexed ids of each catalog class, shared between elements
+        private static final Map<Class<?>, CatalogIndex> indices = new ConcurrentHashMap<>();
+
         private final Class<T> catalogType;
 
         protected CatalogedTypeCommandElement(Text key, Class<T> catalogType) {
@@ -1324,13 +1345,33 @@ protected CatalogedTypeCommandElement(Text key, Class<T> catalogType) {
             this.catalogType = catalogType;
         }
 
+        /**
+         * Gets the index of the ids of the catalog type, which is rebuilt
+         * when the game state changes, as types are registered while the
+         * game is loading, or when it was invalidated.
+         *
+         * @return The index
+         */
+        private ChoiceIndex getIndex() {
+            final Game game = Sponge.getGame();
+            final GameRegistry registry = game.getRegistry();
+            final GameState state = game.getState();
+            CatalogIndex index = indices.get(this.catalogType);
+            if (index == null || index.registry != registry || index.state != state) {
+                index = new CatalogIndex(registry, state, registry.getAllOf(this.catalogType));
+                indices.put(this.catalogType, index);
+            }
+            return index.ids;
+        }
+
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Sponge.getGame().getRegistry().getAllOf(this.catalogType).stream()
-                .<String>map(input -> {
-                return input == null ? null : input.getId(); // TODO: ids or names?
-                })
-                .collect(Collectors.toList());
+            return getIndex().getChoices();
+        }
+
+        @Override
+        protected Iterable<String> getChoicesWithPrefix(CommandSource source, String prefix) {
+            return getIndex().getChoicesWithPrefix(prefix);
         }
 
         @Override
@@ -1341,6 +1382,21 @@ protected Object getValue(String choice) throws IllegalArgumentException {
             }
             return ret.get();
         }
+
+        private static final class CatalogIndex {
+            private final GameRegistry registry;
+            private final GameState state;
+            private final ChoiceIndex ids;
+
+            CatalogIndex(GameRegistry registry, GameState state, Collection<? extends CatalogType> types) {
+                this.registry = registry;
+                this.state = state;
+                this.ids = ChoiceIndex.of(types.stream()
+                        .filter(input -> input != null)
+                        .map(CatalogType::getId) // TODO: ids or names?
+                        .collect(Collectors.toList()));
+            }
+        }
     }
 
     /**
@@ -0,0 +1,177 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.parsing.InputTokenizer;
+import org.spongepowered.api.command.args.parsing.SingleArg;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link CommandElement} tree compiled for repeated parsing.
+ *
+ * <p>Nested {@link GenericArguments#seq(CommandElement...) sequences} are
+ * flattened into a single list of steps, and every key of the elements is
+ * assigned a slot, so the {@link CommandContext}s created by the program
+ * store their values in an array. Keys which are only discovered while
+ * parsing, such as those of flags or child commands, are assigned a slot
+ * for the following invocations.</p>
+ *
+ * <p>The tokens of recently parsed inputs are cached if the tokenizer is one
+ * of the tokenizers provided by {@link InputTokenizer}.</p>
+ */
+public final class ParseProgram {
+
+    private static final int MAX_SLOTS = 64;
+    private static final int TOKEN_CACHE_SIZE = 64;
+
+    private final CommandElement[] steps;
+    private final InputTokenizer tokenizer;
+    @Nullable private final Cache<String, List<SingleArg>> tokens;
+    private volatile ImmutableMap<String, Integer> slots;
+
+    private ParseProgram(CommandElement[] steps, InputTokenizer tokenizer, ImmutableMap<String, Integer> slots) {
+        this.steps = steps;
+        this.tokenizer = tokenizer;
+        this.slots = slots;
+        // Only the provided tokenizers are known to be stateless
+        this.tokens = tokenizer.getClass().getPackage() == InputTokenizer.class.getPackage()
+                ? CacheBuilder.newBuilder().maximumSize(TOKEN_CACHE_SIZE).build() : null;
+    }
+
+    /**
+     * Compiles the given element tree.
+     *
+     * @param element The root element
+     * @param tokenizer The tokenizer of the input
+     * @return The compiled program
+     */
+    public static ParseProgram compile(CommandElement element, InputTokenizer tokenizer) {
+        checkNotNull(element, "element");
+        checkNotNull(tokenizer, "tokenizer");
+        final ImmutableList.Builder<CommandElement> steps = ImmutableList.builder();
+        flatten(element, steps);
+        final ImmutableList<CommandElement> stepList = steps.build();
+
+        final ImmutableMap.Builder<String, Integer> slots = ImmutableMap.builder();
+        final Set<String> keys = new HashSet<>();
+        for (CommandElement step : stepList) {
+            final String key = step.getUntranslatedKey();
+            if (key != null && keys.add(key)) {
+                slots.put(key, keys.size() - 1);
+            }
+        }
+        return new ParseProgram(stepList.toArray(new CommandElement[stepList.size()]), tokenizer, slots.build());
+    }
+
+    private static void flatten(CommandElement element, ImmutableList.Builder<CommandElement> steps) {
+        if (element instanceof GenericArguments.SequenceCommandElement) {
+            for (CommandElement child : ((GenericArguments.SequenceCommandElement) element).getElements()) {
+                flatten(child, steps);
+            }
+        } else {
+            steps.add(element);
+        }
+    }
+
+    /**
+     * Tokenizes the given input.
+     *
+     * @param arguments The input
+     * @return The tokens of the input
+     * @throws ArgumentParseException If the input could not be tokenized
+     */
+    public List<SingleArg> tokenize(String arguments) throws ArgumentParseException {
+        if (this.tokens == null) {
+            return this.tokenizer.tokenize(arguments, false);
+        }
+        List<SingleArg> args = this.tokens.getIfPresent(arguments);
+        if (args == null) {
+            args = ImmutableList.copyOf(this.tokenizer.tokenize(arguments, false));
+            this.tokens.put(arguments, args);
+        }
+        return args;
+    }
+
+    /**
+     * Creates a context storing the values of the known keys of this program
+     * in slots.
+     *
+     * @return The new context
+     */
+    public CommandContext createContext() {
+        return new CommandContext(this.slots);
+    }
+
+    /**
+     * Parses the given arguments into the given context, failing if not all
+     * arguments were consumed.
+     *
+     * @param source The source to parse for
+     * @param args The arguments to parse
+     * @param context The context to put the values in
+     * @throws ArgumentParseException If an invalid argument is provided
+     */
+    public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+        for (CommandElement step : this.steps) {
+            step.parse(source, args, context);
+        }
+        if (args.hasNext()) {
+            args.next();
+            throw args.createError(t("Too many arguments!"));
+        }
+        if (context.getSlots() == this.slots && !context.getUnslottedKeys().isEmpty()) {
+            this.addSlots(context);
+        }
+    }
+
+    private synchronized void addSlots(CommandContext context) {
+        final ImmutableMap<String, Integer> slots = this.slots;
+        if (slots.size() >= MAX_SLOTS) {
+            return;
+        }
+        final ImmutableMap.Builder<String, Integer> builder = ImmutableMap.<String, Integer>builder().putAll(slots);
+        int size = slots.size();
+        for (String key : context.getUnslottedKeys()) {
+            if (key != null && !slots.containsKey(key) && size < MAX_SLOTS) {
+                builder.put(key, size++);
+            }
+        }
+        this.slots = builder.build();
+    }
+
+}
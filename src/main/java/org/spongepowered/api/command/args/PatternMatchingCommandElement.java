@@ -43,6 +43,7 @@
  */
 public abstract class PatternMatchingCommandElement extends CommandElement {
     private static final Text nullKeyArg = t("argument");
+    private static final String REGEX_SYNTAX = "\\^$.|?*+()[]{}";
 
     protected PatternMatchingCommandElement(@Nullable Text key) {
         super(key);
@@ -52,8 +53,7 @@ protected PatternMatchingCommandElement(@Nullable Text key) {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         final String unformattedPattern = args.next();
-        Pattern pattern = getFormattedPattern(unformattedPattern);
-        Iterable<String> filteredChoices = Iterables.filter(getChoices(source), element -> pattern.matcher(element).find());
+        final List<String> filteredChoices = ImmutableList.copyOf(getMatchingChoices(source, unformattedPattern));
         for (String el : filteredChoices) { // Match a single value
             if (el.equalsIgnoreCase(unformattedPattern)) {
                 return Collections.singleton(getValue(el));
@@ -70,20 +70,39 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
 
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-        Iterable<String> choices = getChoices(src);
         final Optional<String> nextArg = args.nextIfPresent();
         if (nextArg.isPresent()) {
-            choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
+            return ImmutableList.copyOf(getMatchingChoices(src, nextArg.get()));
         }
-        return ImmutableList.copyOf(choices);
+        return ImmutableList.copyOf(getChoices(src));
     }
 
-    private Pattern getFormattedPattern(String input) {
-        if (!input.startsWith("^")) { // Anchor matches to the beginning -- this lets us use find()
-            input = "^" + input;
+    /**
+     * Gets the choices matching the given pattern. Patterns without any
+     * regular expression syntax are matched as a prefix, without compiling
+     * them.
+     *
+     * @param source The source requesting choices
+     * @param input The pattern
+     * @return The matching choices
+     */
+    private Iterable<String> getMatchingChoices(CommandSource source, String input) {
+        // Anchor matches to the beginning -- this lets us use find()
+        final String anchored = input.startsWith("^") ? input : "^" + input;
+        if (isPlainPrefix(anchored)) {
+            return getChoicesWithPrefix(source, anchored.substring(1));
         }
-        return Pattern.compile(input, Pattern.CASE_INSENSITIVE);
+        final Pattern pattern = Pattern.compile(anchored, Pattern.CASE_INSENSITIVE);
+        return Iterables.filter(getChoices(source), element -> pattern.matcher(element).find());
+    }
 
+    private static boolean isPlainPrefix(String anchored) {
+        for (int i = 1; i < anchored.length(); i++) {
+            if (REGEX_SYNTAX.indexOf(anchored.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -94,6 +113,22 @@ private Pattern getFormattedPattern(String input) {
      */
     protected abstract Iterable<String> getChoices(CommandSource source);
 
+    /**
+     * Gets the available choices for this command source which start with
+     * the given prefix, ignoring case.
+     *
+     * <p>By default this filters the result of
+     * {@link #getChoices(CommandSource)}. Elements keeping an index of their
+     * choices may override it to avoid testing every choice.</p>
+     *
+     * @param source The source requesting choices
+     * @param prefix The prefix
+     * @return the possible choices starting with the prefix
+     */
+    protected Iterable<String> getChoicesWithPrefix(CommandSource source, String prefix) {
+        return Iterables.filter(getChoices(source), choice -> choice.regionMatches(true, 0, prefix, 0, prefix.length()));
+    }
+
     /**
      * Gets the value for a given choice. For any result in
      * {@link #getChoices(CommandSource)}, this must return a non-null value.
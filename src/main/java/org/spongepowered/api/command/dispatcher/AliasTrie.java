@@ -0,0 +1,251 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import org.spongepowered.api.command.CommandMapping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable prefix trie of the command mappings of a
+ * {@link SimpleDispatcher}, keyed by their lower case aliases. Modifications
+ * return a new trie, sharing the nodes that didn't change.
+ *
+ * <p>Aliases are iterated in lexicographic order.</p>
+ */
+final class AliasTrie {
+
+    static final AliasTrie EMPTY = new AliasTrie(Node.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+    @Nullable private ImmutableListMultimap<String, CommandMapping> multimap;
+
+    private AliasTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of alias to mapping entries of this trie.
+     *
+     * @return The number of entries
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the mappings registered to the given alias.
+     *
+     * @param alias The lower case alias
+     * @return The mappings, in registration order
+     */
+    List<CommandMapping> get(String alias) {
+        final Node node = this.root.find(alias);
+        return node == null ? ImmutableList.of() : node.mappings;
+    }
+
+    /**
+     * Gets whether there are mappings registered to the given alias.
+     *
+     * @param alias The lower case alias
+     * @return Whether there are mappings for the alias
+     */
+    boolean containsKey(String alias) {
+        return !this.get(alias).isEmpty();
+    }
+
+    /**
+     * Gets the aliases starting with the given prefix.
+     *
+     * @param prefix The lower case prefix
+     * @return The aliases
+     */
+    List<String> getKeysWithPrefix(String prefix) {
+        final Node node = this.root.find(prefix);
+        if (node == null) {
+            return ImmutableList.of();
+        }
+        final ImmutableList.Builder<String> keys = ImmutableList.builder();
+        node.collectKeys(new StringBuilder(prefix), keys);
+        return keys.build();
+    }
+
+    /**
+     * Gets a trie with the given mapping added to the given alias.
+     *
+     * @param alias The lower case alias
+     * @param mapping The mapping
+     * @return The new trie
+     */
+    AliasTrie with(String alias, CommandMapping mapping) {
+        final List<CommandMapping> mappings = this.get(alias);
+        final ImmutableList<CommandMapping> newMappings = ImmutableList.<CommandMapping>builder().addAll(mappings).add(mapping).build();
+        return new AliasTrie(this.root.with(alias, 0, newMappings), this.size + 1);
+    }
+
+    /**
+     * Gets a trie without the mappings of the given alias.
+     *
+     * @param alias The lower case alias
+     * @return The new trie, or this trie if there are no mappings for the
+     *     alias
+     */
+    AliasTrie without(String alias) {
+        final List<CommandMapping> mappings = this.get(alias);
+        if (mappings.isEmpty()) {
+            return this;
+        }
+        return new AliasTrie(this.root.with(alias, 0, ImmutableList.of()), this.size - mappings.size());
+    }
+
+    /**
+     * Gets a trie with only the mappings matching the given predicate.
+     *
+     * @param predicate The predicate
+     * @return The new trie
+     */
+    AliasTrie filter(Predicate<CommandMapping> predicate) {
+        AliasTrie trie = EMPTY;
+        for (Map.Entry<String, CommandMapping> entry : this.asMultimap().entries()) {
+            if (predicate.test(entry.getValue())) {
+                trie = trie.with(entry.getKey(), entry.getValue());
+            }
+        }
+        return trie;
+    }
+
+    /**
+     * Gets the mappings of this trie as a multimap of their aliases.
+     *
+     * @return The multimap
+     */
+    ImmutableListMultimap<String, CommandMapping> asMultimap() {
+        ImmutableListMultimap<String, CommandMapping> multimap = this.multimap;
+        if (multimap == null) {
+            final ImmutableListMultimap.Builder<String, CommandMapping> builder = ImmutableListMultimap.builder();
+            for (String key : this.getKeysWithPrefix("")) {
+                builder.putAll(key, this.get(key));
+            }
+            this.multimap = multimap = builder.build();
+        }
+        return multimap;
+    }
+
+    private static final class Node {
+
+        static final Node EMPTY = new Node(new char[0], new Node[0], ImmutableList.of());
+
+        // Sorted, to be binary searched
+        final char[] keys;
+        final Node[] children;
+        final ImmutableList<CommandMapping> mappings;
+
+        Node(char[] keys, Node[] children, ImmutableList<CommandMapping> mappings) {
+            this.keys = keys;
+            this.children = children;
+            this.mappings = mappings;
+        }
+
+        boolean isEmpty() {
+            return this.keys.length == 0 && this.mappings.isEmpty();
+        }
+
+        @Nullable
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++) {
+                final int index = Arrays.binarySearch(node.keys, key.charAt(i));
+                if (index < 0) {
+                    return null;
+                }
+                node = node.children[index];
+            }
+            return node;
+        }
+
+        void collectKeys(StringBuilder prefix, ImmutableList.Builder<String> keys) {
+            if (!this.mappings.isEmpty()) {
+                keys.add(prefix.toString());
+            }
+            for (int i = 0; i < this.keys.length; i++) {
+                prefix.append(this.keys[i]);
+                this.children[i].collectKeys(prefix, keys);
+                prefix.setLength(prefix.length() - 1);
+            }
+        }
+
+        Node with(String key, int depth, ImmutableList<CommandMapping> mappings) {
+            if (depth == key.length()) {
+                return new Node(this.keys, this.children, mappings);
+            }
+            final char c = key.charAt(depth);
+            int index = Arrays.binarySearch(this.keys, c);
+            final Node child = index < 0 ? EMPTY : this.children[index];
+            final Node newChild = child.with(key, depth + 1, mappings);
+            if (index >= 0) {
+                if (newChild.isEmpty()) {
+                    return this.withoutChild(index);
+                }
+                final Node[] children = this.children.clone();
+                children[index] = newChild;
+                return new Node(this.keys, children, this.mappings);
+            }
+            if (newChild.isEmpty()) {
+                return this;
+            }
+            index = -index - 1;
+            final char[] keys = new char[this.keys.length + 1];
+            final Node[] children = new Node[this.children.length + 1];
+            System.arraycopy(this.keys, 0, keys, 0, index);
+            System.arraycopy(this.children, 0, children, 0, index);
+            keys[index] = c;
+            children[index] = newChild;
+            System.arraycopy(this.keys, index, keys, index + 1, this.keys.length - index);
+            System.arraycopy(this.children, index, children, index + 1, this.children.length - index);
+            return new Node(keys, children, this.mappings);
+        }
+
+        private Node withoutChild(int index) {
+            final char[] keys = new char[this.keys.length - 1];
+            final Node[] children = new Node[this.children.length - 1];
+            System.arraycopy(this.keys, 0, keys, 0, index);
+            System.arraycopy(this.children, 0, children, 0, index);
+            System.arraycopy(this.keys, index + 1, keys, index, keys.length - index);
+            System.arraycopy(this.children, index + 1, children, index, children.length - index);
+            return new Node(keys, children, this.mappings);
+        }
+
+    }
+
+}
@@ -28,19 +28,14 @@
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 import static org.spongepowered.api.command.CommandMessageFormatting.SPACE_TEXT;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.api.util.GuavaCollectors;
-import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandMapping;
@@ -65,6 +60,11 @@
 
 /**
  * A simple implementation of a {@link Dispatcher}.
+ *
+ * <p>The mappings are stored in an immutable prefix trie of their aliases,
+ * which is replaced on every registration or removal, so lookups and
+ * suggestions don't need to lock the dispatcher. Aliases are iterated in
+ * lexicographic order.</p>
  */
 public final class SimpleDispatcher implements Dispatcher {
 
@@ -81,7 +81,7 @@ public final class SimpleDispatcher implements Dispatcher {
     };
 
     private final Disambiguator disambiguatorFunc;
-    private final ListMultimap<String, CommandMapping> commands = ArrayListMultimap.create();
+    private volatile AliasTrie commands = AliasTrie.EMPTY;
 
     /**
      * Creates a basic new dispatcher.
@@ -171,9 +171,11 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
             List<String> secondary = aliases.subList(1, aliases.size());
             CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
 
+            AliasTrie commands = this.commands;
             for (String alias : aliases) {
-                this.commands.put(alias.toLowerCase(), mapping);
+                commands = commands.with(alias.toLowerCase(), mapping);
             }
+            this.commands = commands;
 
             return Optional.of(mapping);
         } else {
@@ -188,7 +190,11 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
      * @return The previous mapping associated with the alias, if one was found
      */
     public synchronized Collection<CommandMapping> remove(String alias) {
-        return this.commands.removeAll(alias.toLowerCase());
+        final String lowerAlias = alias.toLowerCase();
+        final AliasTrie commands = this.commands;
+        final List<CommandMapping> removed = commands.get(lowerAlias);
+        this.commands = commands.without(lowerAlias);
+        return removed;
     }
 
     /**
@@ -200,14 +206,13 @@ public synchronized Collection<CommandMapping> remove(String alias) {
     public synchronized boolean removeAll(Collection<?> aliases) {
         checkNotNull(aliases, "aliases");
 
-        boolean found = false;
-
+        AliasTrie commands = this.commands;
         for (Object alias : aliases) {
-            if (!this.commands.removeAll(alias.toString().toLowerCase()).isEmpty()) {
-                found = true;
-            }
+            commands = commands.without(alias.toString().toLowerCase());
         }
 
+        final boolean found = commands != this.commands;
+        this.commands = commands;
         return found;
     }
 
@@ -222,14 +227,14 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
 
         CommandMapping found = null;
 
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            CommandMapping current = it.next();
+        for (CommandMapping current : this.commands.asMultimap().values()) {
             if (current.equals(mapping)) {
-                it.remove();
                 found = current;
             }
         }
+        if (found != null) {
+            this.commands = this.commands.filter(current -> !current.equals(mapping));
+        }
 
         return Optional.ofNullable(found);
     }
@@ -243,29 +248,22 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
     public synchronized boolean removeMappings(Collection<?> mappings) {
         checkNotNull(mappings, "mappings");
 
-        boolean found = false;
-
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            if (mappings.contains(it.next())) {
-                it.remove();
-                found = true;
-            }
-        }
-
+        final AliasTrie commands = this.commands.filter(current -> !mappings.contains(current));
+        final boolean found = commands.size() != this.commands.size();
+        this.commands = commands;
         return found;
     }
 
     @Override
-    public synchronized Set<CommandMapping> getCommands() {
-        return ImmutableSet.copyOf(this.commands.values());
+    public Set<CommandMapping> getCommands() {
+        return ImmutableSet.copyOf(this.commands.asMultimap().values());
     }
 
     @Override
-    public synchronized Set<String> getPrimaryAliases() {
+    public Set<String> getPrimaryAliases() {
         Set<String> aliases = new HashSet<>();
 
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.commands.asMultimap().values()) {
             aliases.add(mapping.getPrimaryAlias());
         }
 
@@ -273,10 +271,10 @@ public synchronized Set<String> getPrimaryAliases() {
     }
 
     @Override
-    public synchronized Set<String> getAliases() {
+    public Set<String> getAliases() {
         Set<String> aliases = new HashSet<>();
 
-        for (CommandMapping mapping : this.commands.values()) {
+        for (CommandMapping mapping : this.commands.asMultimap().values()) {
             aliases.addAll(mapping.getAllAliases());
         }
 
@@ -289,8 +287,8 @@ public Optional<CommandMapping> get(String alias) {
     }
 
     @Override
-    public synchronized Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
-        List<CommandMapping> results = this.commands.get(alias.toLowerCase());
+    public Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
+        final List<CommandMapping> results = this.commands.get(alias.toLowerCase());
         if (results.size() == 1) {
             return Optional.of(results.get(0));
         } else if (results.size() == 0) {
@@ -301,7 +299,7 @@ public synchronized Optional<CommandMapping> get(String alias, @Nullable Command
     }
 
     @Override
-    public synchronized boolean containsAlias(String alias) {
+    public boolean containsAlias(String alias) {
         return this.commands.containsKey(alias.toLowerCase());
     }
 
@@ -309,13 +307,7 @@ public synchronized boolean containsAlias(String alias) {
     public boolean containsMapping(CommandMapping mapping) {
         checkNotNull(mapping, "mapping");
 
-        for (CommandMapping test : this.commands.values()) {
-            if (mapping.equals(test)) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.commands.asMultimap().containsValue(mapping);
     }
 
     @Override
@@ -337,10 +329,14 @@ public CommandResult process(CommandSource source, String commandLine) throws Co
     @Override
     public List<String> getSuggestions(CommandSource src, final String arguments) throws CommandException {
         final String[] argSplit = arguments.split(" ", 2);
-        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
         if (argSplit.length == 1) {
-            return filterCommands(src).stream().filter(new StartsWithPredicate(argSplit[0])).collect(GuavaCollectors.toImmutableList());
-        } else if (!cmdOptional.isPresent()) {
+            final AliasTrie commands = this.commands;
+            return commands.getKeysWithPrefix(argSplit[0].toLowerCase()).stream()
+                    .filter(alias -> testPermission(commands.get(alias), src))
+                    .collect(GuavaCollectors.toImmutableList());
+        }
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
+        if (!cmdOptional.isPresent()) {
             return ImmutableList.of();
         }
         return cmdOptional.get().getCallable().getSuggestions(src, argSplit[1]);
@@ -348,7 +344,11 @@ public List<String> getSuggestions(CommandSource src, final String arguments) th
 
     @Override
     public boolean testPermission(CommandSource source) {
-        for (CommandMapping mapping : this.commands.values()) {
+        return testPermission(this.commands.asMultimap().values(), source);
+    }
+
+    private static boolean testPermission(Collection<CommandMapping> mappings, CommandSource source) {
+        for (CommandMapping mapping : mappings) {
             if (mapping.getCallable().testPermission(source)) {
                 return true;
             }
@@ -363,7 +363,7 @@ public Optional<Text> getShortDescription(CommandSource source) {
 
     @Override
     public Optional<Text> getHelp(CommandSource source) {
-        if (this.commands.isEmpty()) {
+        if (this.commands.size() == 0) {
             return Optional.empty();
         }
         Text.Builder build = t("Available commands:\n").toBuilder();
@@ -388,7 +388,10 @@ public Optional<Text> getHelp(CommandSource source) {
     }
 
     private Set<String> filterCommands(final CommandSource src) {
-        return Multimaps.filterValues(this.commands, input -> input.getCallable().testPermission(src)).keys().elementSet();
+        final AliasTrie commands = this.commands;
+        return commands.getKeysWithPrefix("").stream()
+                .filter(alias -> testPermission(commands.get(alias), src))
+                .collect(GuavaCollectors.toImmutableSet());
     }
 
     /**
@@ -396,7 +399,7 @@ private Set<String> filterCommands(final CommandSource src) {
      *
      * @return The number of aliases
      */
-    public synchronized int size() {
+    public int size() {
         return this.commands.size();
     }
 
@@ -423,12 +426,12 @@ public Text getUsage(final CommandSource source) {
     }
 
     @Override
-    public synchronized Set<CommandMapping> getAll(String alias) {
-        return ImmutableSet.copyOf(this.commands.get(alias));
+    public Set<CommandMapping> getAll(String alias) {
+        return ImmutableSet.copyOf(this.commands.get(alias.toLowerCase()));
     }
 
     @Override
     public Multimap<String, CommandMapping> getAll() {
-        return ImmutableMultimap.copyOf(this.commands);
+        return this.commands.asMultimap();
     }
 }
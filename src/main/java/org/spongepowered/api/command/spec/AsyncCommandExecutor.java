@@ -0,0 +1,176 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.spec;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandMessageFormatting;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.scheduler.SpongeExecutorService;
+import org.spongepowered.api.text.Text;
+
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link CommandExecutor} which executes another executor on a
+ * {@link SpongeExecutorService}, usually one created by
+ * {@link org.spongepowered.api.scheduler.Scheduler#createAsyncExecutor(Object)}.
+ *
+ * <p>The arguments are still parsed on the thread processing the command,
+ * only the execution is moved to the executor service. Cancelling the
+ * returned future interrupts the execution, and an execution which doesn't
+ * complete within the timeout, if any, is cancelled as well.</p>
+ *
+ * @see CommandSpec.Builder#asyncExecutor(Object, CommandExecutor)
+ */
+public final class AsyncCommandExecutor implements CommandExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncCommandExecutor.class);
+
+    private final CommandExecutor executor;
+    private final SpongeExecutorService executorService;
+    private final long timeout;
+    private final TimeUnit timeoutUnit;
+
+    /**
+     * Creates a new async executor.
+     *
+     * @param executor The executor to execute asynchronously
+     * @param executorService The executor service to execute it on
+     * @param timeout The time after which the execution is cancelled, or
+     *     {@code 0} to never time out
+     * @param timeoutUnit The unit of the timeout
+     */
+    public AsyncCommandExecutor(CommandExecutor executor, SpongeExecutorService executorService, long timeout, TimeUnit timeoutUnit) {
+        checkArgument(timeout >= 0, "The timeout may not be negative");
+        this.executor = checkNotNull(executor, "executor");
+        this.executorService = checkNotNull(executorService, "executorService");
+        this.timeout = timeout;
+        this.timeoutUnit = checkNotNull(timeoutUnit, "timeoutUnit");
+    }
+
+    /**
+     * Gets the executor which is executed asynchronously.
+     *
+     * @return The executor
+     */
+    public CommandExecutor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Schedules the execution of the command with the given arguments.
+     *
+     * <p>The returned future completes with the result of the command, or
+     * exceptionally with the {@link CommandException} thrown by it, or a
+     * {@link TimeoutException} if it timed out. The future completes on the
+     * thread of the executor service.</p>
+     *
+     * @param src The commander who is executing this command
+     * @param args The parsed command arguments for this command
+     * @return The future result of executing this command
+     */
+    public CompletableFuture<CommandResult> executeAsync(CommandSource src, CommandContext args) {
+        final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        final Future<?> task;
+        try {
+            task = this.executorService.submit(() -> {
+                try {
+                    result.complete(this.executor.execute(src, args));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        final Future<?> timeoutTask = this.timeout == 0 ? null : this.executorService.schedule(() -> {
+            result.completeExceptionally(new TimeoutException("The command timed out after " + this.timeout + " "
+                    + this.timeoutUnit.toString().toLowerCase(Locale.ENGLISH)));
+        }, this.timeout, this.timeoutUnit);
+        result.whenComplete((value, error) -> {
+            // Stop the execution if the future was cancelled or timed out
+            if (result.isCompletedExceptionally()) {
+                task.cancel(true);
+            }
+            if (timeoutTask != null) {
+                timeoutTask.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Schedules the execution of the command, and reports its failure to the
+     * source.
+     *
+     * <p>The message of a {@link CommandException} and a timeout are sent to
+     * the source. Any other exception thrown by the command is logged, and
+     * the source is told that an error occurred.</p>
+     *
+     * <p>As the command isn't executed yet, this returns
+     * {@link CommandResult#empty()}. Use
+     * {@link #executeAsync(CommandSource, CommandContext)} to retrieve the
+     * actual result.</p>
+     *
+     * @param src The commander who is executing this command
+     * @param args The parsed command arguments for this command
+     * @return An empty result
+     */
+    @Override
+    public CommandResult execute(CommandSource src, CommandContext args) {
+        executeAsync(src, args).whenComplete((result, error) -> {
+            if (error == null || error instanceof CancellationException) {
+                return;
+            }
+            if (error instanceof CommandException) {
+                final Text text = ((CommandException) error).getText();
+                if (text != null) {
+                    src.sendMessage(CommandMessageFormatting.error(text));
+                }
+            } else if (error instanceof TimeoutException) {
+                src.sendMessage(CommandMessageFormatting.error(Text.of(error.getMessage())));
+            } else {
+                logger.error("Error occurred while executing command for " + src.getName(), error);
+                src.sendMessage(CommandMessageFormatting.error(Text.of("An error occurred while executing this command: " + error)));
+            }
+        });
+        return CommandResult.empty();
+    }
+
+}
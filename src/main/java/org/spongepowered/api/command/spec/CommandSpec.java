@@ -24,13 +24,14 @@
  */
 package org.spongepowered.api.command.spec;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 import static org.spongepowered.api.command.args.GenericArguments.firstParsing;
 import static org.spongepowered.api.command.args.GenericArguments.optional;
 
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandException;
@@ -44,12 +45,17 @@
 import org.spongepowered.api.command.args.CommandContext;
 import org.spongepowered.api.command.args.CommandElement;
 import org.spongepowered.api.command.args.GenericArguments;
+import org.spongepowered.api.command.args.ParseProgram;
 import org.spongepowered.api.command.args.parsing.InputTokenizer;
+import org.spongepowered.api.scheduler.Scheduler;
+import org.spongepowered.api.scheduler.SpongeExecutorService;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -64,6 +70,7 @@ public final class CommandSpec implements CommandCallable {
     @Nullable private final Text extendedDescription;
     @Nullable private final String permission;
     private final InputTokenizer argumentParser;
+    private final ParseProgram program;
 
     CommandSpec(CommandElement args, CommandExecutor executor, @Nullable Text description, @Nullable Text extendedDescription,
             @Nullable String permission, InputTokenizer parser) {
@@ -73,6 +80,7 @@ public final class CommandSpec implements CommandCallable {
         this.description = Optional.ofNullable(description);
         this.extendedDescription = extendedDescription;
         this.argumentParser = parser;
+        this.program = ParseProgram.compile(args, parser);
     }
 
     /**
@@ -102,6 +110,10 @@ public static final class Builder {
         @Nullable
         private Map<List<String>, CommandCallable> childCommandMap;
         private InputTokenizer argumentParser = InputTokenizer.quotedStrings(false);
+        @Nullable
+        private SpongeExecutorService asyncExecutorService;
+        private long asyncTimeout;
+        private TimeUnit asyncTimeoutUnit = TimeUnit.MILLISECONDS;
 
         Builder() {}
 
@@ -125,6 +137,57 @@ public Builder permission(String permission) {
         public Builder executor(CommandExecutor executor) {
             checkNotNull(executor, "executor");
             this.executor = executor;
+            this.asyncExecutorService = null;
+            return this;
+        }
+
+        /**
+         * Set the callback that will handle this command's execution, which
+         * is executed asynchronously, on an executor created by
+         * {@link Scheduler#createAsyncExecutor(Object)}. The arguments are
+         * still parsed on the thread processing the command.
+         *
+         * @param plugin The plugin owning the execution tasks
+         * @param executor The executor that will be called with this command's parsed arguments
+         * @return this
+         * @see CommandSpec#processAsync(CommandSource, String)
+         */
+        public Builder asyncExecutor(Object plugin, CommandExecutor executor) {
+            checkNotNull(plugin, "plugin");
+            return asyncExecutor(executor, Sponge.getScheduler().createAsyncExecutor(plugin));
+        }
+
+        /**
+         * Set the callback that will handle this command's execution, which
+         * is executed on the given executor service. The arguments are still
+         * parsed on the thread processing the command.
+         *
+         * @param executor The executor that will be called with this command's parsed arguments
+         * @param executorService The executor service to execute the command on
+         * @return this
+         * @see CommandSpec#processAsync(CommandSource, String)
+         */
+        public Builder asyncExecutor(CommandExecutor executor, SpongeExecutorService executorService) {
+            checkNotNull(executor, "executor");
+            checkNotNull(executorService, "executorService");
+            this.executor = executor;
+            this.asyncExecutorService = executorService;
+            return this;
+        }
+
+        /**
+         * Set the time after which an asynchronous execution of this command
+         * is cancelled. By default, executions don't time out.
+         *
+         * @param timeout The timeout, or {@code 0} to never time out
+         * @param unit The unit of the timeout
+         * @return this
+         */
+        public Builder asyncTimeout(long timeout, TimeUnit unit) {
+            checkArgument(timeout >= 0, "The timeout may not be negative");
+            checkNotNull(unit, "unit");
+            this.asyncTimeout = timeout;
+            this.asyncTimeoutUnit = unit;
             return this;
         }
 
@@ -232,6 +295,11 @@ public Builder inputTokenizer(InputTokenizer parser) {
          * @return the new spec
          */
         public CommandSpec build() {
+            if (this.asyncExecutorService != null) {
+                checkNotNull(this.executor, "An executor is required");
+                this.executor = new AsyncCommandExecutor(this.executor, this.asyncExecutorService, this.asyncTimeout, this.asyncTimeoutUnit);
+                this.asyncExecutorService = null;
+            }
             if (this.childCommandMap == null) {
                 checkNotNull(this.executor, "An executor is required");
             } else {
@@ -281,11 +349,7 @@ public void checkPermission(CommandSource source) throws CommandException {
      * @throws ArgumentParseException if an invalid argument is provided
      */
     public void populateContext(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-        this.args.parse(source, args, context);
-        if (args.hasNext()) {
-            args.next();
-            throw args.createError(t("Too many arguments!"));
-        }
+        this.program.parse(source, args, context);
     }
 
     /**
@@ -325,12 +389,43 @@ public InputTokenizer getInputTokenizer() {
     @Override
     public CommandResult process(CommandSource source, String arguments) throws CommandException {
         checkPermission(source);
-        final CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, false));
-        final CommandContext context = new CommandContext();
+        final CommandArgs args = new CommandArgs(arguments, this.program.tokenize(arguments));
+        final CommandContext context = this.program.createContext();
         this.populateContext(source, args, context);
         return getExecutor().execute(source, context);
     }
 
+    /**
+     * Process this command, completing the returned future once it was
+     * executed. The arguments are parsed on the calling thread, while
+     * commands with an {@link AsyncCommandExecutor} are executed
+     * asynchronously.
+     *
+     * @param source The source of the command
+     * @param arguments The arguments of the command
+     * @return The future result of the command, which completes
+     *     exceptionally with the {@link CommandException} thrown while
+     *     executing it
+     * @throws CommandException If the source does not have permission or
+     *     the arguments could not be parsed
+     */
+    public CompletableFuture<CommandResult> processAsync(CommandSource source, String arguments) throws CommandException {
+        checkPermission(source);
+        final CommandArgs args = new CommandArgs(arguments, this.program.tokenize(arguments));
+        final CommandContext context = this.program.createContext();
+        this.populateContext(source, args, context);
+        if (this.executor instanceof AsyncCommandExecutor) {
+            return ((AsyncCommandExecutor) this.executor).executeAsync(source, context);
+        }
+        final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        try {
+            result.complete(this.executor.execute(source, context));
+        } catch (CommandException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
     @Override
     public List<String> getSuggestions(CommandSource source, String arguments) throws CommandException {
         CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, true));
@@ -0,0 +1,467 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.util.Coerce;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Base implementation of a {@link DataView} that implements all of the typed
+ * accessors on top of {@link #get(DataQuery)}, shared by the in memory
+ * {@link DataView} implementations.
+ */
+abstract class AbstractDataView implements DataView {
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (DataQuery query : getKeys(deep)) {
+            Object value = get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).getValues(deep));
+            } else {
+                builder.put(query, get(query).get());
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(DataQuery path, DataQuery... paths) {
+        checkNotNull(path, "DataQuery cannot be null!");
+        checkNotNull(paths, "DataQuery varargs cannot be null!");
+        if (paths.length == 0) {
+            return contains(path);
+        }
+        List<DataQuery> queries = new ArrayList<>();
+        queries.add(path);
+        for (DataQuery query : paths) {
+            queries.add(checkNotNull(query, "No null queries!"));
+        }
+        for (DataQuery query : queries) {
+            if (!contains(query)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key, "Key was null!").getQuery(), value);
+    }
+
+    @SuppressWarnings("rawtypes")
+    static ImmutableList<Object> ensureSerialization(Collection<?> collection) {
+        ImmutableList.Builder<Object> objectBuilder = ImmutableList.builder();
+        collection.forEach(element -> {
+            if (element instanceof Collection) {
+                objectBuilder.add(ensureSerialization((Collection) element));
+            } else if (element instanceof DataSerializable) {
+                objectBuilder.add(((DataSerializable) element).toContainer());
+            } else {
+                objectBuilder.add(element);
+            }
+        });
+        return objectBuilder.build();
+
+    }
+
+    @SuppressWarnings("rawtypes")
+    static ImmutableMap<?, ?> ensureSerialization(Map<?, ?> map) {
+        ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+        map.entrySet().forEach(entry -> {
+            if (entry.getValue() instanceof Map) {
+                builder.put(entry.getKey(), ensureSerialization((Map) entry.getValue()));
+            } else if (entry.getValue() instanceof DataSerializable) {
+                builder.put(entry.getKey(), ((DataSerializable) entry.getValue()).toContainer());
+            } else if (entry.getValue() instanceof Collection) {
+                builder.put(entry.getKey(), ensureSerialization((Collection) entry.getValue()));
+            } else {
+                builder.put(entry.getKey(), entry.getValue());
+            }
+        });
+        return builder.build();
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        checkNotNull(path, "path");
+        DataView section = createView(path);
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                section.createView(of('.', entry.getKey().toString()), (Map<?, ?>) entry.getValue());
+            } else {
+                section.set(of('.', entry.getKey().toString()), entry.getValue());
+            }
+        }
+        return section;
+    }
+
+    @Override
+    public Optional<DataView> getView(DataQuery path) {
+        return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+                for (Map.Entry<DataQuery, Object> entry : ((DataView) val.get()).getValues(false).entrySet()) {
+                    builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
+                }
+                return Optional.of(builder.build());
+            } else if (val.get() instanceof Map) {
+                return Optional.of((Map<?, ?>) ensureMappingOf(val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Object ensureMappingOf(Object object) {
+        if (object instanceof DataView) {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<DataQuery, Object> entry : ((DataView) object).getValues(false).entrySet()) {
+                builder.put(entry.getKey().asString('.'), ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                builder.put(entry.getKey().toString(), ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Collection) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (Object entry : (Collection) object) {
+                builder.add(ensureMappingOf(entry));
+            }
+            return builder.build();
+        } else {
+            return object;
+        }
+    }
+
+    Optional<DataView> getUnsafeView(DataQuery path) {
+        return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        return get(path).flatMap(Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<Byte> getByte(DataQuery path) {
+        return get(path).flatMap(Coerce::asByte);
+    }
+
+    @Override
+    public Optional<Short> getShort(DataQuery path) {
+        return get(path).flatMap(Coerce::asShort);
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        return get(path).flatMap(Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        return get(path).flatMap(Coerce::asLong);
+    }
+
+    @Override
+    public Optional<Float> getFloat(DataQuery path) {
+        return get(path).flatMap(Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        return get(path).flatMap(Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<String> getString(DataQuery path) {
+        return get(path).flatMap(Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<?>> getList(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
+            }
+            if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asString)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    private Optional<List<?>> getUnsafeList(DataQuery path) {
+        return get(path)
+                .filter(obj -> obj instanceof List<?> || obj instanceof Object[])
+                .map(obj -> {
+                    if (obj instanceof List<?>) {
+                        return (List<?>) obj;
+                    } else {
+                        return Arrays.asList((Object[]) obj);
+                    }
+                }
+        );
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asChar)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asBoolean)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asByte)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asShort)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asInteger)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asLong)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asFloat)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .map(Coerce::asDouble)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .filter(obj -> obj instanceof Map<?, ?>)
+                        .map(obj -> (Map<?, ?>) obj)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(DataQuery path) {
+        return getUnsafeList(path).map(list ->
+                list.stream()
+                        .filter(obj -> obj instanceof DataView)
+                        .map(obj -> (DataView) obj)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        if (clazz.isAssignableFrom(CatalogType.class)) {
+            final Optional<T> catalog = (Optional<T>) getCatalogType(path, ((Class<? extends CatalogType>) clazz));
+            if (catalog.isPresent()) {
+                return catalog;
+            }
+        }
+
+        return getUnsafeView(path).flatMap(view -> Sponge.getDataManager().getBuilder(clazz)
+                .flatMap(builder -> builder.build(view))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        return Stream.<Supplier<Optional<List<T>>>>of(
+                () -> {
+                    if (clazz.isAssignableFrom(CatalogType.class)) {
+                        return (Optional<List<T>>) (Optional<?>) getCatalogTypeList(path, (Class<? extends CatalogType>) clazz);
+                    }
+                    return Optional.empty();
+                },
+                () -> getViewList(path).flatMap(list ->
+                        Sponge.getDataManager().getBuilder(clazz).map(builder ->
+                                list.stream()
+                                        .map(builder::build)
+                                        .filter(Optional::isPresent)
+                                        .map(Optional::get)
+                                        .collect(Collectors.toList())
+                        )
+                    )
+                )
+                .map(Supplier::get)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst();
+
+    }
+
+    @Override
+    public <T extends CatalogType> Optional<T> getCatalogType(DataQuery path, Class<T> catalogType) {
+        checkNotNull(path, "path");
+        checkNotNull(catalogType, "dummy type");
+        return getString(path).flatMap(string -> Sponge.getRegistry().getType(catalogType, string));
+    }
+
+    @Override
+    public <T extends CatalogType> Optional<List<T>> getCatalogTypeList(DataQuery path, Class<T> catalogType) {
+        checkNotNull(path, "path");
+        checkNotNull(catalogType, "catalogType");
+        return getStringList(path).map(list ->
+                list.stream()
+                        .map(string -> Sponge.getRegistry().getType(catalogType, string))
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public <T> Optional<T> getObject(DataQuery path, Class<T> objectClass) {
+        return getView(path).flatMap(view ->
+                Sponge.getDataManager().getSerializer(objectClass)
+                        .flatMap(serializer -> serializer.deserialize(view))
+        );
+    }
+
+    @Override
+    public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass) {
+        return getViewList(path).flatMap(viewList ->
+                Sponge.getDataManager().getSerializer(objectClass).map(serializer ->
+                        viewList.stream()
+                                .map(serializer::deserialize)
+                                .filter(Optional::isPresent)
+                                .map(Optional::get)
+                                .collect(Collectors.toList())
+                )
+        );
+    }
+}
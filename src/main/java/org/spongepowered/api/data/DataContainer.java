@@ -33,6 +33,39 @@
  */
 public interface DataContainer extends DataView {
 
+    /**
+     * Creates a new, empty {@link DataContainer} using the default in memory
+     * implementation, a {@link MemoryDataContainer}.
+     *
+     * @return A new data container
+     */
+    static DataContainer createNew() {
+        return new MemoryDataContainer();
+    }
+
+    /**
+     * Creates a new, empty {@link DataContainer} backed by a flat table of
+     * entries, a {@link FlatDataContainer}. This is better suited to bulk
+     * numeric data than {@link #createNew()}.
+     *
+     * @return A new flat data container
+     */
+    static DataContainer createFlat() {
+        return new FlatDataContainer();
+    }
+
+    /**
+     * Creates a new, empty {@link DataContainer} that shares its contents
+     * with its copies, a {@link PersistentDataContainer}. Copying it takes
+     * constant time, which makes it better suited for frequent snapshots than
+     * {@link #createNew()}.
+     *
+     * @return A new persistent data container
+     */
+    static DataContainer createPersistent() {
+        return new PersistentDataContainer();
+    }
+
     @Override
     DataContainer set(DataQuery path, Object value);
 
@@ -30,9 +30,16 @@
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulatorBuilder;
 import org.spongepowered.api.data.persistence.DataBuilder;
 import org.spongepowered.api.data.persistence.DataContentUpdater;
+import org.spongepowered.api.data.persistence.DataContentUpdaterRegistry;
 import org.spongepowered.api.data.persistence.DataSerializer;
+import org.spongepowered.api.data.persistence.DeserializationResult;
+import org.spongepowered.api.data.persistence.InvalidDataException;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A manager of the overall Data API. This handles the registration of
@@ -79,6 +86,10 @@ public interface DataManager {
      * great or a {@link DataContentUpdater} has not been registered to cover
      * the complete jump, {@link Optional#empty()} may be returned.
      *
+     * <p>The wrapped updater is resolved once per class and pair of versions
+     * and cached until another updater is registered for the class, see
+     * {@link DataContentUpdaterRegistry}.</p>
+     *
      * @param clazz The data serializable class
      * @param fromVersion The version converting from
      * @param toVersion The version converting to
@@ -87,6 +98,17 @@ public interface DataManager {
      */
     <T extends DataSerializable> Optional<DataContentUpdater> getWrappedContentUpdater(Class<T> clazz, int fromVersion, int toVersion);
 
+    /**
+     * Gets the {@link DataContentUpdaterRegistry.Metrics} of the content
+     * updates performed for the desired {@link DataSerializable}, such as
+     * the number of updated views and the time spent updating them.
+     *
+     * @param clazz The data serializable class
+     * @param <T> The type of data serializable
+     * @return The content update metrics
+     */
+    <T extends DataSerializable> DataContentUpdaterRegistry.Metrics getContentUpdaterMetrics(Class<T> clazz);
+
     /**
      * Attempts to retrieve the {@link DataBuilder} for the desired
      * {@link DataSerializable} class.
@@ -114,6 +136,63 @@ public interface DataManager {
      */
     <T extends DataSerializable> Optional<T> deserialize(Class<T> clazz, DataView dataView);
 
+    /**
+     * Attempts to deserialize an instance of the {@link DataSerializable}
+     * from each of the provided {@link DataView}s. The {@link DataBuilder} is
+     * only looked up once for the whole batch, and views that can't be
+     * deserialized are reported as failures of the
+     * {@link DeserializationResult}. If there is no {@link DataBuilder}
+     * registered for the provided {@link DataSerializable}, every view fails.
+     *
+     * @param clazz The class of the data serializable
+     * @param dataViews The data views containing raw data
+     * @param <T> The type of data serializable
+     * @return The result of deserializing every view
+     */
+    default <T extends DataSerializable> DeserializationResult<T> deserializeAll(Class<T> clazz, Iterable<? extends DataView> dataViews) {
+        final Optional<DataBuilder<T>> builder = getBuilder(clazz);
+        if (!builder.isPresent()) {
+            return DeserializationResult.failed(dataViews, new InvalidDataException("No DataBuilder is registered for " + clazz.getName()));
+        }
+        return builder.get().buildAll(dataViews);
+    }
+
+    /**
+     * Attempts to deserialize an instance of the {@link DataSerializable}
+     * from each of the provided {@link DataView}s, like
+     * {@link #deserializeAll(Class, Iterable)}.
+     *
+     * @param clazz The class of the data serializable
+     * @param dataViews The data views containing raw data
+     * @param <T> The type of data serializable
+     * @return The result of deserializing every view
+     */
+    default <T extends DataSerializable> DeserializationResult<T> deserializeAll(Class<T> clazz, Stream<? extends DataView> dataViews) {
+        return deserializeAll(clazz, dataViews.collect(Collectors.toList()));
+    }
+
+    /**
+     * Attempts to deserialize an instance of the {@link DataSerializable}
+     * from each of the provided {@link DataView}s, like
+     * {@link #deserializeAll(Class, Iterable)}, fanning out across the given
+     * {@link Executor}. See {@link DataBuilder#buildAll(Iterable, Executor)}.
+     *
+     * @param clazz The class of the data serializable
+     * @param dataViews The data views containing raw data
+     * @param executor The executor to deserialize on
+     * @param <T> The type of data serializable
+     * @return A future of the result of deserializing every view
+     */
+    default <T extends DataSerializable> CompletableFuture<DeserializationResult<T>> deserializeAll(Class<T> clazz,
+            Iterable<? extends DataView> dataViews, Executor executor) {
+        final Optional<DataBuilder<T>> builder = getBuilder(clazz);
+        if (!builder.isPresent()) {
+            return CompletableFuture.completedFuture(
+                    DeserializationResult.failed(dataViews, new InvalidDataException("No DataBuilder is registered for " + clazz.getName())));
+        }
+        return builder.get().buildAll(dataViews, executor);
+    }
+
     /**
      * Registers the given {@link ImmutableDataHolder} class with it's
      * associated {@link ImmutableDataBuilder}. The builder can be used to
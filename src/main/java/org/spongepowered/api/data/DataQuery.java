@@ -24,58 +24,72 @@
  */
 package org.spongepowered.api.data;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>Queries are interned: every query is linked to the query of its parent
+ * path, and equal queries are always the same instance. Appending to,
+ * popping and comparing queries therefore never rebuilds their parts.</p>
  */
 public final class DataQuery {
 
     private static final DataQuery EMPTY = new DataQuery();
 
     /**
-     * The parts that make up this query.
+     * The query this query extends, or null for the empty query.
      */
-    private final ImmutableList<String> parts;
-
-    private ImmutableList<DataQuery> queryParts; //lazy loaded
+    @Nullable private final DataQuery parent;
 
     /**
-     * Constructs a query using the given separator character and path.
-     *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
-     * constructed using different separators.</p>
-     *
-     * @param separator The separator
-     * @param path The path
+     * The last part of this query, or null for the empty query.
      */
-    private DataQuery(char separator, String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
-    }
+    @Nullable private final String part;
+
+    private final int size;
+    private final int hash;
+
+    // Children are only weakly referenced, so that queries that are no
+    // longer used anywhere can be collected
+    @Nullable private volatile ConcurrentMap<String, DataQuery> children;
+
+    @Nullable private ImmutableList<String> parts; //lazy loaded
+    @Nullable private ImmutableList<DataQuery> queryParts; //lazy loaded
 
     /**
-     * Constructs a query using the given parts.
-     *
-     * @param parts The parts
+     * Constructs the empty query.
      */
-    private DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery() {
+        this.parent = null;
+        this.part = null;
+        this.size = 0;
+        this.hash = 1;
     }
 
     /**
-     * Constructs a query using the given parts.
+     * Constructs a query extending the given query by one part.
      *
-     * @param parts The parts
+     * @param parent The parent query
+     * @param part The part
      */
-    private DataQuery(List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery(DataQuery parent, String part) {
+        this.parent = parent;
+        this.part = part;
+        this.size = parent.size + 1;
+        // Consistent with the hash code of the list of parts
+        this.hash = 31 * parent.hash + part.hashCode();
     }
 
     /**
@@ -101,7 +115,7 @@ public static DataQuery of() {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(char separator, String path) {
-        return new DataQuery(separator, path);
+        return of(path.split(Pattern.quote(String.valueOf(separator))));
     }
 
     /**
@@ -111,10 +125,11 @@ public static DataQuery of(char separator, String path) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(String... parts) {
-        if (parts.length == 0) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (String part : parts) {
+            query = query.then(part);
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -124,10 +139,11 @@ public static DataQuery of(String... parts) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(List<String> parts) {
-        if (parts.isEmpty()) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (int i = 0, size = parts.size(); i < size; i++) {
+            query = query.then(parts.get(i));
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -136,24 +152,74 @@ public static DataQuery of(List<String> parts) {
      * @return The parts of this query
      */
     public List<String> getParts() {
-        return this.parts;
+        ImmutableList<String> parts = this.parts;
+        if (parts == null) {
+            final String[] array = new String[this.size];
+            DataQuery query = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                array[i] = query.part;
+                query = query.parent;
+            }
+            parts = ImmutableList.copyOf(array);
+            this.parts = parts;
+        }
+        return parts;
     }
 
     /**
-     * Returns a new query that is made up of this query's parts followed by the
+     * Gets the number of parts that make up this query.
+     *
+     * @return The number of parts
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a query that is made up of this query's parts followed by the
+     * given part.
+     *
+     * @param part The part to follow this query
+     * @return The constructed query
+     */
+    public DataQuery then(String part) {
+        checkNotNull(part, "part");
+        ConcurrentMap<String, DataQuery> children = this.children;
+        if (children == null) {
+            synchronized (this) {
+                children = this.children;
+                if (children == null) {
+                    children = new MapMaker().weakValues().concurrencyLevel(1).makeMap();
+                    this.children = children;
+                }
+            }
+        }
+        DataQuery child = children.get(part);
+        if (child == null) {
+            child = new DataQuery(this, part);
+            final DataQuery existing = children.putIfAbsent(part, child);
+            if (existing != null) {
+                child = existing;
+            }
+        }
+        return child;
+    }
+
+    /**
+     * Returns a query that is made up of this query's parts followed by the
      * given query's parts.
      *
      * @param that The given query to follow this one
      * @return The constructed query
      */
     public DataQuery then(DataQuery that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.addAll(that.parts);
-
-        return new DataQuery(builder.build());
+        if (that.size == 0) {
+            return this;
+        }
+        if (this.size == 0) {
+            return that;
+        }
+        return then(that.parent).then(that.part);
     }
 
     /**
@@ -163,14 +229,18 @@ public DataQuery then(DataQuery that) {
      * @return The constructed queries
      */
     public List<DataQuery> getQueryParts() {
-        if (this.queryParts == null) {
-            ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
-            for (String part : getParts()) {
-                builder.add(new DataQuery(part));
+        ImmutableList<DataQuery> queryParts = this.queryParts;
+        if (queryParts == null) {
+            final DataQuery[] array = new DataQuery[this.size];
+            DataQuery query = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                array[i] = query.last();
+                query = query.parent;
             }
-            this.queryParts = builder.build();
+            queryParts = ImmutableList.copyOf(array);
+            this.queryParts = queryParts;
         }
-        return this.queryParts;
+        return queryParts;
     }
 
     /**
@@ -181,14 +251,7 @@ public List<DataQuery> getQueryParts() {
      * @return The next level query
      */
     public DataQuery pop() {
-        if (this.parts.size() <= 1) {
-            return of();
-        }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
-        }
-        return new DataQuery(builder.build());
+        return this.parent == null ? EMPTY : this.parent;
     }
 
     /**
@@ -198,10 +261,10 @@ public DataQuery pop() {
      * @return The last entry as a data query, if not already last
      */
     public DataQuery last() {
-        if (this.parts.size() <= 1) {
+        if (this.size <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return EMPTY.then(this.part);
     }
 
     /**
@@ -211,7 +274,7 @@ public DataQuery last() {
      * @return This query as a string
      */
     public String asString(String separator) {
-        return Joiner.on(separator).join(this.parts);
+        return Joiner.on(separator).join(getParts());
     }
 
     /**
@@ -231,7 +294,7 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        return this.hash;
     }
 
     @Override
@@ -242,7 +305,20 @@ public boolean equals(Object obj) {
         if (obj == null || getClass() != obj.getClass()) {
             return false;
         }
-        final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        // Equal queries are interned to the same instance, but fall back to
+        // comparing the parts to stay correct regardless
+        DataQuery query = this;
+        DataQuery other = (DataQuery) obj;
+        if (query.hash != other.hash || query.size != other.size) {
+            return false;
+        }
+        while (query != other) {
+            if (!query.part.equals(other.part)) {
+                return false;
+            }
+            query = query.parent;
+            other = other.parent;
+        }
+        return true;
     }
 }
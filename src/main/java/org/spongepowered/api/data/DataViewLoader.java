@@ -0,0 +1,49 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import java.util.Map;
+
+/**
+ * Loads the contents of a {@link DataView} the first time they are accessed,
+ * see {@link MemoryDataContainer#MemoryDataContainer(DataViewLoader)}.
+ *
+ * <p>Loading is not synchronized, a lazily loaded view has to be accessed
+ * by one thread at a time like any other {@link MemoryDataView}.</p>
+ */
+@FunctionalInterface
+public interface DataViewLoader {
+
+    /**
+     * Loads the direct entries of the view, mapped by their names. Values
+     * are stored as if they were set on the view, except for values which
+     * are {@link DataViewLoader}s themselves, which become views that are
+     * loaded lazily in turn.
+     *
+     * @return The entries of the view
+     */
+    Map<String, ?> load();
+
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.Optional;
+
+/**
+ * A {@link DataContainer} that stores all of its entries in a single flat
+ * table instead of a map per {@link DataView}.
+ *
+ * <p>Primitive values are kept unboxed and sub views are only created when
+ * they are requested, which makes this container considerably cheaper than a
+ * {@link MemoryDataContainer} for large amounts of numeric data, such as the
+ * contents of chunks or entities. It otherwise behaves the same.</p>
+ */
+public final class FlatDataContainer extends FlatDataView implements DataContainer {
+
+    /**
+     * Creates a new, empty {@link FlatDataContainer}.
+     */
+    public FlatDataContainer() {
+        this(new FlatDataStore());
+    }
+
+    /**
+     * Creates a new, empty {@link FlatDataContainer} with room for the given
+     * number of entries, views included, before it has to grow.
+     *
+     * @param expectedEntries The expected number of entries
+     */
+    public FlatDataContainer(int expectedEntries) {
+        this(new FlatDataStore(expectedEntries + 1));
+    }
+
+    FlatDataContainer(FlatDataStore store) {
+        super(store, FlatDataStore.ROOT);
+        store.container = this;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public <E> DataContainer set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key).getQuery(), value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+}
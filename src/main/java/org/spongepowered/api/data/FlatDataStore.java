@@ -0,0 +1,517 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The flat node table backing a {@link FlatDataContainer}.
+ *
+ * <p>Every entry of the container, views included, is a node identified by
+ * an index into a set of parallel arrays. Primitive values are stored unboxed
+ * in a single {@code long} column (floating point values by their raw bits),
+ * all other values in an object column. Children are found through an open
+ * addressing table keyed by parent node and name, and are kept in insertion
+ * order through sibling links.</p>
+ */
+final class FlatDataStore {
+
+    static final byte VIEW = 0;
+    static final byte BOOLEAN = 1;
+    static final byte BYTE = 2;
+    static final byte SHORT = 3;
+    static final byte INTEGER = 4;
+    static final byte LONG = 5;
+    static final byte FLOAT = 6;
+    static final byte DOUBLE = 7;
+    static final byte CHARACTER = 8;
+    static final byte OBJECT = 9;
+
+    static final int NONE = -1;
+    static final int ROOT = 0;
+
+    private static final int EMPTY_SLOT = -1;
+    private static final int DELETED_SLOT = -2;
+
+    private byte[] types;
+    private long[] primitives;
+    private Object[] objects;
+    private String[] names;
+    private int[] parents;
+    private int[] firstChildren;
+    private int[] lastChildren;
+    private int[] nextSiblings;
+    private int[] previousSiblings;
+    private int[] generations;
+    private FlatDataView[] views;
+
+    private int[] table;
+    private int tableUsed;
+
+    private int size;
+    private int freeList = NONE;
+
+    @Nullable FlatDataContainer container;
+
+    FlatDataStore() {
+        this(16);
+    }
+
+    FlatDataStore(int capacity) {
+        capacity = Math.max(capacity, 4);
+        this.types = new byte[capacity];
+        this.primitives = new long[capacity];
+        this.objects = new Object[capacity];
+        this.names = new String[capacity];
+        this.parents = new int[capacity];
+        this.firstChildren = new int[capacity];
+        this.lastChildren = new int[capacity];
+        this.nextSiblings = new int[capacity];
+        this.previousSiblings = new int[capacity];
+        this.generations = new int[capacity];
+        this.views = new FlatDataView[capacity];
+        this.table = new int[tableSizeFor(capacity)];
+        Arrays.fill(this.table, EMPTY_SLOT);
+
+        final int root = allocate();
+        this.types[root] = VIEW;
+        this.names[root] = "";
+        this.parents[root] = NONE;
+    }
+
+    private FlatDataStore(FlatDataStore other) {
+        this.types = other.types.clone();
+        this.primitives = other.primitives.clone();
+        this.objects = other.objects.clone();
+        for (int i = 0; i < this.objects.length; i++) {
+            if (this.objects[i] != null) {
+                this.objects[i] = copyValue(this.objects[i]);
+            }
+        }
+        this.names = other.names.clone();
+        this.parents = other.parents.clone();
+        this.firstChildren = other.firstChildren.clone();
+        this.lastChildren = other.lastChildren.clone();
+        this.nextSiblings = other.nextSiblings.clone();
+        this.previousSiblings = other.previousSiblings.clone();
+        this.generations = other.generations.clone();
+        this.views = new FlatDataView[other.views.length];
+        this.table = other.table.clone();
+        this.tableUsed = other.tableUsed;
+        this.size = other.size;
+        this.freeList = other.freeList;
+    }
+
+    /**
+     * Creates a copy of this entire store. Stored values are never mutated in
+     * place, so they are shared between both stores, except for the views
+     * within lists, which are copied.
+     *
+     * @return The copy
+     */
+    FlatDataStore copy() {
+        return new FlatDataStore(this);
+    }
+
+    /**
+     * Creates a new store holding a copy of the subtree of the given view
+     * node, with that node as its root.
+     *
+     * @param node The view node
+     * @return The copy
+     */
+    FlatDataStore copySubtree(int node) {
+        final FlatDataStore copy = new FlatDataStore(this.size);
+        copyChildren(node, copy, ROOT);
+        return copy;
+    }
+
+    private void copyChildren(int node, FlatDataStore target, int targetNode) {
+        for (int child = this.firstChildren[node]; child != NONE; child = this.nextSiblings[child]) {
+            final int copied = target.put(targetNode, this.names[child], this.types[child]);
+            if (this.types[child] == VIEW) {
+                copyChildren(child, target, copied);
+            } else {
+                target.primitives[copied] = this.primitives[child];
+                target.objects[copied] = this.objects[child] == null ? null : copyValue(this.objects[child]);
+            }
+        }
+    }
+
+    /**
+     * Copies the views within the given value, which are the only mutable
+     * values stored.
+     *
+     * @param value The value
+     * @return The copied value
+     */
+    private static Object copyValue(Object value) {
+        if (value instanceof DataView) {
+            return ((DataView) value).copy();
+        } else if (value instanceof List) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (Object element : (List<?>) value) {
+                builder.add(copyValue(element));
+            }
+            return builder.build();
+        } else if (value instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                builder.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return builder.build();
+        }
+        return value;
+    }
+
+    int generation(int node) {
+        return this.generations[node];
+    }
+
+    byte type(int node) {
+        return this.types[node];
+    }
+
+    String name(int node) {
+        return this.names[node];
+    }
+
+    int parent(int node) {
+        return this.parents[node];
+    }
+
+    int firstChild(int node) {
+        return this.firstChildren[node];
+    }
+
+    int nextSibling(int node) {
+        return this.nextSiblings[node];
+    }
+
+    long primitive(int node) {
+        return this.primitives[node];
+    }
+
+    @Nullable
+    Object object(int node) {
+        return this.objects[node];
+    }
+
+    boolean isNumber(int node) {
+        final byte type = this.types[node];
+        return type >= BYTE && type <= DOUBLE;
+    }
+
+    long longValue(int node) {
+        final byte type = this.types[node];
+        if (type == FLOAT || type == DOUBLE) {
+            return (long) Double.longBitsToDouble(this.primitives[node]);
+        }
+        return this.primitives[node];
+    }
+
+    double doubleValue(int node) {
+        final byte type = this.types[node];
+        if (type == FLOAT || type == DOUBLE) {
+            return Double.longBitsToDouble(this.primitives[node]);
+        }
+        return this.primitives[node];
+    }
+
+    /**
+     * Gets the boxed value of the given node, which must not be a view.
+     *
+     * @param node The node
+     * @return The boxed value
+     */
+    Object boxedValue(int node) {
+        final long value = this.primitives[node];
+        switch (this.types[node]) {
+            case BOOLEAN:
+                return value != 0;
+            case BYTE:
+                return (byte) value;
+            case SHORT:
+                return (short) value;
+            case INTEGER:
+                return (int) value;
+            case LONG:
+                return value;
+            case FLOAT:
+                return (float) Double.longBitsToDouble(value);
+            case DOUBLE:
+                return Double.longBitsToDouble(value);
+            case CHARACTER:
+                return (char) value;
+            default:
+                return this.objects[node];
+        }
+    }
+
+    void setPrimitive(int node, byte type, long value) {
+        this.types[node] = type;
+        this.primitives[node] = value;
+        this.objects[node] = null;
+    }
+
+    void setObject(int node, Object value) {
+        this.types[node] = OBJECT;
+        this.primitives[node] = 0;
+        this.objects[node] = value;
+    }
+
+    /**
+     * Gets the facade of the given view node, creating it if necessary.
+     *
+     * @param node The view node
+     * @return The facade
+     */
+    FlatDataView view(int node) {
+        if (node == ROOT && this.container != null) {
+            return this.container;
+        }
+        FlatDataView view = this.views[node];
+        if (view == null) {
+            view = new FlatDataView(this, node);
+            this.views[node] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Finds the child of the given node with the given name.
+     *
+     * @param parent The parent node
+     * @param name The name of the child
+     * @return The child node, or {@link #NONE} if it doesn't exist
+     */
+    int child(int parent, String name) {
+        final int mask = this.table.length - 1;
+        int index = hash(parent, name) & mask;
+        while (true) {
+            final int node = this.table[index];
+            if (node == EMPTY_SLOT) {
+                return NONE;
+            }
+            if (node >= 0 && this.parents[node] == parent && this.names[node].equals(name)) {
+                return node;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Gets or creates the child of the given node with the given name, in a
+     * state of the given type. An existing child keeps its position among its
+     * siblings, but loses all of its own children and its value.
+     *
+     * @param parent The parent node
+     * @param name The name of the child
+     * @param type The type of the child
+     * @return The child node
+     */
+    int put(int parent, String name, byte type) {
+        int node = child(parent, name);
+        if (node == NONE) {
+            node = allocate();
+            this.names[node] = name;
+            this.parents[node] = parent;
+            final int last = this.lastChildren[parent];
+            this.previousSiblings[node] = last;
+            if (last == NONE) {
+                this.firstChildren[parent] = node;
+            } else {
+                this.nextSiblings[last] = node;
+            }
+            this.lastChildren[parent] = node;
+            insert(node);
+        } else {
+            clearChildren(node);
+        }
+        this.types[node] = type;
+        this.primitives[node] = 0;
+        this.objects[node] = null;
+        return node;
+    }
+
+    /**
+     * Gets the child view of the given node with the given name, creating it
+     * or replacing a non view value with it if necessary.
+     *
+     * @param parent The parent node
+     * @param name The name of the child
+     * @return The child view node
+     */
+    int putView(int parent, String name) {
+        final int node = child(parent, name);
+        if (node != NONE && this.types[node] == VIEW) {
+            return node;
+        }
+        return put(parent, name, VIEW);
+    }
+
+    /**
+     * Removes the given node along with all of its children.
+     *
+     * @param node The node to remove
+     */
+    void remove(int node) {
+        final int parent = this.parents[node];
+        final int previous = this.previousSiblings[node];
+        final int next = this.nextSiblings[node];
+        if (previous == NONE) {
+            this.firstChildren[parent] = next;
+        } else {
+            this.nextSiblings[previous] = next;
+        }
+        if (next == NONE) {
+            this.lastChildren[parent] = previous;
+        } else {
+            this.previousSiblings[next] = previous;
+        }
+        free(node);
+    }
+
+    private void clearChildren(int node) {
+        int child = this.firstChildren[node];
+        while (child != NONE) {
+            final int next = this.nextSiblings[child];
+            free(child);
+            child = next;
+        }
+        this.firstChildren[node] = NONE;
+        this.lastChildren[node] = NONE;
+        if (this.types[node] == VIEW) {
+            // Facades of the replaced view must not be reused for the new value
+            this.views[node] = null;
+            this.generations[node]++;
+        }
+    }
+
+    private void free(int node) {
+        clearChildren(node);
+        delete(node);
+        this.generations[node]++;
+        this.views[node] = null;
+        this.objects[node] = null;
+        this.names[node] = null;
+        this.parents[node] = NONE;
+        this.nextSiblings[node] = this.freeList;
+        this.freeList = node;
+    }
+
+    private int allocate() {
+        int node = this.freeList;
+        if (node != NONE) {
+            this.freeList = this.nextSiblings[node];
+        } else {
+            if (this.size == this.types.length) {
+                grow();
+            }
+            node = this.size++;
+        }
+        this.firstChildren[node] = NONE;
+        this.lastChildren[node] = NONE;
+        this.nextSiblings[node] = NONE;
+        this.previousSiblings[node] = NONE;
+        return node;
+    }
+
+    private void grow() {
+        final int capacity = this.types.length * 2;
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.primitives = Arrays.copyOf(this.primitives, capacity);
+        this.objects = Arrays.copyOf(this.objects, capacity);
+        this.names = Arrays.copyOf(this.names, capacity);
+        this.parents = Arrays.copyOf(this.parents, capacity);
+        this.firstChildren = Arrays.copyOf(this.firstChildren, capacity);
+        this.lastChildren = Arrays.copyOf(this.lastChildren, capacity);
+        this.nextSiblings = Arrays.copyOf(this.nextSiblings, capacity);
+        this.previousSiblings = Arrays.copyOf(this.previousSiblings, capacity);
+        this.generations = Arrays.copyOf(this.generations, capacity);
+        this.views = Arrays.copyOf(this.views, capacity);
+    }
+
+    private void insert(int node) {
+        if ((this.tableUsed + 1) * 4 > this.table.length * 3) {
+            rehash(this.types.length);
+        }
+        final int mask = this.table.length - 1;
+        int index = hash(this.parents[node], this.names[node]) & mask;
+        while (this.table[index] >= 0) {
+            index = (index + 1) & mask;
+        }
+        if (this.table[index] == EMPTY_SLOT) {
+            this.tableUsed++;
+        }
+        this.table[index] = node;
+    }
+
+    private void delete(int node) {
+        if (this.parents[node] == NONE) {
+            return;
+        }
+        final int mask = this.table.length - 1;
+        int index = hash(this.parents[node], this.names[node]) & mask;
+        while (this.table[index] != node) {
+            index = (index + 1) & mask;
+        }
+        this.table[index] = DELETED_SLOT;
+    }
+
+    private void rehash(int capacity) {
+        this.table = new int[tableSizeFor(capacity)];
+        Arrays.fill(this.table, EMPTY_SLOT);
+        this.tableUsed = 0;
+        final int mask = this.table.length - 1;
+        for (int node = 0; node < this.size; node++) {
+            if (this.names[node] != null && this.parents[node] != NONE) {
+                int index = hash(this.parents[node], this.names[node]) & mask;
+                while (this.table[index] != EMPTY_SLOT) {
+                    index = (index + 1) & mask;
+                }
+                this.table[index] = node;
+                this.tableUsed++;
+            }
+        }
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(Math.max(capacity, 4) * 2 - 1) * 2;
+    }
+
+    private static int hash(int parent, String name) {
+        final int hash = parent * 31 + name.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,446 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import org.apache.commons.lang3.ArrayUtils;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.persistence.DataSerializer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} of a {@link FlatDataContainer}. Views are lightweight
+ * facades over a node of the container's {@link FlatDataStore}, and are only
+ * created when they are requested.
+ */
+class FlatDataView extends AbstractDataView {
+
+    final FlatDataStore store;
+    final int node;
+    private final int generation;
+
+    FlatDataView(FlatDataStore store, int node) {
+        this.store = store;
+        this.node = node;
+        this.generation = store.generation(node);
+    }
+
+    private void checkValid() {
+        checkState(this.store.generation(this.node) == this.generation, "This view has been removed from its container");
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return checkNotNull(this.store.container, "container");
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        checkValid();
+        if (this.node == FlatDataStore.ROOT) {
+            return of();
+        }
+        final List<String> parts = Lists.newArrayList();
+        for (int node = this.node; node != FlatDataStore.ROOT; node = this.store.parent(node)) {
+            parts.add(this.store.name(node));
+        }
+        return of(Lists.reverse(parts));
+    }
+
+    @Override
+    public String getName() {
+        checkValid();
+        return this.store.name(this.node);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        checkValid();
+        if (this.node == FlatDataStore.ROOT) {
+            return Optional.empty();
+        }
+        return Optional.of(this.store.view(this.store.parent(this.node)));
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        checkValid();
+        final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (int child = this.store.firstChild(this.node); child != FlatDataStore.NONE; child = this.store.nextSibling(child)) {
+            builder.add(of(this.store.name(child)));
+        }
+        if (deep) {
+            for (int child = this.store.firstChild(this.node); child != FlatDataStore.NONE; child = this.store.nextSibling(child)) {
+                if (this.store.type(child) == FlatDataStore.VIEW) {
+                    final DataQuery childQuery = of(this.store.name(child));
+                    for (DataQuery query : this.store.view(child).getKeys(true)) {
+                        builder.add(childQuery.then(query));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Resolves the node at the given path relative to this view.
+     *
+     * @param path The path
+     * @return The node, or {@link FlatDataStore#NONE} if it doesn't exist
+     */
+    private int resolve(DataQuery path) {
+        checkNotNull(path, "path");
+        checkValid();
+        final List<String> parts = path.getParts();
+        int node = this.node;
+        for (int i = 0, size = parts.size(); i < size; i++) {
+            if (this.store.type(node) != FlatDataStore.VIEW) {
+                return FlatDataStore.NONE;
+            }
+            node = this.store.child(node, parts.get(i));
+            if (node == FlatDataStore.NONE) {
+                return FlatDataStore.NONE;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Resolves the view node at the given path relative to this view, creating
+     * any missing views and replacing any values in the way.
+     *
+     * @param parts The parts of the path
+     * @param length The number of parts of the path to resolve
+     * @return The view node
+     */
+    private int resolveViews(List<String> parts, int length) {
+        int node = this.node;
+        for (int i = 0; i < length; i++) {
+            node = this.store.putView(node, parts.get(i));
+        }
+        return node;
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        return resolve(path) != FlatDataStore.NONE;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        final int node = resolve(path);
+        if (node == FlatDataStore.NONE) {
+            return Optional.empty();
+        }
+        if (this.store.type(node) == FlatDataStore.VIEW) {
+            return Optional.of(this.store.view(node));
+        }
+        final Object object = this.store.boxedValue(node);
+        if (object.getClass().isArray()) {
+            if (object instanceof byte[]) {
+                return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
+            } else if (object instanceof short[]) {
+                return Optional.<Object>of(ArrayUtils.clone((short[]) object));
+            } else if (object instanceof int[]) {
+                return Optional.<Object>of(ArrayUtils.clone((int[]) object));
+            } else if (object instanceof long[]) {
+                return Optional.<Object>of(ArrayUtils.clone((long[]) object));
+            } else if (object instanceof float[]) {
+                return Optional.<Object>of(ArrayUtils.clone((float[]) object));
+            } else if (object instanceof double[]) {
+                return Optional.<Object>of(ArrayUtils.clone((double[]) object));
+            } else if (object instanceof boolean[]) {
+                return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
+            } else {
+                return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
+            }
+        }
+        return Optional.of(object);
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        checkValid();
+
+        @Nullable DataManager manager;
+
+        try {
+            manager = Sponge.getDataManager();
+        } catch (Exception e) {
+            manager = null;
+        }
+
+        if (value instanceof DataView) {
+            checkArgument(value != this, "Cannot set a DataView to itself.");
+            copyDataView(path, (DataView) value);
+        } else if (value instanceof DataSerializable) {
+            DataContainer valueContainer = ((DataSerializable) value).toContainer();
+            checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
+            copyDataView(path, valueContainer);
+        } else if (value instanceof CatalogType) {
+            return set(path, ((CatalogType) value).getId());
+        } else if (manager != null && manager.getSerializer(value.getClass()).isPresent()) {
+            DataSerializer serializer = manager.getSerializer(value.getClass()).get();
+            final DataContainer container = serializer.serialize(value);
+            checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
+            copyDataView(path, container);
+        } else if (value instanceof Map) {
+            final DataView view = createView(path);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                view.set(of(entry.getKey().toString()), entry.getValue());
+            }
+        } else {
+            final List<String> parts = path.getParts();
+            checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+            final int parent = resolveViews(parts, parts.size() - 1);
+            final String name = parts.get(parts.size() - 1);
+            if (value instanceof Boolean) {
+                setPrimitive(parent, name, FlatDataStore.BOOLEAN, (Boolean) value ? 1 : 0);
+            } else if (value instanceof Byte) {
+                setPrimitive(parent, name, FlatDataStore.BYTE, (Byte) value);
+            } else if (value instanceof Short) {
+                setPrimitive(parent, name, FlatDataStore.SHORT, (Short) value);
+            } else if (value instanceof Integer) {
+                setPrimitive(parent, name, FlatDataStore.INTEGER, (Integer) value);
+            } else if (value instanceof Long) {
+                setPrimitive(parent, name, FlatDataStore.LONG, (Long) value);
+            } else if (value instanceof Float) {
+                setPrimitive(parent, name, FlatDataStore.FLOAT, Double.doubleToRawLongBits((Float) value));
+            } else if (value instanceof Double) {
+                setPrimitive(parent, name, FlatDataStore.DOUBLE, Double.doubleToRawLongBits((Double) value));
+            } else if (value instanceof Character) {
+                setPrimitive(parent, name, FlatDataStore.CHARACTER, (Character) value);
+            } else if (value instanceof Collection) {
+                setObject(parent, name, ensureCollection((Collection) value, manager));
+            } else if (value instanceof byte[]) {
+                setObject(parent, name, ArrayUtils.clone((byte[]) value));
+            } else if (value instanceof short[]) {
+                setObject(parent, name, ArrayUtils.clone((short[]) value));
+            } else if (value instanceof int[]) {
+                setObject(parent, name, ArrayUtils.clone((int[]) value));
+            } else if (value instanceof long[]) {
+                setObject(parent, name, ArrayUtils.clone((long[]) value));
+            } else if (value instanceof float[]) {
+                setObject(parent, name, ArrayUtils.clone((float[]) value));
+            } else if (value instanceof double[]) {
+                setObject(parent, name, ArrayUtils.clone((double[]) value));
+            } else if (value instanceof boolean[]) {
+                setObject(parent, name, ArrayUtils.clone((boolean[]) value));
+            } else if (value instanceof Object[]) {
+                setObject(parent, name, ArrayUtils.clone((Object[]) value));
+            } else {
+                setObject(parent, name, value);
+            }
+        }
+        return this;
+    }
+
+    private void setPrimitive(int parent, String name, byte type, long value) {
+        this.store.setPrimitive(this.store.put(parent, name, type), type, value);
+    }
+
+    private void setObject(int parent, String name, Object value) {
+        this.store.setObject(this.store.put(parent, name, FlatDataStore.OBJECT), value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ImmutableList<Object> ensureCollection(Collection<?> value, @Nullable DataManager manager) {
+        final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        for (Object object : value) {
+            if (object instanceof DataSerializable) {
+                builder.add(((DataSerializable) object).toContainer());
+            } else if (object instanceof DataView) {
+                final DataContainer container = new FlatDataContainer();
+                container.set(of(), object);
+                builder.add(container);
+            } else if (object instanceof Map) {
+                builder.add(ensureSerialization((Map) object));
+            } else if (object instanceof Collection) {
+                builder.add(ensureSerialization((Collection) object));
+            } else {
+                final Optional<? extends DataSerializer<?>> serializer = manager == null
+                        ? Optional.empty() : manager.getSerializer(object.getClass());
+                if (serializer.isPresent()) {
+                    builder.add(((DataSerializer) serializer.get()).serialize(object));
+                } else {
+                    builder.add(object);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private void copyDataView(DataQuery path, DataView value) {
+        if (value instanceof FlatDataView && ((FlatDataView) value).store == this.store) {
+            // Copy views of this container first, the source may be replaced
+            // while the target is being created
+            value = value.copy();
+        }
+        final List<String> parts = path.getParts();
+        final FlatDataView target = this.store.view(resolveViews(parts, parts.size()));
+        for (DataQuery key : value.getKeys(false)) {
+            value.get(key).ifPresent(object -> target.set(key, object));
+        }
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        final int node = resolve(path);
+        if (node != FlatDataStore.NONE && node != this.node) {
+            this.store.remove(node);
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        checkValid();
+        final List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+        final int parent = resolveViews(parts, parts.size() - 1);
+        return this.store.view(this.store.put(parent, parts.get(parts.size() - 1), FlatDataStore.VIEW));
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        final int node = resolve(path);
+        if (node != FlatDataStore.NONE && this.store.type(node) == FlatDataStore.BOOLEAN) {
+            return Optional.of(this.store.primitive(node) != 0);
+        }
+        return super.getBoolean(path);
+    }
+
+    @Override
+    public Optional<Short> getShort(DataQuery path) {
+        final int node = resolve(path);
+        if (node != FlatDataStore.NONE && this.store.isNumber(node)) {
+            return Optional.of((short) this.store.longValue(node));
+        }
+        return super.getShort(path);
+    }
+
+    @Override
+    public Optional<Byte> getByte(DataQuery path) {
+        final int node = resolve(path);
+        if (node != FlatDataStore.NONE && this.store.isNumber(node)) {
+            return Optional.of((byte) this.store.longValue(node));
+        }
+        return super.getByte(path);
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        final int node = resolve(path);
+        if (node != FlatDataStore.NONE && this.store.isNumber(node)) {
+            return Optional.of((int) this.store.longValue(node));
+        }
+        return super.getInt(path);
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        final int node = resolve(path);
+        if (node != FlatDataStore.NONE && this.store.isNumber(node)) {
+            return Optional.of(this.store.longValue(node));
+        }
+        return super.getLong(path);
+    }
+
+    @Override
+    public Optional<Float> getFloat(DataQuery path) {
+        final int node = resolve(path);
+        if (node != FlatDataStore.NONE && this.store.isNumber(node)) {
+            return Optional.of((float) this.store.doubleValue(node));
+        }
+        return super.getFloat(path);
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        final int node = resolve(path);
+        if (node != FlatDataStore.NONE && this.store.isNumber(node)) {
+            return Optional.of(this.store.doubleValue(node));
+        }
+        return super.getDouble(path);
+    }
+
+    @Override
+    public DataContainer copy() {
+        checkValid();
+        if (this.node == FlatDataStore.ROOT) {
+            return new FlatDataContainer(this.store.copy());
+        }
+        return new FlatDataContainer(this.store.copySubtree(this.node));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getValues(false), getCurrentPath());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final FlatDataView other = (FlatDataView) obj;
+        return Objects.equal(getCurrentPath(), other.getCurrentPath())
+               && Objects.equal(getValues(false), other.getValues(false));
+    }
+
+    @Override
+    public String toString() {
+        final Objects.ToStringHelper helper = Objects.toStringHelper(this);
+        final DataQuery path = getCurrentPath();
+        if (!path.toString().isEmpty()) {
+            helper.add("path", path);
+        }
+        return helper.add("values", getValues(false)).toString();
+    }
+
+}
@@ -38,6 +38,22 @@
  */
 public class MemoryDataContainer extends MemoryDataView implements DataContainer {
 
+    /**
+     * Creates a new, empty {@link MemoryDataContainer}.
+     */
+    public MemoryDataContainer() {
+    }
+
+    /**
+     * Creates a new {@link MemoryDataContainer} whose contents are loaded by
+     * the given {@link DataViewLoader} the first time they are accessed.
+     *
+     * @param loader The loader of the contents of the container
+     */
+    public MemoryDataContainer(DataViewLoader loader) {
+        super(loader);
+    }
+
     @Override
     public Optional<DataView> getParent() {
         return Optional.empty();
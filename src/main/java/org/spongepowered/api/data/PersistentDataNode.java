@@ -0,0 +1,168 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable node of a {@link PersistentDataContainer}. Modifications
+ * return a new node which shares every untouched child with this one, so only
+ * the nodes along the modified path are ever copied.
+ *
+ * <p>Each copied node copies its map of entries, so a modification takes time
+ * proportional to the number of entries of every node along the path. This is
+ * cheap for the small, deep trees data is usually stored in, but nodes with
+ * thousands of entries make every modification below them expensive.</p>
+ */
+final class PersistentDataNode {
+
+    static final PersistentDataNode EMPTY = new PersistentDataNode(Collections.emptyMap());
+
+    private final Map<String, Object> entries;
+
+    private PersistentDataNode(Map<String, Object> entries) {
+        this.entries = entries;
+    }
+
+    Map<String, Object> entries() {
+        return Collections.unmodifiableMap(this.entries);
+    }
+
+    @Nullable
+    Object get(String key) {
+        return this.entries.get(key);
+    }
+
+    /**
+     * Resolves the node at the given number of leading parts of the path.
+     *
+     * @param parts The parts of the path
+     * @param length The number of parts to resolve
+     * @return The node, or null if there is no node at the path
+     */
+    @Nullable
+    PersistentDataNode node(List<String> parts, int length) {
+        PersistentDataNode node = this;
+        for (int i = 0; i < length; i++) {
+            final Object child = node.entries.get(parts.get(i));
+            if (!(child instanceof PersistentDataNode)) {
+                return null;
+            }
+            node = (PersistentDataNode) child;
+        }
+        return node;
+    }
+
+    /**
+     * Gets a node with the value at the given path replaced, creating any
+     * missing nodes and replacing any values in the way.
+     *
+     * @param parts The parts of the path
+     * @param index The index of the part to apply to this node
+     * @param value The new value
+     * @return The new node
+     */
+    PersistentDataNode with(List<String> parts, int index, Object value) {
+        final String key = parts.get(index);
+        if (index == parts.size() - 1) {
+            return with(key, value);
+        }
+        final Object child = this.entries.get(key);
+        final PersistentDataNode node = child instanceof PersistentDataNode ? (PersistentDataNode) child : EMPTY;
+        return with(key, node.with(parts, index + 1, value));
+    }
+
+    /**
+     * Gets a node with the given node deeply merged into the node at the
+     * given path, the values of the given node taking precedence.
+     *
+     * @param parts The parts of the path
+     * @param index The index of the part to apply to this node
+     * @param other The node to merge
+     * @return The new node
+     */
+    PersistentDataNode merge(List<String> parts, int index, PersistentDataNode other) {
+        if (index == parts.size()) {
+            return merge(other);
+        }
+        final String key = parts.get(index);
+        final Object child = this.entries.get(key);
+        final PersistentDataNode node = child instanceof PersistentDataNode ? (PersistentDataNode) child : EMPTY;
+        return with(key, node.merge(parts, index + 1, other));
+    }
+
+    private PersistentDataNode merge(PersistentDataNode other) {
+        if (this.entries.isEmpty()) {
+            return other;
+        }
+        final Map<String, Object> entries = new LinkedHashMap<>(this.entries);
+        for (Map.Entry<String, Object> entry : other.entries.entrySet()) {
+            final Object current = entries.get(entry.getKey());
+            if (current instanceof PersistentDataNode && entry.getValue() instanceof PersistentDataNode) {
+                entries.put(entry.getKey(), ((PersistentDataNode) current).merge((PersistentDataNode) entry.getValue()));
+            } else {
+                entries.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new PersistentDataNode(entries);
+    }
+
+    private PersistentDataNode with(String key, Object value) {
+        final Map<String, Object> entries = new LinkedHashMap<>(this.entries);
+        entries.put(key, value);
+        return new PersistentDataNode(entries);
+    }
+
+    /**
+     * Gets a node with the value at the given path removed.
+     *
+     * @param parts The parts of the path
+     * @param index The index of the part to apply to this node
+     * @return The new node, or this node if nothing was removed
+     */
+    PersistentDataNode without(List<String> parts, int index) {
+        final String key = parts.get(index);
+        if (!this.entries.containsKey(key)) {
+            return this;
+        }
+        if (index == parts.size() - 1) {
+            final Map<String, Object> entries = new LinkedHashMap<>(this.entries);
+            entries.remove(key);
+            return new PersistentDataNode(entries);
+        }
+        final Object child = this.entries.get(key);
+        if (!(child instanceof PersistentDataNode)) {
+            return this;
+        }
+        final PersistentDataNode node = ((PersistentDataNode) child).without(parts, index + 1);
+        return node == child ? this : with(key, node);
+    }
+
+}
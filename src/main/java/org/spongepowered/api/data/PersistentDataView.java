@@ -0,0 +1,388 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.ArrayUtils;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.persistence.DataSerializer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} of a {@link PersistentDataContainer}. Views only hold
+ * their path and resolve their {@link PersistentDataNode} from the current
+ * root of the container on every access.
+ *
+ * <p>The views within collections are stored as immutable snapshots, and a
+ * fresh copy of them is returned on every access, so they can be shared
+ * between copies like all other values.</p>
+ */
+class PersistentDataView extends AbstractDataView {
+
+    final PersistentDataContainer container;
+    private final DataQuery path;
+
+    PersistentDataView(@Nullable PersistentDataContainer container, DataQuery path) {
+        this.container = container == null ? (PersistentDataContainer) this : container;
+        this.path = path;
+    }
+
+    /**
+     * Gets the current node of this view.
+     *
+     * @return The node
+     * @throws IllegalStateException If this view was removed from its container
+     */
+    PersistentDataNode node() {
+        final List<String> parts = this.path.getParts();
+        final PersistentDataNode node = this.container.root.node(parts, parts.size());
+        checkState(node != null, "This view has been removed from its container");
+        return node;
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        final List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        if (this.path.size() == 0) {
+            return Optional.empty();
+        }
+        final DataQuery parent = this.path.pop();
+        return Optional.of(parent.size() == 0 ? this.container : new PersistentDataView(this.container, parent));
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        collectKeys(node(), of(), deep, builder);
+        return builder.build();
+    }
+
+    private static void collectKeys(PersistentDataNode node, DataQuery prefix, boolean deep, ImmutableSet.Builder<DataQuery> builder) {
+        for (Map.Entry<String, Object> entry : node.entries().entrySet()) {
+            builder.add(prefix.then(entry.getKey()));
+        }
+        if (deep) {
+            for (Map.Entry<String, Object> entry : node.entries().entrySet()) {
+                if (entry.getValue() instanceof PersistentDataNode) {
+                    collectKeys((PersistentDataNode) entry.getValue(), prefix.then(entry.getKey()), true, builder);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        final List<String> parts = path.getParts();
+        if (parts.isEmpty()) {
+            return true;
+        }
+        final PersistentDataNode parent = node().node(parts, parts.size() - 1);
+        return parent != null && parent.get(parts.get(parts.size() - 1)) != null;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        checkNotNull(path, "path");
+        final List<String> parts = path.getParts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        final PersistentDataNode parent = node().node(parts, parts.size() - 1);
+        final Object object = parent == null ? null : parent.get(parts.get(parts.size() - 1));
+        if (object == null) {
+            return Optional.empty();
+        }
+        if (object instanceof PersistentDataNode) {
+            return Optional.of(new PersistentDataView(this.container, this.path.then(path)));
+        }
+        if (object instanceof List) {
+            return Optional.of(thaw(object));
+        }
+        if (object.getClass().isArray()) {
+            if (object instanceof byte[]) {
+                return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
+            } else if (object instanceof short[]) {
+                return Optional.<Object>of(ArrayUtils.clone((short[]) object));
+            } else if (object instanceof int[]) {
+                return Optional.<Object>of(ArrayUtils.clone((int[]) object));
+            } else if (object instanceof long[]) {
+                return Optional.<Object>of(ArrayUtils.clone((long[]) object));
+            } else if (object instanceof float[]) {
+                return Optional.<Object>of(ArrayUtils.clone((float[]) object));
+            } else if (object instanceof double[]) {
+                return Optional.<Object>of(ArrayUtils.clone((double[]) object));
+            } else if (object instanceof boolean[]) {
+                return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
+            } else {
+                return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
+            }
+        }
+        return Optional.of(object);
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        node();
+
+        @Nullable DataManager manager;
+
+        try {
+            manager = Sponge.getDataManager();
+        } catch (Exception e) {
+            manager = null;
+        }
+
+        if (value instanceof DataView) {
+            checkArgument(value != this, "Cannot set a DataView to itself.");
+            copyDataView(path, (DataView) value);
+        } else if (value instanceof DataSerializable) {
+            DataContainer valueContainer = ((DataSerializable) value).toContainer();
+            checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
+            copyDataView(path, valueContainer);
+        } else if (value instanceof CatalogType) {
+            return set(path, ((CatalogType) value).getId());
+        } else if (manager != null && manager.getSerializer(value.getClass()).isPresent()) {
+            DataSerializer serializer = manager.getSerializer(value.getClass()).get();
+            final DataContainer container = serializer.serialize(value);
+            checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
+            copyDataView(path, container);
+        } else if (value instanceof Map) {
+            final DataView view = createView(path);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                view.set(of(entry.getKey().toString()), entry.getValue());
+            }
+        } else {
+            checkArgument(path.size() != 0, "The size of the query must be at least 1");
+            final Object object;
+            if (value instanceof Collection) {
+                object = ensureCollection((Collection) value, manager);
+            } else if (value instanceof byte[]) {
+                object = ArrayUtils.clone((byte[]) value);
+            } else if (value instanceof short[]) {
+                object = ArrayUtils.clone((short[]) value);
+            } else if (value instanceof int[]) {
+                object = ArrayUtils.clone((int[]) value);
+            } else if (value instanceof long[]) {
+                object = ArrayUtils.clone((long[]) value);
+            } else if (value instanceof float[]) {
+                object = ArrayUtils.clone((float[]) value);
+            } else if (value instanceof double[]) {
+                object = ArrayUtils.clone((double[]) value);
+            } else if (value instanceof boolean[]) {
+                object = ArrayUtils.clone((boolean[]) value);
+            } else if (value instanceof Object[]) {
+                object = ArrayUtils.clone((Object[]) value);
+            } else {
+                object = value;
+            }
+            this.container.root = this.container.root.with(this.path.then(path).getParts(), 0, object);
+        }
+        return this;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ImmutableList<Object> ensureCollection(Collection<?> value, @Nullable DataManager manager) {
+        final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        for (Object object : value) {
+            if (object instanceof DataSerializable) {
+                builder.add(toContainer(((DataSerializable) object).toContainer()));
+            } else if (object instanceof DataView) {
+                builder.add(toContainer((DataView) object));
+            } else if (object instanceof Map) {
+                builder.add(freeze(ensureSerialization((Map) object)));
+            } else if (object instanceof Collection) {
+                builder.add(freeze(ensureSerialization((Collection) object)));
+            } else {
+                final Optional<? extends DataSerializer<?>> serializer = manager == null
+                        ? Optional.empty() : manager.getSerializer(object.getClass());
+                if (serializer.isPresent()) {
+                    builder.add(toContainer(((DataSerializer) serializer.get()).serialize(object)));
+                } else {
+                    builder.add(object);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Replaces the views within the given value with immutable snapshots.
+     *
+     * @param value The value, as returned by ensureSerialization
+     * @return The value with the views replaced
+     */
+    private static Object freeze(Object value) {
+        if (value instanceof DataView) {
+            return toContainer((DataView) value);
+        } else if (value instanceof List) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (Object element : (List<?>) value) {
+                builder.add(freeze(element));
+            }
+            return builder.build();
+        } else if (value instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                builder.put(entry.getKey(), freeze(entry.getValue()));
+            }
+            return builder.build();
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the snapshots within the given value with copies, so
+     * modifying them doesn't affect the stored value.
+     *
+     * @param value The stored value
+     * @return The value with the snapshots replaced
+     */
+    private static Object thaw(Object value) {
+        if (value instanceof PersistentDataContainer) {
+            return ((PersistentDataContainer) value).copy();
+        } else if (value instanceof List) {
+            final List<Object> list = Lists.newArrayListWithCapacity(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                list.add(thaw(element));
+            }
+            return list;
+        } else if (value instanceof Map) {
+            final Map<Object, Object> map = Maps.newLinkedHashMap();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(entry.getKey(), thaw(entry.getValue()));
+            }
+            return map;
+        }
+        return value;
+    }
+
+    private static PersistentDataContainer toContainer(DataView view) {
+        if (view instanceof PersistentDataView) {
+            // Shares the nodes of the view, no matter how large it is
+            return (PersistentDataContainer) view.copy();
+        }
+        final PersistentDataContainer container = new PersistentDataContainer();
+        for (DataQuery key : view.getKeys(false)) {
+            view.get(key).ifPresent(object -> container.set(key, object));
+        }
+        return container;
+    }
+
+    private void copyDataView(DataQuery path, DataView value) {
+        final PersistentDataNode node = toContainer(value).root;
+        this.container.root = this.container.root.merge(this.path.then(path).getParts(), 0, node);
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        checkNotNull(path, "path");
+        node();
+        if (path.size() != 0) {
+            this.container.root = this.container.root.without(this.path.then(path).getParts(), 0);
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(path.size() != 0, "The size of the query must be at least 1");
+        node();
+        final DataQuery fullPath = this.path.then(path);
+        this.container.root = this.container.root.with(fullPath.getParts(), 0, PersistentDataNode.EMPTY);
+        return new PersistentDataView(this.container, fullPath);
+    }
+
+    @Override
+    public DataContainer copy() {
+        return new PersistentDataContainer(node());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getValues(false), getCurrentPath());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PersistentDataView other = (PersistentDataView) obj;
+        return Objects.equal(getCurrentPath(), other.getCurrentPath())
+               && Objects.equal(getValues(false), other.getValues(false));
+    }
+
+    @Override
+    public String toString() {
+        final Objects.ToStringHelper helper = Objects.toStringHelper(this);
+        final DataQuery path = getCurrentPath();
+        if (!path.toString().isEmpty()) {
+            helper.add("path", path);
+        }
+        return helper.add("values", getValues(false)).toString();
+    }
+
+}
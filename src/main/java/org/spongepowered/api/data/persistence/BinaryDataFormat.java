@@ -0,0 +1,115 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A compact, length-prefixed binary {@link DataFormat}.
+ *
+ * <p>Documents begin with a table of every key used within them, so that
+ * entries only refer to their key by index. Views and lists are prefixed with
+ * their length in bytes, allowing a {@link BinaryDataReader} to skip entire
+ * subtrees without reading them.</p>
+ *
+ * <p>Besides the {@link DataFormat} methods, which fully materialize a
+ * {@link DataContainer}, this format offers direct access to its streaming
+ * {@link BinaryDataReader} and {@link BinaryDataWriter}.</p>
+ */
+public final class BinaryDataFormat implements DataFormat {
+
+    static final int MAGIC = 0x53444246;
+    static final int VERSION = 1;
+
+    private static final BinaryDataFormat instance = new BinaryDataFormat();
+
+    private BinaryDataFormat() {
+    }
+
+    /**
+     * Gets the instance of this format.
+     *
+     * @return The instance of this format
+     */
+    public static BinaryDataFormat instance() {
+        return instance;
+    }
+
+    @Override
+    public String getId() {
+        return "binary";
+    }
+
+    @Override
+    public String getName() {
+        return "Binary";
+    }
+
+    @Override
+    public DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException {
+        checkNotNull(input, "input");
+        return newReader(input instanceof BufferedInputStream ? input : new BufferedInputStream(input)).readContainer();
+    }
+
+    @Override
+    public void writeTo(OutputStream output, DataView data) throws IOException {
+        checkNotNull(data, "data");
+        newWriter(output).write(data);
+    }
+
+    /**
+     * Creates a new {@link BinaryDataReader} for the document at the current
+     * position of the given {@link InputStream}.
+     *
+     * @param input The input stream to read from
+     * @return The new reader
+     * @throws InvalidDataFormatException If the stream does not contain a
+     *     binary data document
+     * @throws IOException If there was an error reading from the stream
+     */
+    public BinaryDataReader newReader(InputStream input) throws InvalidDataFormatException, IOException {
+        return new BinaryDataReader(input);
+    }
+
+    /**
+     * Creates a new {@link BinaryDataWriter} writing to the given
+     * {@link OutputStream}.
+     *
+     * @param output The output stream to write to
+     * @return The new writer
+     */
+    public BinaryDataWriter newWriter(OutputStream output) {
+        return new BinaryDataWriter(output);
+    }
+
+}
@@ -0,0 +1,649 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A pull-style reader for documents written by a {@link BinaryDataWriter}.
+ *
+ * <p>The reader walks the document one value at a time. Within a view,
+ * {@link #nextName()} or {@link #nextQuery()} returns the key of the next
+ * entry, after which {@link #peek()} reports the type of its value and one of
+ * the {@code next*} methods consumes it. Entire subtrees that are not of
+ * interest can be passed over with {@link #skipValue()}, which uses the length
+ * prefix of views and lists to skip them without reading their contents.</p>
+ *
+ * <p>The keys of a document are read once from its header and shared by all
+ * entries, so repeated keys never allocate new {@link String}s or
+ * {@link DataQuery}s.</p>
+ */
+public final class BinaryDataReader implements Closeable {
+
+    private final InputStream input;
+    private final String[] keys;
+    private final DataQuery[] queries;
+
+    private long position;
+    private long[] scopeEnds = new long[16];
+    private boolean[] listScopes = new boolean[16];
+    private int depth;
+    private boolean rootRead;
+
+    private boolean nameRead;
+    @Nullable private BinaryValueType peeked;
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Creates a new reader for the document at the current position of the
+     * given {@link InputStream}, reading its header immediately.
+     *
+     * <p>The reader does not buffer the stream itself, so wrapping the stream
+     * in a {@link java.io.BufferedInputStream} is recommended.</p>
+     *
+     * @param input The input stream to read from
+     * @throws InvalidDataFormatException If the stream does not contain a
+     *     binary data document
+     * @throws IOException If there was an error reading from the stream
+     */
+    public BinaryDataReader(InputStream input) throws InvalidDataFormatException, IOException {
+        this.input = checkNotNull(input, "input");
+        if (readInt() != BinaryDataFormat.MAGIC) {
+            throw new InvalidDataFormatException("The stream does not contain a binary data document");
+        }
+        final int version = readByte();
+        if (version != BinaryDataFormat.VERSION) {
+            throw new InvalidDataFormatException("Unsupported binary data version: " + version);
+        }
+        final int keyCount = readLength();
+        this.keys = new String[keyCount];
+        this.queries = new DataQuery[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            this.keys[i] = readString();
+        }
+    }
+
+    /**
+     * Reads the entire document into a new {@link DataContainer}. This may
+     * only be called before any other part of the document has been read.
+     *
+     * @return The container holding the contents of the document
+     * @throws InvalidDataFormatException If the document is malformed
+     * @throws IOException If there was an error reading from the stream
+     */
+    public DataContainer readContainer() throws InvalidDataFormatException, IOException {
+        checkState(!this.rootRead, "The document root was already read");
+        final DataContainer container = new MemoryDataContainer();
+        beginView();
+        readEntries(container);
+        endView();
+        return container;
+    }
+
+    /**
+     * Opens the next value, which must be a view. The first call to this
+     * method opens the root view of the document.
+     *
+     * @throws InvalidDataFormatException If the next value is not a view
+     * @throws IOException If there was an error reading from the stream
+     */
+    public void beginView() throws InvalidDataFormatException, IOException {
+        if (this.depth == 0) {
+            checkState(!this.rootRead, "The document root was already read");
+            this.rootRead = true;
+        } else {
+            consume(BinaryValueType.VIEW);
+        }
+        push(false);
+    }
+
+    /**
+     * Closes the current view, skipping any of its entries that were not
+     * read.
+     *
+     * @throws IOException If there was an error reading from the stream
+     */
+    public void endView() throws IOException {
+        pop(false);
+    }
+
+    /**
+     * Opens the next value, which must be a list.
+     *
+     * @throws InvalidDataFormatException If the next value is not a list
+     * @throws IOException If there was an error reading from the stream
+     */
+    public void beginList() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.LIST);
+        push(true);
+    }
+
+    /**
+     * Closes the current list, skipping any of its elements that were not
+     * read.
+     *
+     * @throws IOException If there was an error reading from the stream
+     */
+    public void endList() throws IOException {
+        pop(true);
+    }
+
+    /**
+     * Gets whether the current view or list has more entries.
+     *
+     * @return True if there are more entries in the current scope
+     */
+    public boolean hasNext() {
+        return this.depth > 0 && (this.nameRead || this.peeked != null || this.position < this.scopeEnds[this.depth - 1]);
+    }
+
+    /**
+     * Reads the name of the next entry in the current view.
+     *
+     * @return The name of the entry
+     * @throws InvalidDataFormatException If the document is malformed
+     * @throws IOException If there was an error reading from the stream
+     */
+    public String nextName() throws InvalidDataFormatException, IOException {
+        return this.keys[nextKeyIndex()];
+    }
+
+    /**
+     * Reads the name of the next entry in the current view as a
+     * {@link DataQuery}. The same instance is returned for every occurrence
+     * of a key within the document.
+     *
+     * @return The query of the entry
+     * @throws InvalidDataFormatException If the document is malformed
+     * @throws IOException If there was an error reading from the stream
+     */
+    public DataQuery nextQuery() throws InvalidDataFormatException, IOException {
+        final int index = nextKeyIndex();
+        DataQuery query = this.queries[index];
+        if (query == null) {
+            query = DataQuery.of(this.keys[index]);
+            this.queries[index] = query;
+        }
+        return query;
+    }
+
+    /**
+     * Gets the type of the next value without consuming it.
+     *
+     * @return The type of the next value
+     * @throws InvalidDataFormatException If the document is malformed
+     * @throws IOException If there was an error reading from the stream
+     */
+    public BinaryValueType peek() throws InvalidDataFormatException, IOException {
+        if (this.peeked == null) {
+            checkState(this.depth > 0, "Not within a view or list");
+            checkState(this.listScopes[this.depth - 1] || this.nameRead, "The name of the entry must be read first");
+            checkState(this.position < this.scopeEnds[this.depth - 1], "There are no more entries");
+            this.peeked = BinaryValueType.fromTag((byte) readByte());
+        }
+        return this.peeked;
+    }
+
+    /**
+     * Reads the next value, which must be a {@code boolean}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public boolean nextBoolean() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.BOOLEAN);
+        return readByte() != 0;
+    }
+
+    /**
+     * Reads the next value, which must be a {@code byte}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public byte nextByte() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.BYTE);
+        return (byte) readByte();
+    }
+
+    /**
+     * Reads the next value, which must be a {@code short}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public short nextShort() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.SHORT);
+        return (short) readShort();
+    }
+
+    /**
+     * Reads the next value, which must be an {@code int}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public int nextInt() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.INTEGER);
+        final int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads the next value, which must be a {@code long}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public long nextLong() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.LONG);
+        final long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads the next value, which must be a {@code float}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public float nextFloat() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.FLOAT);
+        return Float.intBitsToFloat(readInt());
+    }
+
+    /**
+     * Reads the next value, which must be a {@code double}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public double nextDouble() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.DOUBLE);
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Reads the next value, which must be a {@code char}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public char nextChar() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.CHARACTER);
+        return (char) readShort();
+    }
+
+    /**
+     * Reads the next value, which must be a {@link String}.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the next value is of another type
+     * @throws IOException If there was an error reading from the stream
+     */
+    public String nextString() throws InvalidDataFormatException, IOException {
+        consume(BinaryValueType.STRING);
+        return readString();
+    }
+
+    /**
+     * Reads the next value, which may be of any type, materializing views
+     * and lists along with all of their contents.
+     *
+     * @return The value
+     * @throws InvalidDataFormatException If the document is malformed
+     * @throws IOException If there was an error reading from the stream
+     */
+    public Object nextValue() throws InvalidDataFormatException, IOException {
+        final BinaryValueType type = peek();
+        switch (type) {
+            case VIEW: {
+                final DataContainer container = new MemoryDataContainer();
+                beginView();
+                readEntries(container);
+                endView();
+                return container;
+            }
+            case LIST: {
+                final List<Object> list = new ArrayList<>();
+                beginList();
+                while (hasNext()) {
+                    list.add(nextValue());
+                }
+                endList();
+                return list;
+            }
+            case BOOLEAN:
+                return nextBoolean();
+            case BYTE:
+                return nextByte();
+            case SHORT:
+                return nextShort();
+            case INTEGER:
+                return nextInt();
+            case LONG:
+                return nextLong();
+            case FLOAT:
+                return nextFloat();
+            case DOUBLE:
+                return nextDouble();
+            case CHARACTER:
+                return nextChar();
+            case STRING:
+                return nextString();
+            default:
+                return nextArray(type);
+        }
+    }
+
+    /**
+     * Skips the next value. Views and lists are skipped as a whole, without
+     * their contents being read.
+     *
+     * @throws InvalidDataFormatException If the document is malformed
+     * @throws IOException If there was an error reading from the stream
+     */
+    public void skipValue() throws InvalidDataFormatException, IOException {
+        final BinaryValueType type = peek();
+        consume(type);
+        switch (type) {
+            case VIEW:
+            case LIST:
+                skip(readInt());
+                break;
+            case BOOLEAN:
+            case BYTE:
+                skip(1);
+                break;
+            case SHORT:
+            case CHARACTER:
+                skip(2);
+                break;
+            case INTEGER:
+                readVarInt();
+                break;
+            case LONG:
+                readVarLong();
+                break;
+            case FLOAT:
+                skip(4);
+                break;
+            case DOUBLE:
+                skip(8);
+                break;
+            case STRING:
+            case BOOLEAN_ARRAY:
+            case BYTE_ARRAY:
+                skip(readLength());
+                break;
+            case SHORT_ARRAY:
+                skip(readLength() * 2L);
+                break;
+            case INT_ARRAY:
+            case FLOAT_ARRAY:
+                skip(readLength() * 4L);
+                break;
+            case LONG_ARRAY:
+            case DOUBLE_ARRAY:
+                skip(readLength() * 8L);
+                break;
+            default:
+                throw new InvalidDataFormatException("Unknown value type: " + type);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+    private void readEntries(DataView view) throws InvalidDataFormatException, IOException {
+        while (hasNext()) {
+            final DataQuery key = nextQuery();
+            if (peek() == BinaryValueType.VIEW) {
+                beginView();
+                readEntries(view.createView(key));
+                endView();
+            } else {
+                view.set(key, nextValue());
+            }
+        }
+    }
+
+    private Object nextArray(BinaryValueType type) throws InvalidDataFormatException, IOException {
+        consume(type);
+        final int length = readLength();
+        switch (type) {
+            case BOOLEAN_ARRAY: {
+                final boolean[] array = new boolean[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = readByte() != 0;
+                }
+                return array;
+            }
+            case BYTE_ARRAY: {
+                final byte[] array = new byte[length];
+                readFully(array, length);
+                return array;
+            }
+            case SHORT_ARRAY: {
+                final short[] array = new short[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = (short) readShort();
+                }
+                return array;
+            }
+            case INT_ARRAY: {
+                final int[] array = new int[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = readInt();
+                }
+                return array;
+            }
+            case LONG_ARRAY: {
+                final long[] array = new long[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = readLong();
+                }
+                return array;
+            }
+            case FLOAT_ARRAY: {
+                final float[] array = new float[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = Float.intBitsToFloat(readInt());
+                }
+                return array;
+            }
+            case DOUBLE_ARRAY: {
+                final double[] array = new double[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = Double.longBitsToDouble(readLong());
+                }
+                return array;
+            }
+            default:
+                throw new InvalidDataFormatException("Unknown value type: " + type);
+        }
+    }
+
+    private int nextKeyIndex() throws InvalidDataFormatException, IOException {
+        checkState(this.depth > 0 && !this.listScopes[this.depth - 1], "Names may only be read within a view");
+        checkState(!this.nameRead, "The name of the next entry was already read");
+        checkState(this.position < this.scopeEnds[this.depth - 1], "There are no more entries");
+        final int index = readVarInt();
+        if (index < 0 || index >= this.keys.length) {
+            throw new InvalidDataFormatException("Unknown key index: " + index);
+        }
+        this.nameRead = true;
+        return index;
+    }
+
+    private void consume(BinaryValueType expected) throws InvalidDataFormatException, IOException {
+        final BinaryValueType type = peek();
+        if (type != expected) {
+            throw new InvalidDataFormatException("Expected a value of type " + expected + " but found " + type);
+        }
+        this.peeked = null;
+        this.nameRead = false;
+    }
+
+    private void push(boolean list) throws InvalidDataFormatException, IOException {
+        final int length = readInt();
+        if (length < 0) {
+            throw new InvalidDataFormatException("Negative length: " + length);
+        }
+        if (this.depth == this.listScopes.length) {
+            this.listScopes = Arrays.copyOf(this.listScopes, this.depth * 2);
+            this.scopeEnds = Arrays.copyOf(this.scopeEnds, this.depth * 2);
+        }
+        this.listScopes[this.depth] = list;
+        this.scopeEnds[this.depth] = this.position + length;
+        this.depth++;
+    }
+
+    private void pop(boolean list) throws IOException {
+        checkState(this.depth > 0 && this.listScopes[this.depth - 1] == list, list ? "Not within a list" : "Not within a view");
+        checkState(this.peeked == null && !this.nameRead, "The current entry was not fully read");
+        this.depth--;
+        skip(this.scopeEnds[this.depth] - this.position);
+    }
+
+    private void skip(long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            final long skipped = this.input.skip(remaining);
+            if (skipped > 0) {
+                remaining -= skipped;
+            } else if (this.input.read() >= 0) {
+                // skip may return 0 without being at the end of the stream,
+                // so fall back to reading a single byte to find out
+                remaining--;
+            } else {
+                throw new EOFException();
+            }
+        }
+        this.position += count;
+    }
+
+    private int readByte() throws IOException {
+        final int value = this.input.read();
+        if (value < 0) {
+            throw new EOFException();
+        }
+        this.position++;
+        return value;
+    }
+
+    private void readFully(byte[] bytes, int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            final int read = this.input.read(bytes, offset, length - offset);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        this.position += length;
+    }
+
+    private int readShort() throws IOException {
+        return (readByte() << 8) | readByte();
+    }
+
+    private int readInt() throws IOException {
+        return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+
+    private long readLong() throws IOException {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    private int readVarInt() throws InvalidDataFormatException, IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataFormatException("Malformed variable length integer");
+    }
+
+    private long readVarLong() throws InvalidDataFormatException, IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataFormatException("Malformed variable length long");
+    }
+
+    private int readLength() throws InvalidDataFormatException, IOException {
+        final int length = readVarInt();
+        if (length < 0) {
+            throw new InvalidDataFormatException("Negative length: " + length);
+        }
+        return length;
+    }
+
+    private String readString() throws InvalidDataFormatException, IOException {
+        final int length = readLength();
+        if (length > this.scratch.length) {
+            this.scratch = new byte[Math.max(length, this.scratch.length * 2)];
+        }
+        readFully(this.scratch, length);
+        return new String(this.scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+}
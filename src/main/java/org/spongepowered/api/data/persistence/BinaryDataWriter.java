@@ -0,0 +1,615 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A push-style writer for the {@link BinaryDataFormat}.
+ *
+ * <p>A document consists of a single root view, opened with
+ * {@link #beginView()} and closed with {@link #endView()}. Within a view every
+ * value must be preceded by a call to {@link #name(String)}, while values
+ * within a list are written without names. Once the root view has been closed
+ * the document is written to the underlying stream by {@link #flush()}, after
+ * which the writer may be reused for another document.</p>
+ *
+ * <p>Keys are interned per document: each distinct key is written once in the
+ * document header and referenced by index from then on.</p>
+ */
+public final class BinaryDataWriter implements Closeable, Flushable {
+
+    private final OutputStream output;
+    private final Map<String, Integer> keyIndices = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+
+    private byte[] buffer = new byte[256];
+    private int size;
+
+    private boolean[] listScopes = new boolean[16];
+    private int[] lengthPositions = new int[16];
+    private int depth;
+
+    private boolean nameWritten;
+    private boolean rootWritten;
+
+    /**
+     * Creates a new writer targeting the given {@link OutputStream}.
+     *
+     * @param output The output stream to write documents to
+     */
+    public BinaryDataWriter(OutputStream output) {
+        this.output = checkNotNull(output, "output");
+    }
+
+    /**
+     * Writes the given {@link DataView} as a complete document and flushes
+     * it to the underlying stream.
+     *
+     * @param view The view to write
+     * @throws IOException If there was an error writing to the stream
+     * @throws InvalidDataException If the view contains a value that cannot
+     *     be represented in this format
+     */
+    public void write(DataView view) throws IOException {
+        checkNotNull(view, "view");
+        beginView();
+        writeEntries(view);
+        endView();
+        flush();
+    }
+
+    /**
+     * Opens a new view, either as the root of the document or as the next
+     * value in the current scope.
+     *
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter beginView() {
+        writeValueHeader(BinaryValueType.VIEW);
+        push(false);
+        return this;
+    }
+
+    /**
+     * Closes the current view.
+     *
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter endView() {
+        pop(false);
+        return this;
+    }
+
+    /**
+     * Opens a new list as the next value in the current scope.
+     *
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter beginList() {
+        checkState(this.depth > 0, "A list cannot be the root of a document");
+        writeValueHeader(BinaryValueType.LIST);
+        push(true);
+        return this;
+    }
+
+    /**
+     * Closes the current list.
+     *
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter endList() {
+        pop(true);
+        return this;
+    }
+
+    /**
+     * Writes the name of the next entry in the current view.
+     *
+     * @param name The name of the entry
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter name(String name) {
+        checkNotNull(name, "name");
+        checkState(this.depth > 0 && !this.listScopes[this.depth - 1], "Names may only be written within a view");
+        checkState(!this.nameWritten, "A name was already written for the next entry");
+        Integer index = this.keyIndices.get(name);
+        if (index == null) {
+            index = this.keys.size();
+            this.keyIndices.put(name, index);
+            this.keys.add(name);
+        }
+        writeVarInt(index);
+        this.nameWritten = true;
+        return this;
+    }
+
+    /**
+     * Writes an arbitrary value as supported by {@link DataView}s. Views,
+     * maps, collections and {@link DataSerializable}s are written
+     * recursively, and {@link CatalogType}s are written by their id.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     * @throws InvalidDataException If the value cannot be represented in
+     *     this format
+     */
+    public BinaryDataWriter value(Object value) {
+        checkNotNull(value, "value");
+        if (value instanceof DataView) {
+            beginView();
+            writeEntries((DataView) value);
+            endView();
+        } else if (value instanceof DataSerializable) {
+            value(((DataSerializable) value).toContainer());
+        } else if (value instanceof Map) {
+            beginView();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                final Object key = entry.getKey();
+                name(key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString());
+                value(entry.getValue());
+            }
+            endView();
+        } else if (value instanceof Collection) {
+            beginList();
+            for (Object element : (Collection<?>) value) {
+                value(element);
+            }
+            endList();
+        } else if (value instanceof Object[]) {
+            beginList();
+            for (Object element : (Object[]) value) {
+                value(element);
+            }
+            endList();
+        } else if (value instanceof Boolean) {
+            value(((Boolean) value).booleanValue());
+        } else if (value instanceof Byte) {
+            value(((Byte) value).byteValue());
+        } else if (value instanceof Short) {
+            value(((Short) value).shortValue());
+        } else if (value instanceof Integer) {
+            value(((Integer) value).intValue());
+        } else if (value instanceof Long) {
+            value(((Long) value).longValue());
+        } else if (value instanceof Float) {
+            value(((Float) value).floatValue());
+        } else if (value instanceof Double) {
+            value(((Double) value).doubleValue());
+        } else if (value instanceof Character) {
+            value(((Character) value).charValue());
+        } else if (value instanceof String) {
+            value((String) value);
+        } else if (value instanceof CatalogType) {
+            value(((CatalogType) value).getId());
+        } else if (value instanceof boolean[]) {
+            value((boolean[]) value);
+        } else if (value instanceof byte[]) {
+            value((byte[]) value);
+        } else if (value instanceof short[]) {
+            value((short[]) value);
+        } else if (value instanceof int[]) {
+            value((int[]) value);
+        } else if (value instanceof long[]) {
+            value((long[]) value);
+        } else if (value instanceof float[]) {
+            value((float[]) value);
+        } else if (value instanceof double[]) {
+            value((double[]) value);
+        } else {
+            throw new InvalidDataException("Cannot write value of type " + value.getClass().getName());
+        }
+        return this;
+    }
+
+    /**
+     * Writes a {@code boolean} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(boolean value) {
+        writeValueHeader(BinaryValueType.BOOLEAN);
+        writeByte(value ? 1 : 0);
+        return this;
+    }
+
+    /**
+     * Writes a {@code byte} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(byte value) {
+        writeValueHeader(BinaryValueType.BYTE);
+        writeByte(value);
+        return this;
+    }
+
+    /**
+     * Writes a {@code short} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(short value) {
+        writeValueHeader(BinaryValueType.SHORT);
+        writeShort(value);
+        return this;
+    }
+
+    /**
+     * Writes an {@code int} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(int value) {
+        writeValueHeader(BinaryValueType.INTEGER);
+        writeVarInt((value << 1) ^ (value >> 31));
+        return this;
+    }
+
+    /**
+     * Writes a {@code long} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(long value) {
+        writeValueHeader(BinaryValueType.LONG);
+        writeVarLong((value << 1) ^ (value >> 63));
+        return this;
+    }
+
+    /**
+     * Writes a {@code float} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(float value) {
+        writeValueHeader(BinaryValueType.FLOAT);
+        writeInt(Float.floatToIntBits(value));
+        return this;
+    }
+
+    /**
+     * Writes a {@code double} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(double value) {
+        writeValueHeader(BinaryValueType.DOUBLE);
+        writeLong(Double.doubleToLongBits(value));
+        return this;
+    }
+
+    /**
+     * Writes a {@code char} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(char value) {
+        writeValueHeader(BinaryValueType.CHARACTER);
+        writeShort(value);
+        return this;
+    }
+
+    /**
+     * Writes a {@link String} value.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(String value) {
+        checkNotNull(value, "value");
+        writeValueHeader(BinaryValueType.STRING);
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * Writes an array of {@code boolean}s.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(boolean[] value) {
+        writeValueHeader(BinaryValueType.BOOLEAN_ARRAY);
+        writeVarInt(value.length);
+        ensureCapacity(value.length);
+        for (boolean element : value) {
+            this.buffer[this.size++] = (byte) (element ? 1 : 0);
+        }
+        return this;
+    }
+
+    /**
+     * Writes an array of {@code byte}s.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(byte[] value) {
+        writeValueHeader(BinaryValueType.BYTE_ARRAY);
+        writeVarInt(value.length);
+        writeBytes(value, value.length);
+        return this;
+    }
+
+    /**
+     * Writes an array of {@code short}s.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(short[] value) {
+        writeValueHeader(BinaryValueType.SHORT_ARRAY);
+        writeVarInt(value.length);
+        ensureCapacity(value.length * 2);
+        for (short element : value) {
+            writeShort(element);
+        }
+        return this;
+    }
+
+    /**
+     * Writes an array of {@code int}s.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(int[] value) {
+        writeValueHeader(BinaryValueType.INT_ARRAY);
+        writeVarInt(value.length);
+        ensureCapacity(value.length * 4);
+        for (int element : value) {
+            writeInt(element);
+        }
+        return this;
+    }
+
+    /**
+     * Writes an array of {@code long}s.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(long[] value) {
+        writeValueHeader(BinaryValueType.LONG_ARRAY);
+        writeVarInt(value.length);
+        ensureCapacity(value.length * 8);
+        for (long element : value) {
+            writeLong(element);
+        }
+        return this;
+    }
+
+    /**
+     * Writes an array of {@code float}s.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(float[] value) {
+        writeValueHeader(BinaryValueType.FLOAT_ARRAY);
+        writeVarInt(value.length);
+        ensureCapacity(value.length * 4);
+        for (float element : value) {
+            writeInt(Float.floatToIntBits(element));
+        }
+        return this;
+    }
+
+    /**
+     * Writes an array of {@code double}s.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     */
+    public BinaryDataWriter value(double[] value) {
+        writeValueHeader(BinaryValueType.DOUBLE_ARRAY);
+        writeVarInt(value.length);
+        ensureCapacity(value.length * 8);
+        for (double element : value) {
+            writeLong(Double.doubleToLongBits(element));
+        }
+        return this;
+    }
+
+    /**
+     * Writes the completed document to the underlying stream and resets this
+     * writer so that it may be used for another document. Calling this method
+     * while no document has been written only flushes the underlying stream.
+     *
+     * @throws IOException If there was an error writing to the stream
+     */
+    @Override
+    public void flush() throws IOException {
+        checkState(this.depth == 0, "Cannot flush an incomplete document");
+        if (this.rootWritten) {
+            final byte[] body = this.buffer;
+            final int bodySize = this.size;
+
+            // The header is small, so it is built in a fresh buffer that is
+            // then swapped back out for the (larger) body buffer
+            this.buffer = new byte[64];
+            this.size = 0;
+            writeInt(BinaryDataFormat.MAGIC);
+            writeByte(BinaryDataFormat.VERSION);
+            writeVarInt(this.keys.size());
+            for (String key : this.keys) {
+                writeString(key);
+            }
+            this.output.write(this.buffer, 0, this.size);
+            this.output.write(body, 0, bodySize);
+
+            this.buffer = body;
+            this.size = 0;
+            this.keys.clear();
+            this.keyIndices.clear();
+            this.rootWritten = false;
+        }
+        this.output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        this.output.close();
+    }
+
+    private void writeEntries(DataView view) {
+        for (DataQuery key : view.getKeys(false)) {
+            final Optional<Object> value = view.get(key);
+            if (value.isPresent()) {
+                name(key.asString('.'));
+                value(value.get());
+            }
+        }
+    }
+
+    private void writeValueHeader(BinaryValueType type) {
+        if (this.depth == 0) {
+            checkState(type == BinaryValueType.VIEW, "The root of a document must be a view");
+            checkState(!this.rootWritten, "The document root was already written, flush it first");
+            this.rootWritten = true;
+            return;
+        }
+        if (!this.listScopes[this.depth - 1]) {
+            checkState(this.nameWritten, "Values within a view must be preceded by a name");
+            this.nameWritten = false;
+        }
+        writeByte(type.getTag());
+    }
+
+    private void push(boolean list) {
+        if (this.depth == this.listScopes.length) {
+            this.listScopes = Arrays.copyOf(this.listScopes, this.depth * 2);
+            this.lengthPositions = Arrays.copyOf(this.lengthPositions, this.depth * 2);
+        }
+        this.listScopes[this.depth] = list;
+        // Reserve space for the length of the scope, patched once it ends
+        this.lengthPositions[this.depth] = this.size;
+        writeInt(0);
+        this.depth++;
+    }
+
+    private void pop(boolean list) {
+        checkState(this.depth > 0 && this.listScopes[this.depth - 1] == list, list ? "Not within a list" : "Not within a view");
+        checkState(!this.nameWritten, "A name was written without a value");
+        this.depth--;
+        final int position = this.lengthPositions[this.depth];
+        final int length = this.size - position - 4;
+        this.buffer[position] = (byte) (length >>> 24);
+        this.buffer[position + 1] = (byte) (length >>> 16);
+        this.buffer[position + 2] = (byte) (length >>> 8);
+        this.buffer[position + 3] = (byte) length;
+    }
+
+    private void ensureCapacity(int additional) {
+        final int required = this.size + additional;
+        if (required > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(required, this.buffer.length * 2));
+        }
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, 0, this.buffer, this.size, length);
+        this.size += length;
+    }
+
+    private void writeShort(int value) {
+        ensureCapacity(2);
+        this.buffer[this.size++] = (byte) (value >>> 8);
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(4);
+        this.buffer[this.size++] = (byte) (value >>> 24);
+        this.buffer[this.size++] = (byte) (value >>> 16);
+        this.buffer[this.size++] = (byte) (value >>> 8);
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    private void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            this.buffer[this.size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            this.buffer[this.size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    private void writeString(String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes, bytes.length);
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataView;
+
+import java.util.List;
+
+/**
+ * The kinds of values that can be stored by the
+ * {@link BinaryDataFormat}. Each type is identified in the stream by a single
+ * tag byte preceding the value.
+ */
+public enum BinaryValueType {
+
+    /**
+     * A nested {@link DataView}, prefixed with its length in bytes so that
+     * it may be skipped without being read.
+     */
+    VIEW(1),
+    /**
+     * A {@link List} of values, prefixed with its length in bytes so that
+     * it may be skipped without being read.
+     */
+    LIST(2),
+    BOOLEAN(3),
+    BYTE(4),
+    SHORT(5),
+    INTEGER(6),
+    LONG(7),
+    FLOAT(8),
+    DOUBLE(9),
+    CHARACTER(10),
+    STRING(11),
+    BOOLEAN_ARRAY(12),
+    BYTE_ARRAY(13),
+    SHORT_ARRAY(14),
+    INT_ARRAY(15),
+    LONG_ARRAY(16),
+    FLOAT_ARRAY(17),
+    DOUBLE_ARRAY(18);
+
+    private static final BinaryValueType[] BY_TAG = new BinaryValueType[values().length + 1];
+
+    static {
+        for (BinaryValueType type : values()) {
+            BY_TAG[type.tag] = type;
+        }
+    }
+
+    private final byte tag;
+
+    BinaryValueType(int tag) {
+        this.tag = (byte) tag;
+    }
+
+    /**
+     * Gets the tag byte used to identify this type in a binary stream.
+     *
+     * @return The tag byte
+     */
+    public byte getTag() {
+        return this.tag;
+    }
+
+    /**
+     * Gets the {@link BinaryValueType} identified by the given tag byte.
+     *
+     * @param tag The tag byte
+     * @return The value type
+     * @throws InvalidDataFormatException If the tag is unknown
+     */
+    public static BinaryValueType fromTag(byte tag) throws InvalidDataFormatException {
+        if (tag <= 0 || tag >= BY_TAG.length) {
+            throw new InvalidDataFormatException("Unknown binary value tag: " + tag);
+        }
+        return BY_TAG[tag];
+    }
+
+}
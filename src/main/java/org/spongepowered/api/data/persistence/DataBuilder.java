@@ -24,12 +24,17 @@
  */
 package org.spongepowered.api.data.persistence;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataSerializable;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.util.ResettableBuilder;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a builder that can take a {@link DataContainer} and create a
@@ -56,6 +61,33 @@
      */
     Optional<T> build(DataView container) throws InvalidDataException;
 
+    /**
+     * Builds a {@link DataSerializable} from each of the given
+     * {@link DataView}s. Views which can't be built are reported as failures
+     * of the {@link DeserializationResult} instead of aborting the batch.
+     *
+     * @param views The views to build from
+     * @return The result of building every view
+     */
+    default DeserializationResult<T> buildAll(Iterable<? extends DataView> views) {
+        return DeserializationResult.build(this, ImmutableList.copyOf(views), 0);
+    }
+
+    /**
+     * Builds a {@link DataSerializable} from each of the given
+     * {@link DataView}s like {@link #buildAll(Iterable)}, splitting the views
+     * into batches which are built on the given {@link Executor}. This
+     * builder is used by multiple threads at once, and must therefore be
+     * thread safe.
+     *
+     * @param views The views to build from
+     * @param executor The executor to build on
+     * @return A future of the result of building every view
+     */
+    default CompletableFuture<DeserializationResult<T>> buildAll(Iterable<? extends DataView> views, Executor executor) {
+        return DeserializationResult.buildAsync(this, ImmutableList.copyOf(views), checkNotNull(executor, "executor"));
+    }
+
     @Override
     default DataBuilder<T> reset() {
         return this;
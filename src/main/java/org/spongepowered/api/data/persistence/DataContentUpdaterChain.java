@@ -0,0 +1,91 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.data.DataView;
+
+import java.util.List;
+
+/**
+ * A {@link DataContentUpdater} composed of a fixed sequence of other
+ * {@link DataContentUpdater}s, each of which continues where the previous
+ * one left off. Chains are resolved and cached by a
+ * {@link DataContentUpdaterRegistry}.
+ */
+public final class DataContentUpdaterChain implements DataContentUpdater {
+
+    private final DataContentUpdater[] steps;
+    private final DataContentUpdaterRegistry.Metrics metrics;
+
+    DataContentUpdaterChain(List<DataContentUpdater> steps, DataContentUpdaterRegistry.Metrics metrics) {
+        this.steps = steps.toArray(new DataContentUpdater[steps.size()]);
+        this.metrics = checkNotNull(metrics, "metrics");
+    }
+
+    /**
+     * Gets the {@link DataContentUpdater}s of this chain, in the order they
+     * are applied in.
+     *
+     * @return The updaters of this chain
+     */
+    public List<DataContentUpdater> getSteps() {
+        return ImmutableList.copyOf(this.steps);
+    }
+
+    @Override
+    public int getInputVersion() {
+        return this.steps[0].getInputVersion();
+    }
+
+    @Override
+    public int getOutputVersion() {
+        return this.steps[this.steps.length - 1].getOutputVersion();
+    }
+
+    @Override
+    public DataView update(DataView content) {
+        final long start = System.nanoTime();
+        DataView updated = content;
+        for (DataContentUpdater step : this.steps) {
+            updated = step.update(updated);
+        }
+        this.metrics.record(System.nanoTime() - start);
+        return updated;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("inputVersion", getInputVersion())
+                .add("outputVersion", getOutputVersion())
+                .add("steps", this.steps.length)
+                .toString();
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.DataSerializable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the {@link DataContentUpdater}s registered for each
+ * {@link DataSerializable} class, for use by a {@link DataManager}.
+ *
+ * <p>The {@link DataContentUpdaterChain} between two versions of a class is
+ * only resolved the first time it is requested, and cached until another
+ * updater is registered for that class. Each class also keeps
+ * {@link Metrics} of the updates performed by its chains.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+public final class DataContentUpdaterRegistry {
+
+    private final ConcurrentMap<Class<?>, Updaters> updaters = Maps.newConcurrentMap();
+
+    private Updaters getUpdaters(Class<?> clazz) {
+        Updaters updaters = this.updaters.get(clazz);
+        if (updaters == null) {
+            final Updaters newUpdaters = new Updaters();
+            updaters = this.updaters.putIfAbsent(clazz, newUpdaters);
+            if (updaters == null) {
+                updaters = newUpdaters;
+            }
+        }
+        return updaters;
+    }
+
+    /**
+     * Registers a {@link DataContentUpdater} for the given
+     * {@link DataSerializable} class.
+     *
+     * @param clazz The data serializable class
+     * @param updater The updater
+     * @see DataManager#registerContentUpdater(Class, DataContentUpdater)
+     */
+    public void register(Class<? extends DataSerializable> clazz, DataContentUpdater updater) {
+        checkNotNull(clazz, "clazz");
+        checkNotNull(updater, "updater");
+        checkArgument(updater.getInputVersion() < updater.getOutputVersion(), "The updater must update to a newer version");
+        final Updaters updaters = getUpdaters(clazz);
+        synchronized (updaters) {
+            updaters.updaters.add(updater);
+            updaters.chains.clear();
+        }
+    }
+
+    /**
+     * Gets the {@link DataContentUpdaterChain} updating the given
+     * {@link DataSerializable} class from the given version to the given
+     * version, using as few updaters as possible.
+     *
+     * @param clazz The data serializable class
+     * @param fromVersion The version converting from
+     * @param toVersion The version converting to
+     * @return The updater chain, if the registered updaters cover the
+     *     complete jump
+     * @see DataManager#getWrappedContentUpdater(Class, int, int)
+     */
+    public Optional<DataContentUpdater> getWrappedContentUpdater(Class<? extends DataSerializable> clazz, int fromVersion, int toVersion) {
+        checkNotNull(clazz, "clazz");
+        if (fromVersion >= toVersion) {
+            return Optional.empty();
+        }
+        final Updaters updaters = getUpdaters(clazz);
+        final Long key = ((long) fromVersion << 32) | (toVersion & 0xFFFFFFFFL);
+        Optional<DataContentUpdater> chain = updaters.chains.get(key);
+        if (chain == null) {
+            // Resolve under the lock so a concurrent registration can't be
+            // overwritten by a chain resolved without its updater
+            synchronized (updaters) {
+                chain = updaters.chains.get(key);
+                if (chain == null) {
+                    chain = resolve(updaters, fromVersion, toVersion);
+                    updaters.chains.put(key, chain);
+                }
+            }
+        }
+        return chain;
+    }
+
+    private static Optional<DataContentUpdater> resolve(Updaters updaters, int fromVersion, int toVersion) {
+        // Search breadth first over the versions, so the first chain that
+        // reaches the target version consists of as few updaters as possible
+        final Map<Integer, DataContentUpdater> reachedBy = Maps.newHashMap();
+        final Map<Integer, Integer> previous = Maps.newHashMap();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(fromVersion);
+        while (!queue.isEmpty()) {
+            final int version = queue.poll();
+            for (DataContentUpdater updater : updaters.updaters) {
+                final int output = updater.getOutputVersion();
+                // Only take steps to a newer version without overshooting the
+                // target version, versions that were reached already are
+                // reached with fewer steps
+                if (updater.getInputVersion() != version || output <= version || output > toVersion || reachedBy.containsKey(output)) {
+                    continue;
+                }
+                reachedBy.put(output, updater);
+                previous.put(output, version);
+                if (output == toVersion) {
+                    final List<DataContentUpdater> steps = Lists.newArrayList();
+                    for (int step = toVersion; step != fromVersion; step = previous.get(step)) {
+                        steps.add(reachedBy.get(step));
+                    }
+                    return Optional.of(new DataContentUpdaterChain(Lists.reverse(steps), updaters.metrics));
+                }
+                queue.add(output);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the {@link Metrics} of the updates performed for the given
+     * {@link DataSerializable} class.
+     *
+     * @param clazz The data serializable class
+     * @return The metrics
+     */
+    public Metrics getMetrics(Class<? extends DataSerializable> clazz) {
+        return getUpdaters(checkNotNull(clazz, "clazz")).metrics;
+    }
+
+    private static final class Updaters {
+
+        final List<DataContentUpdater> updaters = new CopyOnWriteArrayList<>();
+        final ConcurrentMap<Long, Optional<DataContentUpdater>> chains = Maps.newConcurrentMap();
+        final Metrics metrics = new Metrics();
+
+    }
+
+    /**
+     * Metrics of the content updates performed for a {@link DataSerializable}
+     * class.
+     */
+    public static final class Metrics {
+
+        private final LongAdder updates = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        Metrics() {
+        }
+
+        void record(long nanos) {
+            this.updates.increment();
+            this.nanos.add(nanos);
+        }
+
+        /**
+         * Gets the number of views that have been updated.
+         *
+         * @return The number of updated views
+         */
+        public long getUpdateCount() {
+            return this.updates.sum();
+        }
+
+        /**
+         * Gets the total time spent updating views.
+         *
+         * @param unit The unit to get the time in
+         * @return The total update time
+         */
+        public long getUpdateTime(TimeUnit unit) {
+            return unit.convert(this.nanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Resets these metrics.
+         */
+        public void reset() {
+            this.updates.reset();
+            this.nanos.reset();
+        }
+
+    }
+
+}
@@ -33,6 +33,8 @@ public final class DataFormats {
 
     // SORTFIELDS:ON
 
+    public static final DataFormat BINARY = DummyObjectProvider.createFor(DataFormat.class, "BINARY");
+
     public static final DataFormat HOCON = DummyObjectProvider.createFor(DataFormat.class, "HOCON");
 
     public static final DataFormat NBT = DummyObjectProvider.createFor(DataFormat.class, "NBT");
@@ -0,0 +1,232 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+/**
+ * The result of deserializing a batch of {@link DataView}s at once, see
+ * {@link DataBuilder#buildAll(Iterable)} and
+ * {@link DataManager#deserializeAll(Class, Iterable)}.
+ *
+ * <p>Instead of throwing on the first invalid view, every view that could
+ * not be deserialized is reported as a {@link Failure}.</p>
+ *
+ * @param <T> The type of data serializable
+ */
+public final class DeserializationResult<T extends DataSerializable> {
+
+    /**
+     * The minimum number of views deserialized by a single task when
+     * deserializing on an {@link Executor}.
+     */
+    private static final int MIN_BATCH_SIZE = 64;
+
+    private final List<T> values;
+    private final List<Failure> failures;
+
+    private DeserializationResult(List<T> values, List<Failure> failures) {
+        this.values = values;
+        this.failures = failures;
+    }
+
+    /**
+     * Gets the successfully deserialized values, in the order of the views
+     * they were deserialized from.
+     *
+     * @return The deserialized values
+     */
+    public List<T> getValues() {
+        return this.values;
+    }
+
+    /**
+     * Gets a {@link Stream} of the successfully deserialized values.
+     *
+     * @return The stream of deserialized values
+     */
+    public Stream<T> stream() {
+        return this.values.stream();
+    }
+
+    /**
+     * Gets whether any of the views failed to deserialize.
+     *
+     * @return True if any view failed to deserialize
+     */
+    public boolean hasFailures() {
+        return !this.failures.isEmpty();
+    }
+
+    /**
+     * Gets the {@link Failure}s of the views that could not be deserialized,
+     * in the order of the views.
+     *
+     * @return The failures
+     */
+    public List<Failure> getFailures() {
+        return this.failures;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("values", this.values.size())
+                .add("failures", this.failures.size())
+                .toString();
+    }
+
+    /**
+     * Creates a {@link DeserializationResult} in which all of the given views
+     * failed to deserialize for the same cause, for example because there is
+     * no {@link DataBuilder} for the desired class.
+     *
+     * @param views The views
+     * @param cause The cause of the failures
+     * @param <T> The type of data serializable
+     * @return The failed result
+     */
+    public static <T extends DataSerializable> DeserializationResult<T> failed(Iterable<? extends DataView> views, InvalidDataException cause) {
+        checkNotNull(views, "views");
+        checkNotNull(cause, "cause");
+        final ImmutableList.Builder<Failure> failures = ImmutableList.builder();
+        int index = 0;
+        for (DataView view : views) {
+            failures.add(new Failure(index++, view, cause));
+        }
+        return new DeserializationResult<>(ImmutableList.of(), failures.build());
+    }
+
+    static <T extends DataSerializable> DeserializationResult<T> build(DataBuilder<T> builder, List<? extends DataView> views, int offset) {
+        final List<T> values = Lists.newArrayListWithCapacity(views.size());
+        final List<Failure> failures = Lists.newArrayList();
+        for (int i = 0; i < views.size(); i++) {
+            final DataView view = views.get(i);
+            try {
+                final Optional<T> value = builder.build(view);
+                if (value.isPresent()) {
+                    values.add(value.get());
+                } else {
+                    failures.add(new Failure(offset + i, view, null));
+                }
+            } catch (InvalidDataException e) {
+                failures.add(new Failure(offset + i, view, e));
+            } catch (Exception e) {
+                failures.add(new Failure(offset + i, view, new InvalidDataException("Could not deserialize the view.", e)));
+            }
+        }
+        return new DeserializationResult<>(values, failures);
+    }
+
+    static <T extends DataSerializable> CompletableFuture<DeserializationResult<T>> buildAsync(DataBuilder<T> builder,
+            List<? extends DataView> views, Executor executor) {
+        final int batchSize = Math.max(MIN_BATCH_SIZE, views.size() / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+        final List<CompletableFuture<DeserializationResult<T>>> batches = Lists.newArrayList();
+        for (int start = 0; start < views.size(); start += batchSize) {
+            final int offset = start;
+            final List<? extends DataView> batch = views.subList(start, Math.min(start + batchSize, views.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> build(builder, batch, offset), executor));
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[batches.size()])).thenApply(ignored -> {
+            final List<T> values = Lists.newArrayListWithCapacity(views.size());
+            final List<Failure> failures = Lists.newArrayList();
+            for (CompletableFuture<DeserializationResult<T>> batch : batches) {
+                final DeserializationResult<T> result = batch.join();
+                values.addAll(result.values);
+                failures.addAll(result.failures);
+            }
+            return new DeserializationResult<>(values, failures);
+        });
+    }
+
+    /**
+     * A {@link DataView} that could not be deserialized.
+     */
+    public static final class Failure {
+
+        private final int index;
+        private final DataView view;
+        @Nullable private final InvalidDataException cause;
+
+        Failure(int index, DataView view, @Nullable InvalidDataException cause) {
+            this.index = index;
+            this.view = view;
+            this.cause = cause;
+        }
+
+        /**
+         * Gets the index of the view in the deserialized batch.
+         *
+         * @return The index of the view
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        /**
+         * Gets the view that could not be deserialized.
+         *
+         * @return The view
+         */
+        public DataView getView() {
+            return this.view;
+        }
+
+        /**
+         * Gets the exception thrown while deserializing the view, if the
+         * {@link DataBuilder} didn't just return {@link Optional#empty()}.
+         *
+         * @return The cause of the failure, if available
+         */
+        public Optional<InvalidDataException> getCause() {
+            return Optional.ofNullable(this.cause);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("index", this.index)
+                    .add("cause", this.cause)
+                    .toString();
+        }
+
+    }
+
+}
@@ -27,14 +27,20 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.spongepowered.api.data.DataQuery.of;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.SimpleConfigurationNode;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.DataViewLoader;
 import org.spongepowered.api.data.MemoryDataContainer;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * A translator for translating {@link DataView}s into {@link ConfigurationNode}
@@ -65,10 +71,16 @@ private static void populateNode(ConfigurationNode node, DataView container) {
     private static DataContainer translateFromNode(ConfigurationNode node) {
         checkNotNull(node, "node");
         DataContainer dataContainer = new MemoryDataContainer();
+        if (node.hasMapChildren()) {
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+                translateChild(entry.getValue(), dataContainer, of('.', entry.getKey().toString()));
+            }
+            return dataContainer;
+        }
         Object value = node.getValue();
         Object key = node.getKey();
         if (value != null) {
-            if (key == null || value instanceof Map || value instanceof List) {
+            if (key == null || value instanceof List) {
                 translateMapOrList(node, dataContainer);
             } else {
                 dataContainer.set(of('.', key.toString()), value);
@@ -77,6 +89,22 @@ private static DataContainer translateFromNode(ConfigurationNode node) {
         return dataContainer;
     }
 
+    private static void translateChild(ConfigurationNode node, DataView container, DataQuery path) {
+        // Walk the children directly instead of copying the whole subtree
+        // into a map through getValue() first
+        if (node.hasMapChildren()) {
+            DataView view = container.createView(path);
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+                translateChild(entry.getValue(), view, of(entry.getKey().toString()));
+            }
+        } else {
+            Object value = node.getValue();
+            if (value != null) {
+                container.set(path, value);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static void translateMapOrList(ConfigurationNode node, DataView container) {
         Object value = node.getValue();
@@ -89,6 +117,78 @@ private static void translateMapOrList(ConfigurationNode node, DataView containe
         }
     }
 
+    private static DataViewLoader loaderOf(ConfigurationNode node) {
+        return () -> {
+            Map<String, Object> entries = Maps.newLinkedHashMap();
+            for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+                ConfigurationNode child = entry.getValue();
+                if (child.hasMapChildren()) {
+                    entries.put(entry.getKey().toString(), loaderOf(child));
+                } else if (child.getValue() != null) {
+                    entries.put(entry.getKey().toString(), child.getValue());
+                }
+            }
+            return entries;
+        };
+    }
+
+    /**
+     * Translates the given {@link ConfigurationNode} into a
+     * {@link DataContainer} lazily. The entries of each {@link DataView} are
+     * only translated the first time the view is accessed, which avoids
+     * translating the parts of large trees that are never read.
+     *
+     * <p>Unlike {@link #translateFrom(ConfigurationNode)}, keys containing a
+     * {@code .} are never split into multiple parts. The node must not be
+     * modified until the container has been fully accessed.</p>
+     *
+     * @param node The node to translate
+     * @return The lazily translated container
+     */
+    public DataContainer translateFromLazily(ConfigurationNode node) {
+        checkNotNull(node, "node");
+        if (!node.hasMapChildren()) {
+            return translateFromNode(node);
+        }
+        return new MemoryDataContainer(loaderOf(node));
+    }
+
+    /**
+     * Translates the given {@link ConfigurationNode} into a
+     * {@link DataContainer}, translating each of the top level subtrees in
+     * parallel on the given {@link ForkJoinPool}.
+     *
+     * <p>The result is the same as {@link #translateFrom(ConfigurationNode)},
+     * including the top level keys containing a {@code .} being split into
+     * multiple parts. As the subtrees of such keys may be merged into each
+     * other, a node with any such key is translated on the calling thread
+     * instead.</p>
+     *
+     * @param node The node to translate
+     * @param pool The pool to translate the subtrees on
+     * @return The translated container
+     */
+    public DataContainer translateFrom(ConfigurationNode node, ForkJoinPool pool) {
+        checkNotNull(node, "node");
+        checkNotNull(pool, "pool");
+        for (Object key : node.getChildrenMap().keySet()) {
+            if (key.toString().indexOf('.') != -1) {
+                return translateFromNode(node);
+            }
+        }
+        DataContainer container = translateFromLazily(node);
+        List<ForkJoinTask<?>> tasks = Lists.newArrayList();
+        for (DataQuery key : container.getKeys(false)) {
+            // Subtrees share no state until they are loaded, so each one
+            // can be loaded on its own thread
+            container.getView(key).ifPresent(view -> tasks.add(pool.submit(() -> view.getKeys(true))));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        return container;
+    }
+
     @Override
     public ConfigurationNode translateData(DataView container) {
         ConfigurationNode node = SimpleConfigurationNode.root();
@@ -0,0 +1,114 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import org.spongepowered.api.util.generator.event.factory.ClassGeneratorProvider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates the classes of all events created by {@link SpongeEventFactory}
+ * ahead of time, to be included in the jar, so
+ * {@link SpongeEventFactoryUtils} doesn't have to generate them at runtime.
+ *
+ * <p>This is run by the {@code genEventImplClasses} task of the build, with
+ * the directory to write the classes to as its only argument.</p>
+ */
+public final class EventImplClassGenerator {
+
+    /**
+     * Generates the classes of all events into the given directory.
+     *
+     * @param args The directory to write the classes to
+     * @throws IOException If a class could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: EventImplClassGenerator <output directory>");
+        }
+        final Path outputDir = Paths.get(args[0]);
+        final ClassGeneratorProvider provider = createProvider(outputDir);
+        for (Class<?> type : getEventTypes()) {
+            provider.create(type, SpongeEventFactoryUtils.getParentType(type), SpongeEventFactoryUtils.plugins);
+        }
+    }
+
+    /**
+     * Gets the event interfaces created by {@link SpongeEventFactory},
+     * sorted by name.
+     *
+     * @return The event interfaces
+     */
+    static Set<Class<?>> getEventTypes() {
+        final Set<Class<?>> types = new TreeSet<>((a, b) -> a.getName().compareTo(b.getName()));
+        for (Method method : SpongeEventFactory.class.getDeclaredMethods()) {
+            final Class<?> type = method.getReturnType();
+            if (Modifier.isPublic(method.getModifiers()) && Modifier.isStatic(method.getModifiers()) && type.isInterface()
+                    && Event.class.isAssignableFrom(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Creates a provider generating the event classes and event factories
+     * as {@link SpongeEventFactoryUtils} would at runtime, which also writes
+     * them into the given directory.
+     *
+     * @param outputDir The directory to write the classes to
+     * @return The provider
+     */
+    static ClassGeneratorProvider createProvider(Path outputDir) {
+        final ClassGeneratorProvider provider = new ClassGeneratorProvider(SpongeEventFactoryUtils.IMPL_PACKAGE) {
+
+            @Override
+            protected Class<?> defineClass(String name, byte[] bytes) {
+                final Path path = outputDir.resolve(name.replace('.', '/') + ".class");
+                try {
+                    Files.createDirectories(path.getParent());
+                    Files.write(path, bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to write " + path, e);
+                }
+                return super.defineClass(name, bytes);
+            }
+        };
+        provider.setNullPolicy(SpongeEventFactoryUtils.NULL_POLICY);
+        return provider;
+    }
+
+    private EventImplClassGenerator() {
+    }
+
+}
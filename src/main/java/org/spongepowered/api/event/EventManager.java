@@ -28,9 +28,14 @@
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.dispatch.BakedEventDispatcher;
 
 /**
  * Manages the registration of event listeners and the dispatching of events.
+ *
+ * <p>Implementations may dispatch events through a
+ * {@link BakedEventDispatcher}, which precomputes the listeners of each
+ * event class.</p>
  */
 public interface EventManager {
 
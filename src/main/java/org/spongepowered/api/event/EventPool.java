@@ -0,0 +1,267 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.eventgencore.annotation.UseField;
+import org.spongepowered.api.util.generator.event.factory.EventFactory;
+import org.spongepowered.api.util.generator.event.factory.RecyclableEvent;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A pool of reusable instances of the generated class of an event, for
+ * events which are posted very often and never escape the
+ * {@link EventManager#post(Event)} call, such as ticks of blocks.
+ *
+ * <p>Instead of creating a new event with {@link SpongeEventFactory}, an
+ * event is taken from the pool with {@link #create(Map)} and returned with
+ * {@link #release(Event)} once it was posted. Released events are cleared
+ * and reused by the next {@link #create(Map)} of the same thread. Listeners
+ * must therefore never keep a reference to a pooled event after they
+ * returned. In {@link #setDebug(boolean) debug mode}, released events are
+ * not reused, and {@link #countRetainedEvents()} counts the events still
+ * referenced after they were released.</p>
+ *
+ * <p>Only events whose generated class extends a class without any state
+ * besides its {@link UseField} properties can be pooled, which includes all
+ * events extending {@link org.spongepowered.api.event.impl.AbstractEvent}
+ * directly.</p>
+ *
+ * @param <T> The type of event
+ */
+public final class EventPool<T extends Event> {
+
+    private static final int MAX_POOLED_EVENTS = 8;
+    private static final Map<Class<?>, EventPool<?>> pools = new ConcurrentHashMap<>();
+    private static volatile boolean debug;
+
+    /**
+     * Gets the pool of the given type of event.
+     *
+     * @param type The event interface
+     * @param <T> The type of event
+     * @return The pool
+     * @throws IllegalArgumentException If the events of the type can't be
+     *     pooled
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Event> EventPool<T> of(Class<T> type) {
+        checkNotNull(type, "type");
+        return (EventPool<T>) pools.computeIfAbsent(type, key -> new EventPool<>(type));
+    }
+
+    /**
+     * Gets whether the debug mode is enabled, in which released events are
+     * tracked instead of reused.
+     *
+     * @return Whether the debug mode is enabled
+     */
+    public static boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * Sets whether the debug mode is enabled, in which released events are
+     * tracked instead of reused.
+     *
+     * @param debug Whether to enable the debug mode
+     */
+    public static void setDebug(boolean debug) {
+        EventPool.debug = debug;
+    }
+
+    private final Class<T> type;
+    private final EventFactory<T> factory;
+    private final ThreadLocal<ArrayDeque<T>> events = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Map<String, Object>> values = ThreadLocal.withInitial(HashMap::new);
+    private final List<WeakReference<T>> releasedEvents = new ArrayList<>();
+
+    private EventPool(Class<T> type) {
+        checkRecyclable(type, SpongeEventFactoryUtils.getParentType(type));
+        this.type = type;
+        this.factory = SpongeEventFactoryUtils.getFactory(type);
+    }
+
+    private static void checkRecyclable(Class<?> type, Class<?> parentType) {
+        for (Class<?> current = parentType; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers)) {
+                    checkArgument(!Modifier.isFinal(modifiers) && field.isAnnotationPresent(UseField.class),
+                            "The events of %s can't be pooled, as %s keeps state in the field %s", type, current, field.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the type of the events of this pool.
+     *
+     * @return The type
+     */
+    public Class<T> getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets an empty map of property names to values, which is reused by the
+     * current thread, to pass to {@link #create(Map)}.
+     *
+     * @return The map
+     */
+    public Map<String, Object> getValues() {
+        final Map<String, Object> values = this.values.get();
+        values.clear();
+        return values;
+    }
+
+    /**
+     * Creates an event from the given map of property names to values,
+     * reusing an event released by the current thread if possible. The
+     * properties are removed from the map.
+     *
+     * @param values The map of property names to values
+     * @return The event
+     */
+    public T create(Map<String, Object> values) {
+        checkNotNull(values, "values");
+        final T event = this.events.get().pollFirst();
+        if (event == null) {
+            return this.factory.apply(values);
+        }
+        ((RecyclableEvent) event).reinitialize(values);
+        return event;
+    }
+
+    /**
+     * Returns the given event to the pool of the current thread. The event
+     * may not be used anymore afterwards.
+     *
+     * @param event The event, created by this pool
+     * @throws IllegalStateException If the event was released already, and
+     *     is still in the pool or debug mode is enabled
+     */
+    public void release(T event) {
+        checkNotNull(event, "event");
+        if (debug) {
+            synchronized (this.releasedEvents) {
+                for (WeakReference<T> released : this.releasedEvents) {
+                    checkState(released.get() != event, "The event %s was released already", event);
+                }
+                ((RecyclableEvent) event).clearProperties();
+                this.releasedEvents.add(new WeakReference<>(event));
+            }
+            return;
+        }
+        final ArrayDeque<T> events = this.events.get();
+        // Releasing an event twice would make two later calls of create
+        // return the same instance, the pool is small enough to check it
+        for (T pooled : events) {
+            checkState(pooled != event, "The event %s was released already", event);
+        }
+        ((RecyclableEvent) event).clearProperties();
+        if (events.size() < MAX_POOLED_EVENTS) {
+            events.push(event);
+        }
+    }
+
+    /**
+     * Creates an event from the given map of property names to values,
+     * posts it and releases it afterwards.
+     *
+     * @param eventManager The event manager to post the event with
+     * @param values The map of property names to values
+     * @return Whether the event was cancelled
+     * @see EventManager#post(Event)
+     */
+    public boolean post(EventManager eventManager, Map<String, Object> values) {
+        return this.post(eventManager, values, null);
+    }
+
+    /**
+     * Creates an event from the given map of property names to values,
+     * posts it, passes it to the given consumer to read its results and
+     * releases it afterwards.
+     *
+     * @param eventManager The event manager to post the event with
+     * @param values The map of property names to values
+     * @param afterPost The consumer of the posted event, which may not keep
+     *     a reference to it
+     * @return Whether the event was cancelled
+     * @see EventManager#post(Event)
+     */
+    public boolean post(EventManager eventManager, Map<String, Object> values, @Nullable Consumer<? super T> afterPost) {
+        checkNotNull(eventManager, "eventManager");
+        final T event = this.create(values);
+        try {
+            final boolean cancelled = eventManager.post(event);
+            if (afterPost != null) {
+                afterPost.accept(event);
+            }
+            return cancelled;
+        } finally {
+            this.release(event);
+        }
+    }
+
+    /**
+     * Counts the events released in debug mode which are still referenced,
+     * for example by a listener which kept them.
+     *
+     * <p>This requests a garbage collection first, and is only meant to be
+     * used for debugging.</p>
+     *
+     * @return The number of retained events
+     */
+    public int countRetainedEvents() {
+        System.gc();
+        synchronized (this.releasedEvents) {
+            final Iterator<WeakReference<T>> it = this.releasedEvents.iterator();
+            while (it.hasNext()) {
+                if (it.next().get() == null) {
+                    it.remove();
+                }
+            }
+            return this.releasedEvents.size();
+        }
+    }
+
+}
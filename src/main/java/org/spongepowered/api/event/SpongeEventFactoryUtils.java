@@ -36,6 +36,7 @@
 import org.spongepowered.api.util.generator.event.factory.ClassGeneratorProvider;
 import org.spongepowered.api.util.generator.event.factory.EventFactory;
 import org.spongepowered.api.util.generator.event.factory.NullPolicy;
+import org.spongepowered.api.util.generator.event.factory.PregeneratedClassProvider;
 import org.spongepowered.api.util.generator.event.factory.plugin.AccessorModifierEventFactoryPlugin;
 import org.spongepowered.api.util.generator.event.factory.plugin.EventFactoryPlugin;
 
@@ -50,7 +51,11 @@
  */
 public class SpongeEventFactoryUtils {
 
-    static final ClassGeneratorProvider factoryProvider = new ClassGeneratorProvider("org.spongepowered.api.event.impl");
+    static final String IMPL_PACKAGE = "org.spongepowered.api.event.impl";
+    static final NullPolicy NULL_POLICY = NullPolicy.NON_NULL_BY_DEFAULT;
+
+    static final ClassGeneratorProvider factoryProvider = new PregeneratedClassProvider(IMPL_PACKAGE,
+            SpongeEventFactoryUtils.class.getClassLoader());
 
     public static List<? extends EventFactoryPlugin> plugins = Lists.newArrayList(new AccessorModifierEventFactoryPlugin());
 
@@ -59,13 +64,13 @@ public class SpongeEventFactoryUtils {
 
                 @Override
                 public EventFactory<?> load(Class<?> type) {
-                    return factoryProvider.create(type, ReflectionUtils.getBaseClass(type).getActualClass(), plugins);
+                    return factoryProvider.create(type, getParentType(type), plugins);
                 }
             });
 
 
     static {
-        factoryProvider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        factoryProvider.setNullPolicy(NULL_POLICY);
     }
 
     /**
@@ -81,6 +86,30 @@ public static <T> T createEventImpl(Class<T> type, Map<String, Object> values) {
         return (T) factories.getUnchecked(type).apply(values);
     }
 
+    /**
+     * Gets the factory creating instances of the generated class of the given
+     * event interface.
+     *
+     * @param type The event interface
+     * @param <T> The type of event
+     * @return The factory
+     */
+    @SuppressWarnings("unchecked")
+    static <T> EventFactory<T> getFactory(Class<T> type) {
+        return (EventFactory<T>) factories.getUnchecked(type);
+    }
+
+    /**
+     * Gets the class the generated class of the given event interface
+     * extends.
+     *
+     * @param type The event interface
+     * @return The parent class
+     */
+    static Class<?> getParentType(Class<?> type) {
+        return ReflectionUtils.getBaseClass(type).getActualClass();
+    }
+
     /**
      * Creates a new {@link GameStateEvent} of the given type.
      *
@@ -109,6 +109,7 @@ public static Cause of(Iterable<NamedCause> iterable) {
     // lazy load
     @Nullable private Map<String, Object> namedObjectMap;
     @Nullable private ImmutableList<Object> immutableCauses;
+    @Nullable private CauseIndex index;
 
     Cause(NamedCause[] causes) {
         // basically, no validation, all the validation should take place calling this constructor
@@ -144,6 +145,11 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(Class<T> target) {
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            final int[] positions = index.getPositions(target);
+            return positions.length == 0 ? Optional.empty() : Optional.of((T) this.cause[positions[0]]);
+        }
         for (Object aCause : this.cause) {
             if (target.isInstance(aCause)) {
                 return Optional.of((T) aCause);
@@ -161,6 +167,11 @@ public <T> Optional<T> first(Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(Class<T> target) {
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            final int[] positions = index.getPositions(target);
+            return positions.length == 0 ? Optional.empty() : Optional.of((T) this.cause[positions[positions.length - 1]]);
+        }
         for (int i = this.cause.length - 1; i >= 0; i--) {
             if (target.isInstance(this.cause[i])) {
                 return Optional.of((T) this.cause[i]);
@@ -181,6 +192,11 @@ public <T> Optional<T> last(Class<T> target) {
     public <T> Optional<T> get(String named, Class<T> expected) {
         checkArgument(named != null, "The name cannot be null!");
         checkArgument(expected != null, "The expected class cannot be null!");
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            final int position = index.getPosition(named);
+            return position != -1 && expected.isInstance(this.cause[position]) ? Optional.of((T) this.cause[position]) : Optional.empty();
+        }
         for (int i = 0; i < this.names.length; i++) {
             if (this.names[i].equalsIgnoreCase(named)) {
                 final Object object = this.cause[i];
@@ -205,6 +221,16 @@ public Optional<?> before(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            final int[] positions = index.getPositions(clazz);
+            for (int i = 0; i < positions.length && i < 2; i++) {
+                if (positions[i] > 0) {
+                    return Optional.of(this.cause[positions[i] - 1]);
+                }
+            }
+            return Optional.empty();
+        }
         for (int i = 0; i < this.cause.length; i++) {
             if (clazz.isInstance(this.cause[i]) && i > 0) {
                 return Optional.of(this.cause[i - 1]);
@@ -225,6 +251,11 @@ public Optional<?> before(String named) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            final int position = index.getPosition(named);
+            return position > 0 ? Optional.of(this.cause[position - 1]) : Optional.empty();
+        }
         for (int i = 0; i < this.names.length; i++) {
             if (this.names[i].equalsIgnoreCase(named)) {
                 try {
@@ -250,6 +281,11 @@ public Optional<?> after(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            final int[] positions = index.getPositions(clazz);
+            return positions.length == 0 || positions[0] + 1 == this.cause.length ? Optional.empty() : Optional.of(this.cause[positions[0] + 1]);
+        }
         for (int i = 0; i < this.cause.length; i++) {
             if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
                 return Optional.of(this.cause[i + 1]);
@@ -289,6 +325,10 @@ public Optional<?> after(String named) {
      */
     public boolean containsType(Class<?> target) {
         checkArgument(target != null, "The provided class cannot be null!");
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            return index.getPositions(target).length != 0;
+        }
         for (Object aCause : this.cause) {
             if (target.isInstance(aCause)) {
                 return true;
@@ -323,6 +363,10 @@ public boolean contains(Object object) {
      */
     public boolean containsNamed(String named) {
         checkArgument(named != null, "The name cannot be null!");
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            return index.getPosition(named) != -1;
+        }
         for (String name : this.names) {
             if (name.equalsIgnoreCase(named)) {
                 return true;
@@ -341,6 +385,13 @@ public boolean containsNamed(String named) {
      */
     public <T> List<T> allOf(Class<T> target) {
         ImmutableList.Builder<T> builder = ImmutableList.builder();
+        final CauseIndex index = this.getIndex();
+        if (index != null) {
+            for (int position : index.getPositions(target)) {
+                builder.add((T) this.cause[position]);
+            }
+            return builder.build();
+        }
         for (Object aCause : this.cause) {
             if (target.isInstance(aCause)) {
                 builder.add((T) aCause);
@@ -448,6 +499,24 @@ public Map<String, Object> getNamedCauses() {
         return this.namedObjectMap;
     }
 
+    /**
+     * Gets the index of the objects of this cause, creating it on the first
+     * query. Causes with less than {@link CauseIndex#MIN_INDEXED_SIZE}
+     * objects aren't indexed.
+     *
+     * @return The index, or null if this cause isn't indexed
+     */
+    @Nullable
+    private CauseIndex getIndex() {
+        if (this.cause.length < CauseIndex.MIN_INDEXED_SIZE) {
+            return null;
+        }
+        if (this.index == null) {
+            this.index = new CauseIndex(this.cause, this.names);
+        }
+        return this.index;
+    }
+
     @Override
     public boolean equals(@Nullable Object object) {
         if (object instanceof Cause) {
@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.cause;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.reflect.TypeToken;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of the objects of a {@link Cause} by their type and name, so
+ * repeated queries don't have to scan the whole cause.
+ *
+ * <p>The objects are grouped by their runtime class once, when the index is
+ * created. The positions of the objects matching a queried type are then
+ * resolved from these groups on the first query for that type, and cached
+ * for the following ones.</p>
+ */
+final class CauseIndex {
+
+    /**
+     * The minimum amount of objects in a cause for it to be indexed, below
+     * which scanning the objects is cheaper than building the index.
+     */
+    static final int MIN_INDEXED_SIZE = 4;
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private static final ClassValue<Set<Class<?>>> SUPERTYPES = new ClassValue<Set<Class<?>>>() {
+
+        @Override
+        protected Set<Class<?>> computeValue(Class<?> type) {
+            return ImmutableSet.copyOf(TypeToken.of(type).getTypes().rawTypes());
+        }
+    };
+
+    private final Map<Class<?>, int[]> classPositions = Maps.newLinkedHashMap();
+    private final Map<String, Integer> namePositions = Maps.newHashMap();
+    private final Map<Class<?>, int[]> typePositions = Maps.newConcurrentMap();
+
+    CauseIndex(Object[] objects, String[] names) {
+        for (int i = 0; i < objects.length; i++) {
+            final int[] positions = this.classPositions.get(objects[i].getClass());
+            if (positions == null) {
+                this.classPositions.put(objects[i].getClass(), new int[] {i});
+            } else {
+                final int[] newPositions = Arrays.copyOf(positions, positions.length + 1);
+                newPositions[positions.length] = i;
+                this.classPositions.put(objects[i].getClass(), newPositions);
+            }
+            final String name = names[i].toLowerCase(Locale.ENGLISH);
+            if (!this.namePositions.containsKey(name)) {
+                this.namePositions.put(name, i);
+            }
+        }
+    }
+
+    /**
+     * Gets whether the given class is a supertype of, or the same type as,
+     * the other class. The supertypes of every class are resolved once and
+     * shared by all indexes.
+     *
+     * @param type The possible supertype
+     * @param subtype The possible subtype
+     * @return Whether the subtype is assignable to the type
+     */
+    static boolean isAssignable(Class<?> type, Class<?> subtype) {
+        return type == subtype || type == Object.class || SUPERTYPES.get(subtype).contains(type);
+    }
+
+    /**
+     * Gets the positions of the objects that are instances of the given type,
+     * in ascending order.
+     *
+     * @param type The type
+     * @return The positions of the objects
+     */
+    int[] getPositions(Class<?> type) {
+        int[] positions = this.typePositions.get(type);
+        if (positions == null) {
+            positions = this.resolvePositions(type);
+            this.typePositions.put(type, positions);
+        }
+        return positions;
+    }
+
+    /**
+     * Gets the position of the first object with the given name, ignoring
+     * case.
+     *
+     * @param name The name
+     * @return The position of the object, or -1 if there is none
+     */
+    int getPosition(String name) {
+        final Integer position = this.namePositions.get(name.toLowerCase(Locale.ENGLISH));
+        return position == null ? -1 : position;
+    }
+
+    private int[] resolvePositions(Class<?> type) {
+        int[] positions = NO_POSITIONS;
+        for (Map.Entry<Class<?>, int[]> entry : this.classPositions.entrySet()) {
+            if (isAssignable(type, entry.getKey())) {
+                final int[] classPositions = entry.getValue();
+                final int[] merged = Arrays.copyOf(positions, positions.length + classPositions.length);
+                System.arraycopy(classPositions, 0, merged, positions.length, classPositions.length);
+                positions = merged;
+            }
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+}
@@ -0,0 +1,265 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.dispatch;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.EventManager;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.util.generator.event.listener.AnnotatedEventListenerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Dispatches events to listeners using a baked dispatch model, for use by an
+ * {@link EventManager}.
+ *
+ * <p>For each concrete event class that is posted, all of the listeners
+ * listening to the class or any of its supertypes are flattened into a
+ * single array sorted by {@link Order}. The arrays are rebuilt whenever
+ * listeners are registered or unregistered, so posting an event never has to
+ * look at the listeners of any other event, and posting an event without any
+ * listeners only checks the length of an empty array.</p>
+ *
+ * <p>Annotated listener methods are invoked by listener classes generated
+ * by an {@link AnnotatedEventListenerFactory} instead of through
+ * reflection.</p>
+ *
+ * <p>Registration is synchronized, while posting events is lock free.</p>
+ */
+public class BakedEventDispatcher {
+
+    private static final RegisteredListener<?>[] NO_LISTENERS = new RegisteredListener<?>[0];
+
+    private final Logger logger;
+    private final AnnotatedEventListenerFactory listenerFactory;
+    private final List<RegisteredListener<?>> listeners = Lists.newArrayList();
+    private volatile Map<Class<?>, RegisteredListener<?>[]> bakedListeners = ImmutableMap.of();
+
+    /**
+     * Creates a new {@link BakedEventDispatcher}.
+     *
+     * @param logger The logger to log exceptions thrown by listeners to
+     */
+    public BakedEventDispatcher(Logger logger) {
+        this(logger, new AnnotatedEventListenerFactory("org.spongepowered.api.event.dispatch.generated"));
+    }
+
+    /**
+     * Creates a new {@link BakedEventDispatcher}.
+     *
+     * @param logger The logger to log exceptions thrown by listeners to
+     * @param listenerFactory The factory of listeners for annotated methods
+     */
+    public BakedEventDispatcher(Logger logger, AnnotatedEventListenerFactory listenerFactory) {
+        this.logger = checkNotNull(logger, "logger");
+        this.listenerFactory = checkNotNull(listenerFactory, "listenerFactory");
+    }
+
+    /**
+     * Registers the methods annotated with @{@link Listener} of the given
+     * object.
+     *
+     * <p>The listener methods and the types of their parameters must be
+     * public. Methods of a class that isn't public are invoked through
+     * reflection once the event passed their filters.</p>
+     *
+     * @param plugin The plugin instance
+     * @param obj The object
+     * @return The registered listeners
+     * @see EventManager#registerListeners(Object, Object)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<RegisteredListener<?>> registerListeners(Object plugin, Object obj) {
+        checkNotNull(plugin, "plugin");
+        checkNotNull(obj, "obj");
+        final List<RegisteredListener<?>> listeners = Lists.newArrayList();
+        for (Method method : obj.getClass().getMethods()) {
+            final Listener annotation = method.getAnnotation(Listener.class);
+            if (annotation != null) {
+                checkArgument(method.getParameterCount() >= 1 && Event.class.isAssignableFrom(method.getParameterTypes()[0]),
+                        "The first parameter of the listener method %s must be an event", method);
+                final Class<? extends Event> eventClass = (Class<? extends Event>) method.getParameterTypes()[0];
+                final EventListener<Event> listener = this.listenerFactory.create(obj, method);
+                listeners.add(new RegisteredListener(plugin, eventClass, annotation.order(), annotation.beforeModifications(), listener, obj));
+            }
+        }
+        registerAll(listeners);
+        return listeners;
+    }
+
+    /**
+     * Registers the given listener.
+     *
+     * @param listener The listener
+     */
+    public void register(RegisteredListener<?> listener) {
+        registerAll(Collections.singletonList(checkNotNull(listener, "listener")));
+    }
+
+    /**
+     * Registers all of the given listeners at once, baking the listeners of
+     * each event class only once.
+     *
+     * @param listeners The listeners
+     */
+    public void registerAll(Collection<? extends RegisteredListener<?>> listeners) {
+        checkNotNull(listeners, "listeners");
+        if (listeners.isEmpty()) {
+            return;
+        }
+        synchronized (this.listeners) {
+            this.listeners.addAll(listeners);
+            rebake();
+        }
+    }
+
+    /**
+     * Unregisters all of the listeners matching the given filter.
+     *
+     * @param filter The filter
+     */
+    public void unregister(Predicate<? super RegisteredListener<?>> filter) {
+        checkNotNull(filter, "filter");
+        synchronized (this.listeners) {
+            if (this.listeners.removeIf(filter)) {
+                rebake();
+            }
+        }
+    }
+
+    /**
+     * Unregisters all of the listeners registered for the given object.
+     *
+     * @param obj The object
+     * @see EventManager#unregisterListeners(Object)
+     */
+    public void unregisterListeners(Object obj) {
+        checkNotNull(obj, "obj");
+        unregister(listener -> listener.getHandle() == obj);
+    }
+
+    /**
+     * Unregisters all of the listeners of the given plugin.
+     *
+     * @param plugin The plugin instance
+     * @see EventManager#unregisterPluginListeners(Object)
+     */
+    public void unregisterPluginListeners(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        unregister(listener -> listener.getPlugin() == plugin);
+    }
+
+    /**
+     * Gets the listeners that are called for events of the given class, in
+     * the order they are called in.
+     *
+     * @param eventClass The concrete event class
+     * @return The listeners
+     */
+    public List<RegisteredListener<?>> getListeners(Class<? extends Event> eventClass) {
+        return ImmutableList.copyOf(getBakedListeners(checkNotNull(eventClass, "eventClass")));
+    }
+
+    private RegisteredListener<?>[] getBakedListeners(Class<?> eventClass) {
+        final RegisteredListener<?>[] listeners = this.bakedListeners.get(eventClass);
+        if (listeners != null) {
+            return listeners;
+        }
+        synchronized (this.listeners) {
+            RegisteredListener<?>[] baked = this.bakedListeners.get(eventClass);
+            if (baked == null) {
+                baked = bake(eventClass);
+                this.bakedListeners = ImmutableMap.<Class<?>, RegisteredListener<?>[]>builder()
+                        .putAll(this.bakedListeners)
+                        .put(eventClass, baked)
+                        .build();
+            }
+            return baked;
+        }
+    }
+
+    private void rebake() {
+        final ImmutableMap.Builder<Class<?>, RegisteredListener<?>[]> builder = ImmutableMap.builder();
+        for (Class<?> eventClass : this.bakedListeners.keySet()) {
+            builder.put(eventClass, bake(eventClass));
+        }
+        this.bakedListeners = builder.build();
+    }
+
+    private RegisteredListener<?>[] bake(Class<?> eventClass) {
+        final List<RegisteredListener<?>> listeners = Lists.newArrayList();
+        for (RegisteredListener<?> listener : this.listeners) {
+            if (listener.getEventClass().isAssignableFrom(eventClass)) {
+                listeners.add(listener);
+            }
+        }
+        if (listeners.isEmpty()) {
+            return NO_LISTENERS;
+        }
+        // The sort is stable, so listeners of the same order are called in
+        // the order they were registered in
+        Collections.sort(listeners);
+        return listeners.toArray(new RegisteredListener<?>[listeners.size()]);
+    }
+
+    /**
+     * Calls the given {@link Event} to all listeners that listen to it.
+     *
+     * @param event The event
+     * @return True if cancelled, false if not
+     * @see EventManager#post(Event)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean post(Event event) {
+        final RegisteredListener[] listeners = getBakedListeners(event.getClass());
+        if (listeners.length == 0) {
+            return false;
+        }
+        for (RegisteredListener listener : listeners) {
+            try {
+                listener.handle(event);
+            } catch (Throwable t) {
+                this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.getPlugin(), t);
+            }
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+}
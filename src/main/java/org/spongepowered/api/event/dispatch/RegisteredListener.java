@@ -0,0 +1,149 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.dispatch;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+
+/**
+ * An {@link EventListener} registered to a {@link BakedEventDispatcher},
+ * together with the details of its registration.
+ *
+ * @param <T> The type of event listened to
+ */
+public final class RegisteredListener<T extends Event> implements EventListener<T>, Comparable<RegisteredListener<?>> {
+
+    private final Object plugin;
+    private final Class<T> eventClass;
+    private final Order order;
+    private final boolean beforeModifications;
+    private final EventListener<? super T> listener;
+    private final Object handle;
+
+    /**
+     * Creates a new {@link RegisteredListener}.
+     *
+     * @param plugin The plugin instance
+     * @param eventClass The event to listen to
+     * @param order The order the listener will get called at
+     * @param beforeModifications Whether to call the listener before other
+     *     server modifications
+     * @param listener The listener to receive the events
+     * @param handle The object the listener was registered for, to
+     *     unregister it by
+     */
+    public RegisteredListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications, EventListener<? super T> listener,
+            Object handle) {
+        this.plugin = checkNotNull(plugin, "plugin");
+        this.eventClass = checkNotNull(eventClass, "eventClass");
+        this.order = checkNotNull(order, "order");
+        this.beforeModifications = beforeModifications;
+        this.listener = checkNotNull(listener, "listener");
+        this.handle = checkNotNull(handle, "handle");
+    }
+
+    /**
+     * Gets the plugin that registered this listener.
+     *
+     * @return The plugin instance
+     */
+    public Object getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets the class of the events this listener listens to, including
+     * subtypes.
+     *
+     * @return The event class
+     */
+    public Class<T> getEventClass() {
+        return this.eventClass;
+    }
+
+    /**
+     * Gets the {@link Order} this listener gets called at.
+     *
+     * @return The order
+     */
+    public Order getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Gets whether this listener should be called before other server
+     * modifications.
+     *
+     * @return Whether to call the listener before other modifications
+     */
+    public boolean isBeforeModifications() {
+        return this.beforeModifications;
+    }
+
+    /**
+     * Gets the listener receiving the events.
+     *
+     * @return The listener
+     */
+    public EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Gets the object this listener was registered for, which is the object
+     * declaring the listener method for annotated listeners and the listener
+     * itself otherwise.
+     *
+     * @return The handle of the listener
+     */
+    public Object getHandle() {
+        return this.handle;
+    }
+
+    @Override
+    public void handle(T event) throws Exception {
+        this.listener.handle(event);
+    }
+
+    @Override
+    public int compareTo(RegisteredListener<?> other) {
+        return this.order.compareTo(other.order);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("plugin", this.plugin)
+                .add("eventClass", this.eventClass.getName())
+                .add("order", this.order)
+                .add("listener", this.listener)
+                .toString();
+    }
+
+}
@@ -55,4 +55,31 @@
      *         applicable to the given {@link Contextual}. Otherwise false.
      */
     boolean matches(Context context, T subject);
+
+    /**
+     * Gets whether the contexts calculated by this calculator for a
+     * {@link Contextual} may be cached until this calculator invalidates
+     * them through the {@link ContextInvalidator}s registered with it.
+     *
+     * <p>Calculators whose contexts depend on state they can't observe
+     * changes of should not be cached, and are then invoked every time
+     * active contexts are calculated.</p>
+     *
+     * @return Whether the calculated contexts may be cached
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
+    /**
+     * Registers an invalidator this calculator should notify when the
+     * contexts it calculates for a {@link Contextual} may have changed, for
+     * example from a listener for the events changing the world or region
+     * of the contextual. This is called once by each cache of active
+     * contexts this calculator is registered with.
+     *
+     * @param invalidator The invalidator to notify
+     */
+    default void registerInvalidator(ContextInvalidator<T> invalidator) {
+    }
 }
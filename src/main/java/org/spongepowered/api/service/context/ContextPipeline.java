@@ -0,0 +1,279 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.context;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Calculates the active contexts of {@link Contextual}s with the
+ * {@link ContextCalculator}s registered to it, which services can use to
+ * implement {@link Contextual#getActiveContexts()}.
+ *
+ * <p>The contexts calculated by each calculator are cached per contextual if
+ * the calculator {@link ContextCalculator#isCacheable() is cacheable}, until
+ * it invalidates them through the {@link ContextInvalidator} registered with
+ * it. Only the calculators whose contexts have been invalidated, or which
+ * can't be cached, are invoked again when the active contexts of a
+ * contextual are requested. The time spent in each calculator is recorded
+ * in its {@link Metrics}.</p>
+ *
+ * <p>Contextuals are cached by identity, and only weakly referenced.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <T> The type of contextual
+ */
+public final class ContextPipeline<T extends Contextual> {
+
+    private final ConcurrentMap<T, Entry> entries = new MapMaker().weakKeys().makeMap();
+    private volatile Stage<T>[] stages = newStages(0);
+
+    /**
+     * Registers a calculator to this pipeline, after the calculators already
+     * registered.
+     *
+     * @param calculator The calculator
+     */
+    public void register(ContextCalculator<T> calculator) {
+        checkNotNull(calculator, "calculator");
+        final Stage<T> stage;
+        synchronized (this) {
+            final Stage<T>[] stages = Arrays.copyOf(this.stages, this.stages.length + 1);
+            stage = stages[stages.length - 1] = new Stage<>(this, calculator, stages.length - 1);
+            this.stages = stages;
+            this.entries.clear();
+        }
+        calculator.registerInvalidator(stage);
+    }
+
+    /**
+     * Gets the calculators registered to this pipeline, in order.
+     *
+     * @return The calculators
+     */
+    public List<ContextCalculator<T>> getCalculators() {
+        final ImmutableList.Builder<ContextCalculator<T>> calculators = ImmutableList.builder();
+        for (Stage<T> stage : this.stages) {
+            calculators.add(stage.calculator);
+        }
+        return calculators.build();
+    }
+
+    /**
+     * Gets the {@link Metrics} of the given calculator.
+     *
+     * @param calculator The calculator
+     * @return The metrics, if the calculator is registered to this pipeline
+     */
+    public Optional<Metrics> getMetrics(ContextCalculator<T> calculator) {
+        for (Stage<T> stage : this.stages) {
+            if (stage.calculator == calculator) {
+                return Optional.of(stage.metrics);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the active contexts of the given contextual.
+     *
+     * @param contextual The contextual
+     * @return The active contexts
+     */
+    public ContextSet getActiveContexts(T contextual) {
+        checkNotNull(contextual, "contextual");
+        final Stage<T>[] stages = this.stages;
+        Entry entry = this.entries.get(contextual);
+        if (entry == null || entry.contributions.length() != stages.length) {
+            entry = new Entry(stages.length);
+            this.entries.put(contextual, entry);
+        }
+
+        final ContextSet cached = entry.contexts;
+        boolean changed = cached == null;
+        for (int i = 0; i < stages.length; i++) {
+            final Contribution current = entry.contributions.get(i);
+            if (current != null && current.generation == stages[i].generation.get()) {
+                continue;
+            }
+            final long generation = stages[i].calculator.isCacheable() ? stages[i].generation.get() : Contribution.INVALID;
+            final Contribution next = new Contribution(stages[i].calculate(contextual), generation);
+            // Fails if the contribution has been invalidated during the calculation
+            entry.contributions.compareAndSet(i, current, next);
+            changed |= current == null || current.contexts == null || !current.contexts.equals(next.contexts);
+        }
+        if (!changed) {
+            return cached;
+        }
+
+        final Set<Context> contexts = new HashSet<>();
+        for (int i = 0; i < stages.length; i++) {
+            final Set<Context> contribution = entry.contributions.get(i).contexts;
+            if (contribution != null) {
+                contexts.addAll(contribution);
+            }
+        }
+        final ContextSet contextSet = ContextSet.of(contexts);
+        entry.contexts = contextSet;
+        return contextSet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Contextual> Stage<T>[] newStages(int length) {
+        return new Stage[length];
+    }
+
+    /**
+     * Metrics of the context calculations performed by a
+     * {@link ContextCalculator}.
+     */
+    public static final class Metrics {
+
+        private final LongAdder calculations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        Metrics() {
+        }
+
+        void record(long nanos) {
+            this.calculations.increment();
+            this.nanos.add(nanos);
+        }
+
+        /**
+         * Gets the number of times the calculator has been invoked.
+         *
+         * @return The number of calculations
+         */
+        public long getCalculationCount() {
+            return this.calculations.sum();
+        }
+
+        /**
+         * Gets the total time spent in the calculator.
+         *
+         * @param unit The unit to get the time in
+         * @return The total calculation time
+         */
+        public long getCalculationTime(TimeUnit unit) {
+            return unit.convert(this.nanos.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Resets these metrics.
+         */
+        public void reset() {
+            this.calculations.reset();
+            this.nanos.reset();
+        }
+
+    }
+
+    private static final class Stage<T extends Contextual> implements ContextInvalidator<T> {
+
+        final ContextPipeline<T> pipeline;
+        final ContextCalculator<T> calculator;
+        final int index;
+        final AtomicLong generation = new AtomicLong();
+        final Metrics metrics = new Metrics();
+
+        Stage(ContextPipeline<T> pipeline, ContextCalculator<T> calculator, int index) {
+            this.pipeline = pipeline;
+            this.calculator = calculator;
+            this.index = index;
+        }
+
+        Set<Context> calculate(T contextual) {
+            final Set<Context> accumulator = new HashSet<>();
+            final long start = System.nanoTime();
+            this.calculator.accumulateContexts(contextual, accumulator);
+            this.metrics.record(System.nanoTime() - start);
+            return ImmutableSet.copyOf(accumulator);
+        }
+
+        @Override
+        public void invalidate(T contextual) {
+            final Entry entry = this.pipeline.entries.get(contextual);
+            if (entry != null && this.index < entry.contributions.length()) {
+                // A new instance, so calculations in progress fail to replace it
+                Contribution current;
+                do {
+                    current = entry.contributions.get(this.index);
+                } while (!entry.contributions.compareAndSet(this.index, current,
+                        new Contribution(current == null ? null : current.contexts, Contribution.INVALID)));
+            }
+        }
+
+        @Override
+        public void invalidateAll() {
+            this.generation.incrementAndGet();
+        }
+
+    }
+
+    private static final class Entry {
+
+        final AtomicReferenceArray<Contribution> contributions;
+        @Nullable volatile ContextSet contexts;
+
+        Entry(int stages) {
+            this.contributions = new AtomicReferenceArray<>(stages);
+        }
+
+    }
+
+    private static final class Contribution {
+
+        static final long INVALID = -1;
+
+        // Null if the contribution was invalidated before being calculated
+        @Nullable final Set<Context> contexts;
+        final long generation;
+
+        Contribution(@Nullable Set<Context> contexts, long generation) {
+            this.contexts = contexts;
+            this.generation = generation;
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.context;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ForwardingSet;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable, interned set of {@link Context}s. There is only one instance
+ * of a context set for any given contexts, so context sets can be compared by
+ * identity, and their hash code is only computed once, making them cheap to
+ * use as cache keys.
+ *
+ * <p>Context sets are equal to, and have the same hash code as, any other
+ * {@link Set} containing the same contexts.</p>
+ */
+public final class ContextSet extends ForwardingSet<Context> {
+
+    private static final Interner<ContextSet> INTERNER = Interners.newWeakInterner();
+    private static final ContextSet EMPTY = INTERNER.intern(new ContextSet(ImmutableSet.of()));
+
+    private final ImmutableSet<Context> contexts;
+    private final int hashCode;
+
+    private ContextSet(ImmutableSet<Context> contexts) {
+        this.contexts = contexts;
+        this.hashCode = contexts.hashCode();
+    }
+
+    /**
+     * Gets the context set containing no contexts.
+     *
+     * @return The empty context set
+     */
+    public static ContextSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the context set containing the given contexts.
+     *
+     * @param contexts The contexts
+     * @return The context set
+     */
+    public static ContextSet of(Set<Context> contexts) {
+        checkNotNull(contexts, "contexts");
+        if (contexts instanceof ContextSet) {
+            return (ContextSet) contexts;
+        }
+        if (contexts.isEmpty()) {
+            return EMPTY;
+        }
+        return INTERNER.intern(new ContextSet(ImmutableSet.copyOf(contexts)));
+    }
+
+    @Override
+    protected Set<Context> delegate() {
+        return this.contexts;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object instanceof ContextSet) {
+            return this.hashCode == object.hashCode() && this.contexts.equals(((ContextSet) object).contexts);
+        }
+        return this.contexts.equals(object);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+}
@@ -26,12 +26,17 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
+import com.google.common.collect.ObjectArrays;
+import com.google.common.collect.Sets;
+import com.google.common.primitives.Longs;
 
 import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.context.ContextSet;
 import org.spongepowered.api.service.permission.option.OptionSubjectData;
 import org.spongepowered.api.util.Tristate;
 
@@ -42,6 +47,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -49,13 +55,24 @@
  * A subject data implementation storing all contained data in memory.
  *
  * <p>This class is thread-safe.
+ *
+ * <p>Contexts are stored as {@link ContextSet}s. The values resolved by
+ * {@link #getPermissionValue(Set, String)} are cached. Every instance has a
+ * generation, which is incremented by any change to its permissions or
+ * parents, and the cached values are stamped with the generations of the
+ * subject data they were resolved from, so the values resolved through
+ * parents stay up to date.</p>
  */
 public class MemorySubjectData implements OptionSubjectData {
 
+    private static final int CACHE_SIZE = 1024;
+
     private final PermissionService service;
     private final ConcurrentMap<Set<Context>, Map<String, String>> options = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, NodeTree> permissions = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, List<Map.Entry<String, String>>> parents = Maps.newConcurrentMap();
+    private final AtomicLong generation = new AtomicLong();
+    @Nullable private volatile Cache<Map.Entry<ContextSet, String>, CachedValue> permissionCache;
 
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
@@ -96,7 +113,7 @@ public Map<String, Boolean> getPermissions(Set<Context> contexts) {
 
     @Override
     public boolean setPermission(Set<Context> contexts, String permission, Tristate value) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextSet.of(contexts);
         while (true) {
             NodeTree oldTree = this.permissions.get(contexts);
             if (oldTree != null && oldTree.get(permission) == value) {
@@ -113,20 +130,105 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
                 }
             }
         }
+        this.generation.incrementAndGet();
         return true;
 
     }
 
+    /**
+     * Resolves the value of a permission in the given contexts, from the
+     * permissions set in this subject data, or else from the parents set in
+     * these contexts, in order. Parents whose subject data is a
+     * {@link MemorySubjectData} are resolved the same way, other parents are
+     * asked for their {@link Subject#getPermissionValue(Set, String)}.
+     *
+     * <p>The resolved values are cached until the permissions or parents of
+     * this subject data, or of any parent they were resolved from, change. Values depending on a parent whose
+     * subject data isn't a memory subject data aren't cached. Passing the
+     * contexts as a {@link ContextSet} avoids interning them on every
+     * call.</p>
+     *
+     * @param contexts The contexts to resolve the permission in
+     * @param permission The permission
+     * @return The value of the permission
+     */
+    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        return this.resolvePermission(ContextSet.of(contexts), permission, null).value;
+    }
+
+    private CachedValue resolvePermission(ContextSet contexts, String permission, @Nullable Set<MemorySubjectData> visited) {
+        Cache<Map.Entry<ContextSet, String>, CachedValue> cache = this.permissionCache;
+        if (cache == null) {
+            this.permissionCache = cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+        }
+        final long generation = this.generation.get();
+        final Map.Entry<ContextSet, String> key = Maps.immutableEntry(contexts, permission);
+        CachedValue cached = cache.getIfPresent(key);
+        if (cached != null && cached.isValid()) {
+            return cached;
+        }
+
+        Tristate value = Tristate.UNDEFINED;
+        boolean cacheable = true;
+        MemorySubjectData[] sources = {this};
+        long[] generations = {generation};
+        final NodeTree tree = this.permissions.get(contexts);
+        if (tree != null) {
+            value = tree.get(permission);
+        }
+        if (value == Tristate.UNDEFINED) {
+            if (visited == null) {
+                visited = Sets.newIdentityHashSet();
+            }
+            visited.add(this);
+            for (Subject parent : this.getParents(contexts)) {
+                final SubjectData parentData = parent.getSubjectData();
+                if (parentData instanceof MemorySubjectData) {
+                    if (visited.contains(parentData)) {
+                        // The parents form a cycle, the result depends on
+                        // where the resolution started
+                        cacheable = false;
+                        continue;
+                    }
+                    final CachedValue parentValue = ((MemorySubjectData) parentData).resolvePermission(contexts, permission, visited);
+                    value = parentValue.value;
+                    if (parentValue.sources == null) {
+                        cacheable = false;
+                    } else if (cacheable) {
+                        sources = ObjectArrays.concat(sources, parentValue.sources, MemorySubjectData.class);
+                        generations = Longs.concat(generations, parentValue.generations);
+                    }
+                } else {
+                    value = parent.getPermissionValue(contexts, permission);
+                    cacheable = false;
+                }
+                if (value != Tristate.UNDEFINED) {
+                    break;
+                }
+            }
+        }
+        cached = cacheable ? new CachedValue(value, sources, generations) : new CachedValue(value, null, null);
+        if (cacheable) {
+            cache.put(key, cached);
+        }
+        return cached;
+    }
+
     @Override
     public boolean clearPermissions() {
         boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
+        this.generation.incrementAndGet();
         return !wasEmpty;
     }
 
     @Override
     public boolean clearPermissions(Set<Context> context) {
-        return this.permissions.remove(context) != null;
+        if (this.permissions.remove(context) != null) {
+            this.generation.incrementAndGet();
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -155,7 +257,7 @@ public List<Subject> getParents(Set<Context> contexts) {
 
     @Override
     public boolean addParent(Set<Context> contexts, Subject parent) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextSet.of(contexts);
         while (true) {
             Map.Entry<String, String> newEnt = Maps.immutableEntry(parent.getContainingCollection().getIdentifier(),
                     parent.getIdentifier());
@@ -169,6 +271,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
             }
 
             if (updateCollection(this.parents, contexts, oldParents, newParents)) {
+                this.generation.incrementAndGet();
                 return true;
             }
         }
@@ -189,7 +292,7 @@ private <K, V> boolean updateCollection(ConcurrentMap<K, V> collection, K key, @
 
     @Override
     public boolean removeParent(Set<Context> contexts, Subject parent) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextSet.of(contexts);
         while (true) {
             Map.Entry<String, String> removeEnt = Maps.immutableEntry(parent.getContainingCollection().getIdentifier(),
                     parent.getIdentifier());
@@ -203,6 +306,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
             newParents.remove(removeEnt);
 
             if (updateCollection(this.parents, contexts, oldParents, Collections.unmodifiableList(newParents))) {
+                this.generation.incrementAndGet();
                 return true;
             }
         }
@@ -213,12 +317,17 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
     public boolean clearParents() {
         boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
+        this.generation.incrementAndGet();
         return !wasEmpty;
     }
 
     @Override
     public boolean clearParents(Set<Context> contexts) {
-        return this.parents.remove(contexts) != null;
+        if (this.parents.remove(contexts) != null) {
+            this.generation.incrementAndGet();
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -238,7 +347,7 @@ public boolean setOption(Set<Context> contexts, String key, @Nullable String val
         Map<String, String> newMap;
 
         if (origMap == null) {
-            if ((origMap = this.options.putIfAbsent(ImmutableSet.copyOf(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
+            if ((origMap = this.options.putIfAbsent(ContextSet.of(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
                 return true;
             }
         }
@@ -270,4 +379,31 @@ public boolean clearOptions() {
         this.options.clear();
         return true;
     }
+
+    private static final class CachedValue {
+
+        final Tristate value;
+        // The subject data the value was resolved from and their generations
+        // at the time, or null if the value can't be cached
+        @Nullable final MemorySubjectData[] sources;
+        @Nullable final long[] generations;
+
+        CachedValue(Tristate value, @Nullable MemorySubjectData[] sources, @Nullable long[] generations) {
+            this.value = value;
+            this.sources = sources;
+            this.generations = generations;
+        }
+
+        boolean isValid() {
+            if (this.sources == null || this.generations == null) {
+                return false;
+            }
+            for (int i = 0; i < this.sources.length; i++) {
+                if (this.sources[i].generation.get() != this.generations[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -24,28 +24,36 @@
  */
 package org.spongepowered.api.service.permission;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import org.spongepowered.api.util.Tristate;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.regex.Pattern;
 
+import javax.annotation.Nullable;
+
 /**
  * An immutable tree structure for determining node data. Any changes will create new copies of the necessary tree objects.
  * Keys are case-insensitive.
  * Segments of nodes are split by the '.' character
+ *
+ * <p>The children of each node are stored in arrays sorted by the hash codes of their segments. The values resolved by
+ * {@link #get(String)} are cached only by large trees, so repeated checks of the same node don't walk a large tree again
+ * while small trees stay lightweight.</p>
  */
 public class NodeTree {
 
     private static final Pattern SPLIT_REGEX = Pattern.compile("\\.");
-    private final Node rootNode;
+    private static final int CACHE_THRESHOLD = 64;
+    private static final int CACHE_SIZE = 256;
 
-
-    private NodeTree(Tristate value) {
-        this.rootNode = new Node(new HashMap<>());
-        this.rootNode.value = value;
-    }
+    private final Node rootNode;
+    @Nullable private Cache<String, Tristate> cache;
 
     private NodeTree(Node rootNode) {
         this.rootNode = rootNode;
@@ -69,22 +77,22 @@ public static NodeTree of(Map<String, Boolean> values) {
      * @return The newly created node tree
      */
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
-        NodeTree newTree = new NodeTree(defaultValue);
+        MutableNode rootNode = new MutableNode();
+        rootNode.value = defaultValue;
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
             String[] parts = SPLIT_REGEX.split(value.getKey().toLowerCase());
-            Node currentNode = newTree.rootNode;
+            MutableNode currentNode = rootNode;
             for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    Node newNode = new Node(new HashMap<>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
+                MutableNode child = currentNode.children.get(part);
+                if (child == null) {
+                    child = new MutableNode();
+                    currentNode.children.put(part, child);
                 }
+                currentNode = child;
             }
             currentNode.value = Tristate.fromBoolean(value.getValue());
         }
-        return newTree;
+        return new NodeTree(rootNode.compile());
     }
 
     /**
@@ -94,20 +102,51 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
      * @return The tristate value for the given node
      */
     public Tristate get(String node) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
+        if (this.rootNode.size < CACHE_THRESHOLD) {
+            return this.resolve(node.toLowerCase());
+        }
+        Cache<String, Tristate> cache = this.cache;
+        if (cache == null) {
+            this.cache = cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+        }
+        Tristate value = cache.getIfPresent(node);
+        if (value == null) {
+            value = this.resolve(node.toLowerCase());
+            cache.put(node, value);
+        }
+        return value;
+    }
+
+    private Tristate resolve(String node) {
+        // Trailing empty segments are ignored, as they are by SPLIT_REGEX
+        int end = node.length();
+        while (end > 0 && node.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end == 0 && !node.isEmpty()) {
+            return Tristate.UNDEFINED;
+        }
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        int start = 0;
+        while (true) {
+            int dot = node.indexOf('.', start);
+            if (dot == -1 || dot > end) {
+                dot = end;
+            }
+            currentNode = currentNode.getChild(node.substring(start, dot));
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            if (dot == end) {
+                break;
+            }
+            start = dot + 1;
         }
         return lastUndefinedVal;
-
     }
 
     /**
@@ -117,8 +156,8 @@ public Tristate get(String node) {
      */
     public Map<String, Boolean> asMap() {
         ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
-        for (Map.Entry<String, Node> ent : this.rootNode.children.entrySet()) {
-            populateMap(ret, ent.getKey(), ent.getValue());
+        for (int i = 0; i < this.rootNode.children.length; i++) {
+            populateMap(ret, this.rootNode.segments[i], this.rootNode.children[i]);
         }
         return ret.build();
     }
@@ -127,8 +166,8 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
         if (currentNode.value != Tristate.UNDEFINED) {
             values.put(prefix, currentNode.value.asBoolean());
         }
-        for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
-            populateMap(values, prefix + '.' + ent.getKey(), ent.getValue());
+        for (int i = 0; i < currentNode.children.length; i++) {
+            populateMap(values, prefix + '.' + currentNode.segments[i], currentNode.children[i]);
         }
     }
 
@@ -141,20 +180,18 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
      */
     public NodeTree withValue(String node, Tristate value) {
         String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<>(this.rootNode.children));
-        Node newPtr = newRoot;
-        Node currentPtr = this.rootNode;
-
-        newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
-        for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<>(oldChild.children) : new HashMap<>());
-            newPtr.children.put(part, newChild);
-            currentPtr = oldChild;
-            newPtr = newChild;
-        }
-        newPtr.value = value;
-        return new NodeTree(newRoot);
+        return new NodeTree(withValue(this.rootNode, parts, 0, value, this.rootNode.value));
+    }
+
+    private static Node withValue(@Nullable Node currentNode, String[] parts, int index, Tristate value, Tristate nodeValue) {
+        if (currentNode == null) {
+            currentNode = Node.EMPTY;
+        }
+        if (index == parts.length) {
+            return new Node(currentNode.hashes, currentNode.segments, currentNode.children, value);
+        }
+        Node newChild = withValue(currentNode.getChild(parts[index]), parts, index + 1, value, Tristate.UNDEFINED);
+        return currentNode.withChild(parts[index], newChild, nodeValue);
     }
 
     /**
@@ -173,11 +210,94 @@ public NodeTree withAll(Map<String, Tristate> values) {
 
     private static class Node {
 
-        final Map<String, Node> children;
-        Tristate value = Tristate.UNDEFINED;
+        static final Node EMPTY = new Node(new int[0], new String[0], new Node[0], Tristate.UNDEFINED);
+
+        // The hash codes of the segments of the children, in ascending order
+        final int[] hashes;
+        final String[] segments;
+        final Node[] children;
+        final Tristate value;
+        // The number of nodes in this subtree, including this node
+        final int size;
 
-        Node(Map<String, Node> children) {
+        Node(int[] hashes, String[] segments, Node[] children, Tristate value) {
+            this.hashes = hashes;
+            this.segments = segments;
             this.children = children;
+            this.value = value;
+            int size = 1;
+            for (Node child : children) {
+                size += child.size;
+            }
+            this.size = size;
+        }
+
+        @Nullable
+        Node getChild(String segment) {
+            int index = this.indexOf(segment);
+            return index < 0 ? null : this.children[index];
+        }
+
+        // Returns the index of the segment, or (-(insertion point) - 1) if it isn't a child
+        private int indexOf(String segment) {
+            int hash = segment.hashCode();
+            int index = Arrays.binarySearch(this.hashes, hash);
+            if (index < 0) {
+                return index;
+            }
+            // Segments with the same hash code are adjacent, so check all of them
+            while (index > 0 && this.hashes[index - 1] == hash) {
+                index--;
+            }
+            for (; index < this.hashes.length && this.hashes[index] == hash; index++) {
+                if (this.segments[index].equals(segment)) {
+                    return index;
+                }
+            }
+            return -index - 1;
+        }
+
+        Node withChild(String segment, Node child, Tristate value) {
+            int index = this.indexOf(segment);
+            if (index >= 0) {
+                Node[] children = this.children.clone();
+                children[index] = child;
+                return new Node(this.hashes, this.segments, children, value);
+            }
+            index = -index - 1;
+            int length = this.hashes.length;
+            int[] hashes = new int[length + 1];
+            String[] segments = new String[length + 1];
+            Node[] children = new Node[length + 1];
+            System.arraycopy(this.hashes, 0, hashes, 0, index);
+            System.arraycopy(this.segments, 0, segments, 0, index);
+            System.arraycopy(this.children, 0, children, 0, index);
+            hashes[index] = segment.hashCode();
+            segments[index] = segment;
+            children[index] = child;
+            System.arraycopy(this.hashes, index, hashes, index + 1, length - index);
+            System.arraycopy(this.segments, index, segments, index + 1, length - index);
+            System.arraycopy(this.children, index, children, index + 1, length - index);
+            return new Node(hashes, segments, children, value);
+        }
+    }
+
+    private static class MutableNode {
+
+        final Map<String, MutableNode> children = Maps.newHashMap();
+        Tristate value = Tristate.UNDEFINED;
+
+        Node compile() {
+            int size = this.children.size();
+            String[] segments = this.children.keySet().toArray(new String[size]);
+            Arrays.sort(segments, Comparator.comparingInt(String::hashCode));
+            int[] hashes = new int[size];
+            Node[] children = new Node[size];
+            for (int i = 0; i < size; i++) {
+                hashes[i] = segments[i].hashCode();
+                children[i] = this.children.get(segments[i]).compile();
+            }
+            return new Node(hashes, segments, children, this.value);
         }
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of the subjects of a {@link SubjectCollection} by the permissions
+ * explicitly set for them, which collections can maintain to answer
+ * {@link SubjectCollection#getAllWithPermission(String)} without checking
+ * every subject.
+ *
+ * <p>The subjects with a permission are kept in a concurrent map per
+ * permission, which is updated in place, so updating a subject takes constant
+ * time per changed permission however many subjects share it. Every change of
+ * the subjects with a permission changes its {@link #getVersion(String)
+ * version}, so callers can cache anything computed from them until a
+ * different version is returned.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public final class PermissionIndex {
+
+    // Shared by all indices, so versions are never reused
+    private static final AtomicLong NEXT_VERSION = new AtomicLong();
+
+    private final ConcurrentMap<String, IndexedPermission> subjectsByPermission = Maps.newConcurrentMap();
+    private final ConcurrentMap<Subject, Map<String, Boolean>> permissionsBySubject = Maps.newConcurrentMap();
+
+    /**
+     * Sets the permissions explicitly set for the given subject, replacing
+     * the ones previously indexed for it.
+     *
+     * @param subject The subject
+     * @param permissions The permissions of the subject
+     */
+    public synchronized void update(Subject subject, Map<String, Boolean> permissions) {
+        checkNotNull(subject, "subject");
+        checkNotNull(permissions, "permissions");
+        final ImmutableMap.Builder<String, Boolean> builder = ImmutableMap.builder();
+        final Set<String> keys = Sets.newHashSet();
+        for (Map.Entry<String, Boolean> entry : permissions.entrySet()) {
+            final String permission = entry.getKey().toLowerCase();
+            if (keys.add(permission)) {
+                builder.put(permission, entry.getValue());
+            }
+        }
+        final Map<String, Boolean> newPermissions = builder.build();
+        final Map<String, Boolean> oldPermissions = newPermissions.isEmpty() ? this.permissionsBySubject.remove(subject)
+                : this.permissionsBySubject.put(subject, newPermissions);
+
+        if (oldPermissions != null) {
+            for (Map.Entry<String, Boolean> entry : oldPermissions.entrySet()) {
+                if (!newPermissions.containsKey(entry.getKey())) {
+                    this.updateSubjects(entry.getKey(), subject, null);
+                }
+            }
+        }
+        for (Map.Entry<String, Boolean> entry : newPermissions.entrySet()) {
+            if (oldPermissions == null || !entry.getValue().equals(oldPermissions.get(entry.getKey()))) {
+                this.updateSubjects(entry.getKey(), subject, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Removes the given subject from this index.
+     *
+     * @param subject The subject
+     */
+    public void remove(Subject subject) {
+        this.update(subject, ImmutableMap.of());
+    }
+
+    /**
+     * Gets the subjects for which the given permission is explicitly set,
+     * and the value it is set to.
+     *
+     * @param permission The permission
+     * @return An unmodifiable, live view of the subjects and the value of
+     *     the permission
+     */
+    public Map<Subject, Boolean> getAllWithPermission(String permission) {
+        final IndexedPermission indexed = this.subjectsByPermission.get(permission.toLowerCase());
+        return indexed == null ? ImmutableMap.of() : indexed.view;
+    }
+
+    /**
+     * Gets the version of the subjects for which the given permission is
+     * explicitly set, which changes whenever they or the value of the
+     * permission for them change.
+     *
+     * <p>The version should be read before the subjects, so a change while
+     * they are read results in a different version afterwards.</p>
+     *
+     * @param permission The permission
+     * @return The version
+     */
+    public long getVersion(String permission) {
+        final IndexedPermission indexed = this.subjectsByPermission.get(permission.toLowerCase());
+        return indexed == null ? 0 : indexed.version;
+    }
+
+    private void updateSubjects(String permission, Subject subject, @Nullable Boolean value) {
+        IndexedPermission indexed = this.subjectsByPermission.get(permission);
+        if (value == null) {
+            if (indexed == null) {
+                return;
+            }
+            indexed.subjects.remove(subject);
+            if (indexed.subjects.isEmpty()) {
+                this.subjectsByPermission.remove(permission);
+                return;
+            }
+        } else {
+            if (indexed == null) {
+                indexed = new IndexedPermission();
+                this.subjectsByPermission.put(permission, indexed);
+            }
+            indexed.subjects.put(subject, value);
+        }
+        // Changed after the subjects, see getVersion
+        indexed.version = NEXT_VERSION.incrementAndGet();
+    }
+
+    private static final class IndexedPermission {
+
+        final ConcurrentMap<Subject, Boolean> subjects = Maps.newConcurrentMap();
+        final Map<Subject, Boolean> view = Collections.unmodifiableMap(this.subjects);
+        volatile long version = NEXT_VERSION.incrementAndGet();
+    }
+
+}
@@ -27,6 +27,7 @@
 import org.spongepowered.api.service.context.Context;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -90,4 +91,17 @@ public interface SubjectCollection {
      *         permission is set to
      */
     Map<Subject, Boolean> getAllWithPermission(Set<Context> contexts, String permission);
+
+    /**
+     * Gets the {@link PermissionIndex} maintained by this collection, if it
+     * maintains one. Collections maintaining an index keep it up to date with
+     * the permissions set globally for their subjects, so it can be used
+     * instead of {@link #getAllWithPermission(String)} by callers which check
+     * the same permissions repeatedly.
+     *
+     * @return The permission index, if available
+     */
+    default Optional<PermissionIndex> getPermissionIndex() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,221 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Represents a {@link TextTemplate} prepared for repeated application.
+ *
+ * <p>The arguments of the template are resolved to slot indices once, in the
+ * order of their first occurrence in the template, so parameters can be
+ * supplied positionally through {@link #apply(Object...)} without any name
+ * lookups. Literal elements and the default values of arguments are turned
+ * into immutable {@link Text} segments that are shared by every result,
+ * which means only the parameters themselves have to be wrapped on each
+ * application.</p>
+ *
+ * <p>The result of applying a compiled template is equal to the result of
+ * {@link TextTemplate#apply(Map)} with the same parameters.</p>
+ *
+ * @see TextTemplate#compile()
+ */
+public final class CompiledTextTemplate {
+
+    private final TextTemplate template;
+    private final ImmutableMap<String, Integer> slots;
+    private final ImmutableList<String> argumentNames;
+    // Text (shared literal), TextElement (applied to the builder) or Slot
+    private final Object[] segments;
+
+    CompiledTextTemplate(TextTemplate template) {
+        this.template = template;
+
+        Map<String, Integer> slots = new LinkedHashMap<>();
+        Object[] segments = new Object[template.elements.size()];
+        for (int i = 0; i < segments.length; i++) {
+            Object element = template.elements.get(i);
+            if (element instanceof TextTemplate.Arg) {
+                TextTemplate.Arg arg = (TextTemplate.Arg) element;
+                Integer index = slots.get(arg.name);
+                if (index == null) {
+                    index = slots.size();
+                    slots.put(arg.name, index);
+                }
+                segments[i] = new Slot(index, arg);
+            } else if (element instanceof Text || element instanceof TextElement) {
+                segments[i] = element;
+            } else {
+                segments[i] = Text.of(element.toString());
+            }
+        }
+        this.slots = ImmutableMap.copyOf(slots);
+        this.argumentNames = this.slots.keySet().asList();
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the {@link TextTemplate} this template was compiled from.
+     *
+     * @return The source template
+     */
+    public TextTemplate getTemplate() {
+        return this.template;
+    }
+
+    /**
+     * Returns the names of the arguments of the template, ordered by their
+     * slot index.
+     *
+     * @return The argument names
+     */
+    public List<String> getArgumentNames() {
+        return this.argumentNames;
+    }
+
+    /**
+     * Returns the slot index of the argument with the specified name, for use
+     * with {@link #apply(Object...)}.
+     *
+     * @param name The name of the argument
+     * @return The slot index, or -1 if the template has no such argument
+     */
+    public int getArgumentIndex(String name) {
+        Integer index = this.slots.get(checkNotNull(name, "name"));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Applies the specified positional parameters to this template and
+     * returns the result in a {@link Text.Builder}. The parameter at index
+     * {@code i} is used for the argument at slot {@code i}, see
+     * {@link #getArgumentNames()}. Missing and {@code null} parameters are
+     * treated like absent parameters in {@link TextTemplate#apply(Map)}.
+     *
+     * @param params Parameters to apply, ordered by slot index
+     * @return Text builder containing result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     */
+    public Text.Builder apply(Object... params) {
+        checkNotNull(params, "params");
+        // Note: The builder is initialized as null to avoid unnecessary Text nesting
+        Text.Builder builder = null;
+        for (Object segment : this.segments) {
+            if (segment instanceof Slot) {
+                Slot slot = (Slot) segment;
+                Object param = slot.index < params.length ? params[slot.index] : null;
+                Text text;
+                if (param != null) {
+                    text = slot.wrap(param);
+                } else {
+                    slot.arg.checkOptional();
+                    text = slot.defaultText;
+                }
+                if (text != null) {
+                    if (builder == null) {
+                        builder = Text.builder();
+                    }
+                    builder.append(text);
+                }
+            } else if (segment instanceof Text) {
+                if (builder == null) {
+                    builder = ((Text) segment).toBuilder();
+                } else {
+                    builder.append((Text) segment);
+                }
+            } else {
+                if (builder == null) {
+                    builder = Text.builder();
+                }
+                ((TextElement) segment).applyTo(builder);
+            }
+        }
+        return builder == null ? Text.builder() : builder;
+    }
+
+    /**
+     * Applies the specified named parameters to this template and returns the
+     * result in a {@link Text.Builder}.
+     *
+     * @param params Parameters to apply
+     * @return Text builder containing result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     * @see TextTemplate#apply(Map)
+     */
+    public Text.Builder apply(Map<String, ?> params) {
+        checkNotNull(params, "params");
+        Object[] values = new Object[this.argumentNames.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = params.get(this.argumentNames.get(i));
+        }
+        return apply(values);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("template", this.template)
+                .add("arguments", this.argumentNames)
+                .toString();
+    }
+
+    private static final class Slot {
+
+        final int index;
+        final TextTemplate.Arg arg;
+        @Nullable final Text defaultText;
+
+        Slot(int index, TextTemplate.Arg arg) {
+            this.index = index;
+            this.arg = arg;
+            this.defaultText = arg.defaultValue == null ? null : wrap(arg.defaultValue);
+        }
+
+        Text wrap(Object param) {
+            // wrap the parameter in the argument format
+            Text.Builder wrapper = Text.builder().format(this.arg.format);
+            if (param instanceof Text) {
+                wrapper.append((Text) param);
+            } else if (param instanceof TextElement) {
+                ((TextElement) param).applyTo(wrapper);
+            } else {
+                wrapper.append(Text.of(param.toString()));
+            }
+            return wrapper.build();
+        }
+
+    }
+
+}
@@ -56,6 +56,8 @@ public final class ScoreText extends Text {
     ScoreText(Score score) {
         this.score = checkNotNull(score, "score");
         this.override = Optional.empty();
+        // The score is mutable
+        this.cacheable = false;
     }
 
     /**
@@ -78,6 +80,8 @@ public final class ScoreText extends Text {
         super(format, children, clickAction, hoverAction, shiftClickAction);
         this.score = checkNotNull(score, "score");
         this.override = Optional.ofNullable(override);
+        // The score is mutable
+        this.cacheable = false;
     }
 
     /**
@@ -119,8 +123,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.score, this.override);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.score, this.override);
     }
 
     @Override
@@ -29,8 +29,10 @@
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
+import com.google.common.primitives.Primitives;
 import com.google.common.reflect.TypeToken;
 import ninja.leaping.configurate.objectmapping.serialize.TypeSerializers;
+import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataSerializable;
 import org.spongepowered.api.data.MemoryDataContainer;
@@ -46,6 +48,7 @@
 import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.api.text.selector.Selector;
 import org.spongepowered.api.text.serializer.TextConfigSerializer;
+import org.spongepowered.api.text.serializer.TextSerializer;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.text.translation.Translatable;
 import org.spongepowered.api.text.translation.Translation;
@@ -96,6 +99,8 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
     static final char NEW_LINE_CHAR = '\n';
     static final String NEW_LINE_STRING = "\n";
 
+    private static final int MAX_CACHED_SERIALIZERS = 4;
+
     /**
      * An unformatted {@link Text} that will start a new line (if supported).
      */
@@ -119,6 +124,25 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     final Iterable<Text> childrenIterable;
 
+    /**
+     * Whether the hash code and the serialized forms of this text are cached,
+     * which is only the case if it doesn't contain any mutable content such
+     * as a {@link Score}.
+     */
+    boolean cacheable;
+
+    /**
+     * The cached hash code, or {@code 0} if it wasn't computed yet.
+     */
+    private int hash;
+
+    /**
+     * The cached serialized forms of this text, alternating the
+     * {@link TextSerializer} and its output, or {@code null} if this text
+     * wasn't serialized yet. The array is replaced instead of modified.
+     */
+    @Nullable private volatile Object[] serialized;
+
     Text() {
         this.format = TextFormat.NONE; // TODO
         this.children = ImmutableList.of();
@@ -126,6 +150,7 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
         this.hoverAction = Optional.empty();
         this.shiftClickAction = Optional.empty();
         this.childrenIterable = () -> Iterators.singletonIterator(this);
+        this.cacheable = true;
     }
 
     /**
@@ -147,6 +172,35 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
         this.hoverAction = Optional.ofNullable(hoverAction);
         this.shiftClickAction = Optional.ofNullable(shiftClickAction);
         this.childrenIterable = () -> new TextIterator(this);
+        // Callbacks are registered again whenever the text is serialized
+        this.cacheable = isCacheable(children) && !(clickAction instanceof ClickAction.ExecuteCallback)
+                && (hoverAction == null || isCacheable(hoverAction));
+    }
+
+    /**
+     * Gets whether the hash code and serialized forms of a text containing
+     * the given value can be cached.
+     *
+     * @param value The value
+     * @return Whether the value is immutable
+     */
+    static boolean isCacheable(@Nullable Object value) {
+        if (value == null || value instanceof String || Primitives.isWrapperType(value.getClass())) {
+            return true;
+        } else if (value instanceof Text) {
+            return ((Text) value).cacheable;
+        } else if (value instanceof HoverAction) {
+            // The item stack of a ShowItem action is mutable
+            return !(value instanceof HoverAction.ShowItem) && isCacheable(((HoverAction<?>) value).getResult());
+        } else if (value instanceof Iterable) {
+            for (Object element : (Iterable<?>) value) {
+                if (!isCacheable(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return value instanceof HoverAction.ShowEntity.Ref || value instanceof CatalogType;
     }
 
     /**
@@ -256,7 +310,48 @@ public final boolean isEmpty() {
      * @return This text converted to plain text
      */
     public final String toPlain() {
-        return TextSerializers.PLAIN.serialize(this);
+        return this.toSerialized(TextSerializers.PLAIN);
+    }
+
+    /**
+     * Returns a string representation of this {@link Text} created by the
+     * given {@link TextSerializer}.
+     *
+     * <p>Unless this text contains mutable content, such as a
+     * {@link ScoreText}, the result is cached, so serializing the same text
+     * again with the same serializer is cheap.</p>
+     *
+     * @param serializer The serializer to use
+     * @return The string representation of this text
+     * @see TextSerializer#serialize(Text)
+     */
+    public final String toSerialized(TextSerializer serializer) {
+        checkNotNull(serializer, "serializer");
+        if (!this.cacheable) {
+            return serializer.serialize(this);
+        }
+
+        final Object[] serialized = this.serialized;
+        if (serialized != null) {
+            for (int i = 0; i < serialized.length; i += 2) {
+                if (serialized[i] == serializer) {
+                    return (String) serialized[i + 1];
+                }
+            }
+        }
+
+        final String result = serializer.serialize(this);
+        // Add the serializer first, dropping the oldest one if there are too
+        // many
+        final int length = serialized == null ? 0 : Math.min(serialized.length, (MAX_CACHED_SERIALIZERS - 1) * 2);
+        final Object[] newSerialized = new Object[length + 2];
+        newSerialized[0] = serializer;
+        newSerialized[1] = result;
+        if (length > 0) {
+            System.arraycopy(serialized, 0, newSerialized, 2, length);
+        }
+        this.serialized = newSerialized;
+        return result;
     }
 
     /**
@@ -289,7 +384,7 @@ public int getContentVersion() {
     public DataContainer toContainer() {
         return new MemoryDataContainer()
                 .set(Queries.CONTENT_VERSION, getContentVersion())
-                .set(Queries.JSON, TextSerializers.JSON.serialize(this));
+                .set(Queries.JSON, this.toSerialized(TextSerializers.JSON));
     }
 
     @Override
@@ -307,6 +402,9 @@ public boolean equals(@Nullable Object o) {
         }
 
         Text that = (Text) o;
+        if (this.hash != 0 && that.hash != 0 && this.hash != that.hash) {
+            return false;
+        }
         return this.format.equals(that.format)
                 && this.children.equals(that.children)
                 && this.clickAction.equals(that.clickAction)
@@ -315,7 +413,25 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
+    public final int hashCode() {
+        if (!this.cacheable) {
+            return this.computeHashCode();
+        }
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = this.computeHashCode();
+            this.hash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of this text, which is cached by
+     * {@link #hashCode()} unless this text contains mutable content.
+     *
+     * @return The hash code
+     */
+    int computeHashCode() {
         return Objects.hashCode(this.format, this.children, this.clickAction, this.hoverAction, this.shiftClickAction);
     }
 
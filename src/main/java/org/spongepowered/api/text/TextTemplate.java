@@ -81,6 +81,7 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
     final Text text;
     final String openArg;
     final String closeArg;
+    @Nullable private volatile CompiledTextTemplate compiled;
 
     TextTemplate(String openArg, String closeArg, Object[] elements) {
         this.openArg = openArg;
@@ -188,46 +189,26 @@ public Text.Builder apply() {
      * @throws TextTemplateArgumentException if required parameters are missing
      */
     public Text.Builder apply(Map<String, ?> params) {
-        return apply(null, params);
+        return compile().apply(params);
     }
 
-    private Text.Builder apply(@Nullable Text.Builder result, Map<String, ?> params) {
-        checkNotNull(params, "params");
-        for (Object element : this.elements) {
-            result = apply(element, result, params);
-        }
-        return Optional.ofNullable(result).orElse(Text.builder());
-    }
-
-    @Nullable
-    private Text.Builder apply(Object element, @Nullable Text.Builder builder, Map<String, ?> params) {
-        // Note: The builder is initialized as null to avoid unnecessary Text nesting
-        if (element instanceof Arg) {
-            Arg arg = (Arg) element;
-            Object param = params.get(arg.name);
-            if (param == null) {
-                arg.checkOptional();
-                if (arg.defaultValue != null) {
-                    builder = applyArg(arg.defaultValue, arg, builder);
-                }
-            } else {
-                builder = applyArg(param, arg, builder);
-            }
-        } else {
-            builder = apply(element, builder);
-        }
-        return builder;
-    }
-
-    private Text.Builder applyArg(Object param, Arg arg, @Nullable Text.Builder builder) {
-        if (builder == null) {
-            builder = Text.builder();
+    /**
+     * Returns the compiled form of this TextTemplate, which resolves the
+     * arguments to slot indices and shares the literal elements between
+     * results. It is created on first use and reused afterwards.
+     *
+     * <p>Elements that are neither a {@link Text} nor a {@link TextElement}
+     * are converted using {@link Object#toString()} when the template is
+     * compiled, rather than on every application.</p>
+     *
+     * @return The compiled template
+     */
+    public CompiledTextTemplate compile() {
+        CompiledTextTemplate compiled = this.compiled;
+        if (compiled == null) {
+            this.compiled = compiled = new CompiledTextTemplate(this);
         }
-        // wrap the parameter in the argument format
-        Text.Builder wrapper = Text.builder().format(arg.format);
-        apply(param, wrapper);
-        builder.append(wrapper.build());
-        return builder;
+        return compiled;
     }
 
     private Text.Builder apply(Object element, @Nullable Text.Builder builder) {
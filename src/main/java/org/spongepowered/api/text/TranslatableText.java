@@ -55,6 +55,7 @@ public final class TranslatableText extends Text {
     TranslatableText(Translation translation, ImmutableList<Object> arguments) {
         this.translation = checkNotNull(translation, "translation");
         this.arguments = checkNotNull(arguments, "arguments");
+        this.cacheable &= isCacheable(arguments);
     }
 
     /**
@@ -76,6 +77,7 @@ public final class TranslatableText extends Text {
         super(format, children, clickAction, hoverAction, shiftClickAction);
         this.translation = checkNotNull(translation, "translation");
         this.arguments = checkNotNull(arguments, "arguments");
+        this.cacheable &= isCacheable(arguments);
     }
 
     /**
@@ -117,8 +119,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.translation, this.arguments);
+    int computeHashCode() {
+        return Objects.hashCode(super.computeHashCode(), this.translation, this.arguments);
     }
 
     @Override
@@ -0,0 +1,240 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Sets;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.DisplaceEntityEvent;
+import org.spongepowered.api.event.entity.living.humanoid.player.RespawnPlayerEvent;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * An abstract implementation of {@link MessageChannel} whose members only
+ * change when players join or leave the server, respawn, or move to another
+ * world.
+ *
+ * <p>Once an {@link Invalidator} was registered through
+ * {@link #registerInvalidator(Object)}, the members are computed once and
+ * reused until the global membership version is increased by
+ * {@link #invalidateMembers()}, so sending messages to the channel doesn't
+ * have to collect them again every time. Until then, the members are
+ * computed each time they are requested.</p>
+ */
+public abstract class CachedMessageChannel implements MessageChannel {
+
+    private static final AtomicLong membershipVersion = new AtomicLong();
+    // The players who left the server, but may still be online
+    private static final Set<UUID> pendingRemovals = Sets.newConcurrentHashSet();
+    private static volatile boolean invalidatorRegistered;
+
+    /**
+     * Gets the current membership version, which is increased whenever the
+     * members of cached channels may have changed.
+     *
+     * @return The membership version
+     */
+    public static long getMembershipVersion() {
+        return membershipVersion.get();
+    }
+
+    /**
+     * Invalidates the cached members of all channels, which are computed
+     * again when they are requested next.
+     */
+    public static void invalidateMembers() {
+        membershipVersion.incrementAndGet();
+    }
+
+    /**
+     * Registers an {@link Invalidator} for the given plugin, which enables
+     * the caching of members for all channels that don't override
+     * {@link #isMembershipCached()}.
+     *
+     * @param plugin The plugin instance
+     */
+    public static synchronized void registerInvalidator(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        if (invalidatorRegistered) {
+            return;
+        }
+        Sponge.getEventManager().registerListeners(plugin, new Invalidator());
+        invalidateMembers();
+        invalidatorRegistered = true;
+    }
+
+    /**
+     * Gets whether the online players are currently tracked by a registered
+     * {@link Invalidator}. This is not the case before it was registered,
+     * and while a player who left the server is still online.
+     *
+     * @return Whether the online players are tracked
+     */
+    public static boolean isMembershipTracked() {
+        return invalidatorRegistered && (pendingRemovals.isEmpty() || clearRemovedPlayers());
+    }
+
+    /**
+     * Forgets the players who left the server once they are no longer
+     * online, and invalidates the members if any was forgotten.
+     *
+     * @return Whether all players who left the server were forgotten
+     */
+    private static boolean clearRemovedPlayers() {
+        final Server server = Sponge.getServer();
+        if (pendingRemovals.removeIf(uniqueId -> !server.getPlayer(uniqueId).isPresent())) {
+            invalidateMembers();
+        }
+        return pendingRemovals.isEmpty();
+    }
+
+    @Nullable private volatile Members members;
+
+    /**
+     * Computes the members of this channel. The returned collection is
+     * cached until the members are invalidated, so it must not be modified
+     * afterwards.
+     *
+     * @return The members of this channel
+     */
+    protected abstract Collection<MessageReceiver> computeMembers();
+
+    /**
+     * Gets whether the members of this channel are cached. If not, they are
+     * computed each time they are requested.
+     *
+     * <p>By default, the members are cached while the online players are
+     * tracked, see {@link #isMembershipTracked()}.</p>
+     *
+     * @return Whether the members are cached
+     */
+    public boolean isMembershipCached() {
+        return isMembershipTracked();
+    }
+
+    @Override
+    public Collection<MessageReceiver> getMembers() {
+        if (!this.isMembershipCached()) {
+            // Don't keep players who may leave the server meanwhile
+            this.members = null;
+            return this.computeMembers();
+        }
+        // Read the version first, so an invalidation while the members are
+        // computed makes the next call compute them again
+        final long version = membershipVersion.get();
+        Members members = this.members;
+        if (members == null || members.version != version) {
+            members = new Members(version, this.computeMembers());
+            this.members = members;
+        }
+        return members.members;
+    }
+
+    private static final class Members {
+
+        final long version;
+        final Collection<MessageReceiver> members;
+
+        Members(long version, Collection<MessageReceiver> members) {
+            this.version = version;
+            this.members = members;
+        }
+    }
+
+    /**
+     * Invalidates the cached members of all channels when a player joins or
+     * leaves the server, respawns or moves to another world.
+     *
+     * <p>A player who leaves the server is still online while the
+     * disconnect event is posted, so the members are not cached until the
+     * player is no longer returned by {@link Server#getPlayer(UUID)}, when
+     * they are invalidated again. This doesn't depend on any scheduled task,
+     * so it also happens while the server shuts down.</p>
+     */
+    public static final class Invalidator {
+
+        Invalidator() {
+        }
+
+        /**
+         * Invalidates the members when a player joins.
+         *
+         * @param event The event
+         */
+        @Listener(order = Order.POST)
+        public void onJoin(ClientConnectionEvent.Join event) {
+            // A previous connection of the player was removed before
+            pendingRemovals.remove(event.getTargetEntity().getUniqueId());
+            invalidateMembers();
+        }
+
+        /**
+         * Stops caching the members until the player who leaves was removed
+         * from the online players.
+         *
+         * @param event The event
+         */
+        @Listener(order = Order.POST)
+        public void onDisconnect(ClientConnectionEvent.Disconnect event) {
+            pendingRemovals.add(event.getTargetEntity().getUniqueId());
+            invalidateMembers();
+        }
+
+        /**
+         * Invalidates the members when a player respawns, which may move the
+         * player to another world or replace the player instance.
+         *
+         * @param event The event
+         */
+        @Listener(order = Order.POST)
+        public void onRespawn(RespawnPlayerEvent event) {
+            invalidateMembers();
+        }
+
+        /**
+         * Invalidates the members when a player moves to another world.
+         *
+         * @param event The event
+         */
+        @Listener(order = Order.POST)
+        public void onTeleport(DisplaceEntityEvent.Teleport.TargetPlayer event) {
+            if (!event.getFromTransform().getExtent().equals(event.getToTransform().getExtent())) {
+                invalidateMembers();
+            }
+        }
+    }
+
+}
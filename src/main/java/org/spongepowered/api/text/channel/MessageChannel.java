@@ -30,6 +30,7 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.impl.DelegateMutableMessageChannel;
+import org.spongepowered.api.text.channel.impl.TransformOverrides;
 import org.spongepowered.api.text.channel.type.CombinedMessageChannel;
 import org.spongepowered.api.text.channel.type.FixedMessageChannel;
 import org.spongepowered.api.text.channel.type.PermissionMessageChannel;
@@ -57,7 +58,13 @@ public interface MessageChannel {
     /**
      * A channel with all online players as members.
      */
-    MessageChannel TO_PLAYERS = () -> ImmutableSet.copyOf(Sponge.getGame().getServer().getOnlinePlayers());
+    MessageChannel TO_PLAYERS = new CachedMessageChannel() {
+
+        @Override
+        protected Collection<MessageReceiver> computeMembers() {
+            return ImmutableSet.copyOf(Sponge.getGame().getServer().getOnlinePlayers());
+        }
+    };
     /**
      * A channel with the server console as a member.
      */
@@ -65,10 +72,16 @@ public interface MessageChannel {
     /**
      * A channel with all online players, as well as the server console, as members.
      */
-    MessageChannel TO_ALL = () -> ImmutableSet.<MessageReceiver>builder()
-            .addAll(Sponge.getGame().getServer().getOnlinePlayers())
-            .add(Sponge.getGame().getServer().getConsole())
-            .build();
+    MessageChannel TO_ALL = new CachedMessageChannel() {
+
+        @Override
+        protected Collection<MessageReceiver> computeMembers() {
+            return ImmutableSet.<MessageReceiver>builder()
+                    .addAll(Sponge.getGame().getServer().getOnlinePlayers())
+                    .add(Sponge.getGame().getServer().getConsole())
+                    .build();
+        }
+    };
 
     /**
      * Creates a message channel that targets all subjects with the given permission.
@@ -175,6 +188,11 @@ default void send(@Nullable Object sender, Text original) {
     /**
      * Send a message to this channel, transforming and sending it to the members.
      *
+     * <p>If this channel is {@link #isRecipientIndependent() recipient
+     * independent}, the message is only transformed once, and the same
+     * {@link Text} instance is sent to all members, so its serialized form
+     * only has to be created once as well.</p>
+     *
      * @param sender The sender of the message
      * @param original The original message to send
      * @param type The type of message
@@ -182,11 +200,21 @@ default void send(@Nullable Object sender, Text original) {
     default void send(@Nullable Object sender, Text original, ChatType type) {
         checkNotNull(original, "original text");
         checkNotNull(type, "type");
+        final boolean recipientIndependent = this.isRecipientIndependent();
+        Optional<Text> broadcast = null;
         for (MessageReceiver member : this.getMembers()) {
+            final Optional<Text> message;
+            if (!recipientIndependent) {
+                message = this.transformMessage(sender, member, original, type);
+            } else if (broadcast != null) {
+                message = broadcast;
+            } else {
+                message = broadcast = this.transformMessage(sender, member, original, type);
+            }
             if (member instanceof ChatTypeMessageReceiver) {
-                this.transformMessage(sender, member, original, type).ifPresent(text -> ((ChatTypeMessageReceiver) member).sendMessage(type, text));
+                message.ifPresent(text -> ((ChatTypeMessageReceiver) member).sendMessage(type, text));
             } else {
-                this.transformMessage(sender, member, original, type).ifPresent(member::sendMessage);
+                message.ifPresent(member::sendMessage);
             }
         }
     }
@@ -204,6 +232,23 @@ default Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return Optional.of(original);
     }
 
+    /**
+     * Gets whether the result of
+     * {@link #transformMessage(Object, MessageReceiver, Text, ChatType)}
+     * doesn't depend on the recipient, so a message sent to this channel
+     * only has to be transformed once for all members.
+     *
+     * <p>The default behaviour of this method is to return {@code true} if
+     * the transformMessage method isn't overridden, and {@code false}
+     * otherwise. Channels that override it without looking at the
+     * recipient should override this method as well.</p>
+     *
+     * @return Whether the transformed message is the same for all members
+     */
+    default boolean isRecipientIndependent() {
+        return TransformOverrides.isDeclaredBy(this, MessageChannel.class);
+    }
+
     /**
      * Gets a collection of all members in this channel.
      *
@@ -55,6 +55,14 @@ public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return this.delegate.transformMessage(sender, recipient, original, type);
     }
 
+    @Override
+    public boolean isRecipientIndependent() {
+        if (!TransformOverrides.isDeclaredBy(this, DelegateMessageChannel.class)) {
+            return false;
+        }
+        return this.delegate.isRecipientIndependent();
+    }
+
     @Override
     public Collection<MessageReceiver> getMembers() {
         return this.delegate.getMembers();
@@ -63,4 +63,12 @@ public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return this.delegate.transformMessage(sender, recipient, original, type);
     }
 
+    @Override
+    public boolean isRecipientIndependent() {
+        if (!TransformOverrides.isDeclaredBy(this, DelegateMutableMessageChannel.class)) {
+            return false;
+        }
+        return this.delegate.isRecipientIndependent();
+    }
+
 }
@@ -0,0 +1,74 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel.impl;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.channel.MessageReceiver;
+import org.spongepowered.api.text.chat.ChatType;
+
+/**
+ * Utilities to find out which class declares the
+ * {@link MessageChannel#transformMessage(Object, MessageReceiver, Text, ChatType)}
+ * method of a channel, to tell whether a subclass changed how messages are
+ * transformed.
+ *
+ * @see MessageChannel#isRecipientIndependent()
+ */
+public final class TransformOverrides {
+
+    private static final ClassValue<Class<?>> declaringClasses = new ClassValue<Class<?>>() {
+
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            try {
+                return type.getMethod("transformMessage", Object.class, MessageReceiver.class, Text.class, ChatType.class)
+                        .getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError(e);
+            }
+        }
+    };
+
+    /**
+     * Gets whether the transformMessage method of the given channel is
+     * declared by the given type, and not overridden by a subclass.
+     *
+     * @param channel The channel
+     * @param type The type which should declare the method
+     * @return Whether the method is declared by the type
+     */
+    public static boolean isDeclaredBy(MessageChannel channel, Class<?> type) {
+        checkNotNull(channel, "channel");
+        checkNotNull(type, "type");
+        return declaringClasses.get(channel.getClass()) == type;
+    }
+
+    private TransformOverrides() {
+    }
+
+}
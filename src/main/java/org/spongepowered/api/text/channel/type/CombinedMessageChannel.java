@@ -26,8 +26,10 @@
 
 import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.CachedMessageChannel;
 import org.spongepowered.api.text.channel.MessageChannel;
 import org.spongepowered.api.text.channel.MessageReceiver;
+import org.spongepowered.api.text.channel.impl.TransformOverrides;
 import org.spongepowered.api.text.chat.ChatType;
 import org.spongepowered.api.util.GuavaCollectors;
 
@@ -44,9 +46,10 @@
  * {@code channels[n-1].transformMessage(channels[n-2].transformMessage(channels[...]
  * .transformMessage(channels[0].transformMessage(input))))} would occur)
  */
-public class CombinedMessageChannel implements MessageChannel {
+public class CombinedMessageChannel extends CachedMessageChannel {
 
     protected final Collection<MessageChannel> channels;
+    private final boolean cachedChannels;
 
     public CombinedMessageChannel(MessageChannel... channels) {
         this(Arrays.asList(channels));
@@ -54,6 +57,7 @@ public CombinedMessageChannel(MessageChannel... channels) {
 
     public CombinedMessageChannel(Collection<MessageChannel> channels) {
         this.channels = ImmutableSet.copyOf(channels);
+        this.cachedChannels = this.channels.stream().allMatch(channel -> channel instanceof CachedMessageChannel);
     }
 
     @Override
@@ -66,8 +70,46 @@ public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return Optional.ofNullable(text);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A combined channel is recipient independent if all of its channels
+     * are.</p>
+     */
     @Override
-    public Collection<MessageReceiver> getMembers() {
+    public boolean isRecipientIndependent() {
+        if (!TransformOverrides.isDeclaredBy(this, CombinedMessageChannel.class)) {
+            return false;
+        }
+        for (MessageChannel channel : this.channels) {
+            if (!channel.isRecipientIndependent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The members of a combined channel are cached if the members of all
+     * of its channels are.</p>
+     */
+    @Override
+    public boolean isMembershipCached() {
+        if (!this.cachedChannels) {
+            return false;
+        }
+        for (MessageChannel channel : this.channels) {
+            if (!((CachedMessageChannel) channel).isMembershipCached()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Collection<MessageReceiver> computeMembers() {
         return this.channels.stream()
                 .flatMap(channel -> channel.getMembers().stream())
                 .collect(GuavaCollectors.toImmutableSet());
@@ -26,21 +26,44 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.service.permission.PermissionIndex;
 import org.spongepowered.api.service.permission.PermissionService;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectCollection;
+import org.spongepowered.api.text.channel.CachedMessageChannel;
 import org.spongepowered.api.text.channel.MessageChannel;
 import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.util.GuavaCollectors;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
 
 /**
  * A message channel that targets all subjects with the given permission.
+ *
+ * <p>For subject collections maintaining a {@link PermissionIndex}, the
+ * subjects with the permission are taken from the index, and are only
+ * collected again when the {@link PermissionIndex#getVersion(String) version}
+ * of the permission in that collection changes.</p>
+ *
+ * <p>If all collections maintain an index and the online players are
+ * tracked, see {@link CachedMessageChannel#isMembershipTracked()}, the
+ * members are cached as well. They are only collected again when the
+ * subjects with the permission change, or when players join, leave or
+ * change worlds.</p>
  */
 public class PermissionMessageChannel implements MessageChannel {
 
     protected final String permission;
+    private final Map<String, IndexedSubjects> indexedSubjects = Maps.newConcurrentMap();
+    @Nullable private volatile Members members;
 
     public PermissionMessageChannel(String permission) {
         this.permission = checkNotNull(permission, "permission");
@@ -53,13 +76,96 @@ public String getPermission() {
     @Override
     public Collection<MessageReceiver> getMembers() {
         PermissionService service = Sponge.getGame().getServiceManager().provideUnchecked(PermissionService.class);
+        Collection<SubjectCollection> collections = service.getKnownSubjects().values();
+
+        // Read the version first, so an invalidation while the members are
+        // collected makes the next call collect them again
+        final long version = CachedMessageChannel.getMembershipVersion();
+        final boolean tracked = CachedMessageChannel.isMembershipTracked();
+        Members members = this.members;
+        if (tracked && members != null && members.isValid(version, collections, this.permission)) {
+            return members.members;
+        }
+
+        ImmutableSet.Builder<MessageReceiver> builder = ImmutableSet.builder();
+        Map<String, Long> indexed = Maps.newHashMap();
+        boolean cacheable = tracked;
+        for (SubjectCollection collection : collections) {
+            Optional<PermissionIndex> index = collection.getPermissionIndex();
+            if (index.isPresent()) {
+                indexed.put(collection.getIdentifier(), index.get().getVersion(this.permission));
+            } else {
+                cacheable = false;
+            }
+            for (Subject subject : this.getSubjectsWithPermission(collection)) {
+                subject.getCommandSource().ifPresent(builder::add);
+            }
+        }
+        members = new Members(version, indexed, builder.build());
+        // Don't keep players who may leave the server meanwhile
+        this.members = cacheable ? members : null;
+        return members.members;
+    }
+
+    private List<Subject> getSubjectsWithPermission(SubjectCollection collection) {
+        Optional<PermissionIndex> index = collection.getPermissionIndex();
+        if (!index.isPresent()) {
+            return getGrantedSubjects(collection.getAllWithPermission(this.permission));
+        }
+        // Read the version first, see PermissionIndex#getVersion
+        long version = index.get().getVersion(this.permission);
+        IndexedSubjects indexed = this.indexedSubjects.get(collection.getIdentifier());
+        if (indexed == null || indexed.version != version) {
+            indexed = new IndexedSubjects(version, getGrantedSubjects(index.get().getAllWithPermission(this.permission)));
+            this.indexedSubjects.put(collection.getIdentifier(), indexed);
+        }
+        return indexed.granted;
+    }
+
+    private static List<Subject> getGrantedSubjects(Map<Subject, Boolean> subjects) {
+        return subjects.entrySet().stream()
+                .filter(Map.Entry::getValue)
+                .map(Map.Entry::getKey)
+                .collect(GuavaCollectors.toImmutableList());
+    }
+
+    private static final class Members {
+
+        final long version;
+        // The versions of the permission in each collection
+        final Map<String, Long> indexed;
+        final Collection<MessageReceiver> members;
+
+        Members(long version, Map<String, Long> indexed, Collection<MessageReceiver> members) {
+            this.version = version;
+            this.indexed = indexed;
+            this.members = members;
+        }
+
+        boolean isValid(long version, Collection<SubjectCollection> collections, String permission) {
+            if (version != this.version || collections.size() != this.indexed.size()) {
+                return false;
+            }
+            for (SubjectCollection collection : collections) {
+                Optional<PermissionIndex> index = collection.getPermissionIndex();
+                Long indexedVersion = this.indexed.get(collection.getIdentifier());
+                if (!index.isPresent() || indexedVersion == null || indexedVersion != index.get().getVersion(permission)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class IndexedSubjects {
+
+        final long version;
+        final List<Subject> granted;
 
-        return service.getKnownSubjects().values().stream()
-                .flatMap(input -> input.getAllWithPermission(this.permission).entrySet().stream()
-                        .filter(Map.Entry::getValue)
-                        .map(entry -> entry.getKey().getCommandSource().orElse(null))
-                        .filter(source -> source != null))
-                .collect(GuavaCollectors.toImmutableSet());
+        IndexedSubjects(long version, List<Subject> granted) {
+            this.version = version;
+            this.granted = granted;
+        }
     }
 
 }
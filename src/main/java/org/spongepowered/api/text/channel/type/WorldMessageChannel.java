@@ -26,7 +26,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.channel.CachedMessageChannel;
 import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.world.World;
 
@@ -36,7 +36,7 @@
 /**
  * A message channel that targets all subjects within the given {@link World}.
  */
-public class WorldMessageChannel implements MessageChannel {
+public class WorldMessageChannel extends CachedMessageChannel {
 
     private final Collection<MessageReceiver> members;
 
@@ -46,7 +46,7 @@ public WorldMessageChannel(World world) {
     }
 
     @Override
-    public Collection<MessageReceiver> getMembers() {
+    protected Collection<MessageReceiver> computeMembers() {
         return this.members;
     }
 
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.text.serializer;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.spongepowered.api.text.Text;
 
 /**
@@ -37,6 +39,11 @@ public interface SafeTextSerializer extends TextSerializer {
     @Override
     Text deserialize(String input);
 
+    @Override
+    default Text deserialize(CharSequence input) {
+        return this.deserialize(checkNotNull(input, "input").toString());
+    }
+
     @Override
     default Text deserializeUnchecked(String input) {
         return deserialize(input);
@@ -24,8 +24,19 @@
  */
 package org.spongepowered.api.text.serializer;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.network.ChannelBuf;
 import org.spongepowered.api.text.Text;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Represents a serializer for {@link Text} instances that converts an input
  * string into a formatted {@link Text} instance, or a {@link Text} instance
@@ -43,6 +54,62 @@ public interface TextSerializer {
      */
     String serialize(Text text);
 
+    /**
+     * Appends the string representation of the provided {@link Text}, as
+     * returned by {@link #serialize(Text)}, to the given {@link Appendable}.
+     *
+     * <p>The default implementation appends the (cached) result of
+     * {@link Text#toSerialized(TextSerializer)}. Serializers should override
+     * it to write the text directly, without creating the whole string
+     * first.</p>
+     *
+     * @param text The text to serialize
+     * @param output The output to append the string representation to
+     * @throws IOException If the output throws an exception
+     */
+    default void serialize(Text text, Appendable output) throws IOException {
+        checkNotNull(output, "output");
+        output.append(text.toSerialized(this));
+    }
+
+    /**
+     * Writes the string representation of the provided {@link Text} into
+     * the given {@link ChannelBuf}, in the format of
+     * {@link ChannelBuf#writeString(String)}.
+     *
+     * @param text The text to serialize
+     * @param buf The buffer to write the string representation to
+     */
+    default void serialize(Text text, ChannelBuf buf) {
+        checkNotNull(buf, "buf");
+        buf.writeString(text.toSerialized(this));
+    }
+
+    /**
+     * Writes the UTF-8 encoded string representation of the provided
+     * {@link Text} into the given {@link ByteBuffer}, starting at its
+     * current position.
+     *
+     * <p>The default implementation encodes the (cached) result of
+     * {@link Text#toSerialized(TextSerializer)} directly into the buffer,
+     * without creating an intermediate byte array.</p>
+     *
+     * @param text The text to serialize
+     * @param buffer The buffer to write the string representation to
+     * @throws BufferOverflowException If the buffer doesn't have enough
+     *     remaining space, in which case its position is undefined
+     */
+    default void serialize(Text text, ByteBuffer buffer) {
+        checkNotNull(buffer, "buffer");
+        final CoderResult result = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .encode(CharBuffer.wrap(text.toSerialized(this)), buffer, true);
+        if (result.isOverflow()) {
+            throw new BufferOverflowException();
+        }
+    }
+
     /**
      * Returns a {@link Text} instance from an appropriately formatted string.
      *
@@ -52,6 +119,22 @@ public interface TextSerializer {
      */
     Text deserialize(String input) throws TextParseException;
 
+    /**
+     * Returns a {@link Text} instance from an appropriately formatted
+     * character sequence, such as a {@link StringBuilder} or a
+     * {@link CharBuffer}.
+     *
+     * <p>The default implementation parses the string of the sequence.
+     * Serializers should override it to parse the sequence directly.</p>
+     *
+     * @param input The raw input to parse into a text
+     * @return The parsed text for the input
+     * @throws TextParseException If an error occurs while parsing the text
+     */
+    default Text deserialize(CharSequence input) throws TextParseException {
+        return this.deserialize(checkNotNull(input, "input").toString());
+    }
+
     /**
      * Tries to return a {@link Text} instance from the provided input string.
      * However, if the input string is not of a valid format, the returned
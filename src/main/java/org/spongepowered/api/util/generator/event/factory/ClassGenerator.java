@@ -26,17 +26,23 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.objectweb.asm.Opcodes.ACC_BRIDGE;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DCONST_0;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
@@ -48,13 +54,17 @@
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.LCONST_0;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_6;
 
+import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
@@ -68,9 +78,13 @@
 import org.spongepowered.api.eventgencore.classwrapper.reflection.ReflectionClassWrapper;
 import org.spongepowered.api.util.generator.event.factory.plugin.EventFactoryPlugin;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -82,6 +96,13 @@
  */
 public class ClassGenerator {
 
+    /**
+     * The name of the static field holding the
+     * {@link #getEventSignature(Class, Class, List) signature} of a generated
+     * event class.
+     */
+    public static final String SIGNATURE_FIELD = "EVENT_SIGNATURE";
+
     private final PropertySearchStrategy<Class<?>, Method> propertySearch = new AccessorFirstStrategy<>();
     private NullPolicy nullPolicy = NullPolicy.DISABLE_PRECONDITIONS;
     private final List<String> primitivePropertyExceptions = ImmutableList.of("cancelled");
@@ -263,6 +284,90 @@ private void generateConstructor(ClassWriter classWriter, String internalName, C
         mv.visitVarInsn(ALOAD, 0);
         mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "<init>", "()V", false);
 
+        this.generatePropertyAssignments(mv, internalName, parentType, properties);
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates {@link RecyclableEvent#reinitialize(java.util.Map)}, which
+     * clears the properties and assigns them again like the constructor.
+     */
+    private void generateReinitialize(ClassWriter classWriter, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
+        MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC, "reinitialize", "(Ljava/util/Map;)V",
+                "(Ljava/util/Map<Ljava/lang/String;Ljava/lang/Object;>;)V", null);
+        mv.visitCode();
+
+        // this.clearProperties()
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKEVIRTUAL, internalName, "clearProperties", "()V", false);
+
+        this.generatePropertyAssignments(mv, internalName, parentType, properties);
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates {@link RecyclableEvent#clearProperties()}, which resets the
+     * field of every property to its default value.
+     */
+    private void generateClearProperties(ClassWriter classWriter, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
+        MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC, "clearProperties", "()V", null, null);
+        mv.visitCode();
+
+        for (Property<Class<?>, Method> property : properties) {
+            if (!property.isLeastSpecificType()) {
+                continue;
+            }
+
+            // this.field = <default value>
+            mv.visitVarInsn(ALOAD, 0);
+            switch (Type.getType(property.getType()).getSort()) {
+                case Type.BOOLEAN:
+                case Type.CHAR:
+                case Type.BYTE:
+                case Type.SHORT:
+                case Type.INT:
+                    mv.visitInsn(ICONST_0);
+                    break;
+                case Type.LONG:
+                    mv.visitInsn(LCONST_0);
+                    break;
+                case Type.FLOAT:
+                    mv.visitInsn(FCONST_0);
+                    break;
+                case Type.DOUBLE:
+                    mv.visitInsn(DCONST_0);
+                    break;
+                default:
+                    mv.visitInsn(ACONST_NULL);
+                    break;
+            }
+            if (getUseField(parentType, property.getName()) != null) {
+                mv.visitFieldInsn(PUTFIELD, Type.getInternalName(parentType), property.getName(), Type.getDescriptor(property.getType()));
+            } else {
+                mv.visitFieldInsn(PUTFIELD, internalName, property.getName(), Type.getDescriptor(property.getType()));
+            }
+        }
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates the assignment of the properties from the map in local
+     * variable 1, followed by the invocation of the init method of the
+     * parent type, if any.
+     */
+    private void generatePropertyAssignments(MethodVisitor mv, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
         for (Property<Class<?>, Method> property : properties) {
             if (!property.isLeastSpecificType()) {
                 continue;
@@ -350,10 +455,6 @@ private void generateConstructor(ClassWriter classWriter, String internalName, C
             mv.visitVarInsn(ALOAD, 0);
             mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "init", "()V", false);
         }
-
-        mv.visitInsn(RETURN);
-        mv.visitMaxs(0, 0);
-        mv.visitEnd();
     }
 
     private void generateAccessor(ClassWriter cw, Class<?> parentType, String internalName, Property<Class<?>, Method> property) {
@@ -553,7 +654,11 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         final String internalName = getInternalName(name);
 
         final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
-        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, Type.getInternalName(parentType), new String[] {Type.getInternalName(type)});
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, Type.getInternalName(parentType),
+                new String[] {Type.getInternalName(type), Type.getInternalName(RecyclableEvent.class)});
+
+        cw.visitField(ACC_PUBLIC + ACC_STATIC + ACC_FINAL + ACC_SYNTHETIC, SIGNATURE_FIELD, "Ljava/lang/String;", null,
+                this.getEventSignature(type, parentType, plugins)).visitEnd();
 
         MethodVisitor toStringMv = this.initializeToString(cw, type);
 
@@ -565,6 +670,10 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         // Create the constructor
         this.generateConstructor(cw, internalName, parentType, properties);
 
+        // Create the methods to recycle the event
+        this.generateClearProperties(cw, internalName, parentType, properties);
+        this.generateReinitialize(cw, internalName, parentType, properties);
+
         // The return value of toString takes the form of
         // "ClassName{param1=value1, param2=value2, ...}"
 
@@ -598,6 +707,47 @@ private void generateWithPlugins(ClassWriter cw, Class<?> eventClass, Class<?> p
         }
     }
 
+    /**
+     * Gets the signature of the event class generated for the given type. It
+     * is a hash of the methods of the type, the members of the parent type,
+     * the null policy and the plugins, so it changes whenever these change
+     * in a way that affects the generated class.
+     *
+     * @param type The type
+     * @param parentType The parent type
+     * @param plugins The plugins
+     * @return The signature
+     */
+    public String getEventSignature(Class<?> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
+        final List<String> members = Lists.newArrayList();
+        for (Method method : type.getMethods()) {
+            members.add(describeMember(method, method.getName() + Type.getMethodDescriptor(method)));
+        }
+        for (Class<?> clazz = parentType; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                members.add(clazz.getName() + '.' + describeMember(method, method.getName() + Type.getMethodDescriptor(method)));
+            }
+            for (Field field : clazz.getDeclaredFields()) {
+                members.add(clazz.getName() + '.' + describeMember(field, field.getName() + ':' + Type.getDescriptor(field.getType())));
+            }
+        }
+        // The order of reflected members is unspecified
+        Collections.sort(members);
+        members.add(this.nullPolicy.name());
+        for (EventFactoryPlugin plugin : plugins) {
+            members.add(plugin.getClass().getName());
+        }
+        return Hashing.sha1().hashString(Joiner.on('\n').join(members), StandardCharsets.UTF_8).toString();
+    }
+
+    private static String describeMember(AnnotatedElement member, String signature) {
+        final StringBuilder builder = new StringBuilder(signature);
+        for (Annotation annotation : member.getAnnotations()) {
+            builder.append(" @").append(annotation.annotationType().getName());
+        }
+        return builder.toString();
+    }
+
     /**
      * Create the factory for an event class.
      *
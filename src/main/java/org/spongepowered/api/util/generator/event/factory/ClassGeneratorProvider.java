@@ -77,14 +77,27 @@ protected String getClassName(Class<?> clazz, String classifier) {
         return this.targetPackage + "." + name + "$" + classifier;
     }
 
+    /**
+     * Gets the signature of the event class generated for the given type.
+     *
+     * @param type The type
+     * @param parentType The parent type
+     * @param plugins The plugins
+     * @return The signature
+     * @see ClassGenerator#getEventSignature(Class, Class, List)
+     */
+    protected String getEventSignature(Class<?> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
+        return this.builder.getEventSignature(type, parentType, plugins);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
         String eventName = getClassName(type, "Impl");
         String factoryName = getClassName(type, "Factory");
 
-        Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, plugins));
-        Class<?> factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
+        Class<?> eventClass = this.defineClass(eventName, this.builder.createClass(type, eventName, parentType, plugins));
+        Class<?> factoryClass = this.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
 
         try {
             return (EventFactory<T>) factoryClass.newInstance();
@@ -92,4 +105,15 @@ public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, List
             throw new RuntimeException("Failed to create event factory", e);
         }
     }
+
+    /**
+     * Defines a generated event class or event factory class.
+     *
+     * @param name The name of the class
+     * @param bytes The bytecode of the class
+     * @return The class
+     */
+    protected Class<?> defineClass(String name, byte[] bytes) {
+        return this.classLoader.defineClass(name, bytes);
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.factory;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.util.generator.event.factory.plugin.EventFactoryPlugin;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates event implementations by loading the event class and event
+ * factory generated ahead of time from a class loader, and only generates
+ * them at runtime if they don't exist.
+ *
+ * <p>The classes must have been generated by a {@link ClassGeneratorProvider}
+ * with the same target package. Classes generated for another version of the
+ * event, or with another null policy or plugins, are detected by comparing
+ * their {@link ClassGenerator#getEventSignature(Class, Class, List) signature}
+ * and are generated again.</p>
+ */
+public class PregeneratedClassProvider extends ClassGeneratorProvider {
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Create a new instance.
+     *
+     * @param targetPackage The package the generated event classes are
+     *     placed in
+     * @param classLoader The class loader to load the generated classes from
+     */
+    public PregeneratedClassProvider(String targetPackage, ClassLoader classLoader) {
+        super(targetPackage);
+        this.classLoader = checkNotNull(classLoader, "classLoader");
+    }
+
+    @Override
+    public <T> EventFactory<T> create(Class<T> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
+        final EventFactory<T> factory = this.load(type, parentType, plugins);
+        if (factory != null) {
+            return factory;
+        }
+        return super.create(type, parentType, plugins);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> EventFactory<T> load(Class<T> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
+        final Class<?> eventClass;
+        final Class<?> factoryClass;
+        try {
+            eventClass = Class.forName(this.getClassName(type, "Impl"), false, this.classLoader);
+            factoryClass = Class.forName(this.getClassName(type, "Factory"), false, this.classLoader);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        // Ignore classes generated for a different version of the event
+        if (!type.isAssignableFrom(eventClass) || eventClass.getSuperclass() != parentType
+                || !RecyclableEvent.class.isAssignableFrom(eventClass) || !EventFactory.class.isAssignableFrom(factoryClass)) {
+            return null;
+        }
+        final Object signature;
+        try {
+            signature = eventClass.getField(ClassGenerator.SIGNATURE_FIELD).get(null);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            return null;
+        }
+        if (!this.getEventSignature(type, parentType, plugins).equals(signature)) {
+            return null;
+        }
+
+        try {
+            return (EventFactory<T>) factoryClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException("Failed to create event factory", e);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.factory;
+
+import java.util.Map;
+
+/**
+ * Implemented by the event classes generated by {@link ClassGenerator}, to
+ * reuse an instance for another event of the same type.
+ *
+ * <p>Only events whose parent class keeps no state besides its
+ * {@code @UseField} properties can be reused safely.</p>
+ */
+public interface RecyclableEvent {
+
+    /**
+     * Resets every property of this event to its default value, so the
+     * event no longer references the values it was created with.
+     */
+    void clearProperties();
+
+    /**
+     * Clears this event and assigns its properties from the given map, like
+     * the constructor of the generated class. The properties are removed
+     * from the map.
+     *
+     * @param values The map of property names to values
+     * @throws NullPointerException If a required property is missing
+     * @throws IllegalArgumentException If the map contains unknown
+     *     properties
+     */
+    void reinitialize(Map<String, Object> values);
+
+}
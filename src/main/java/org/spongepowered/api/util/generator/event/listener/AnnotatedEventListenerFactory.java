@@ -0,0 +1,144 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.listener;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Maps;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.util.generator.GeneratorUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates {@link EventListener}s for listener methods, generating one
+ * listener class per method with a {@link ListenerClassGenerator}.
+ *
+ * <p>Generated classes are defined in a class loader which is a child of the
+ * class loader of the listener, and are reused for every object the same
+ * method is registered for. They are only referenced through the class
+ * declaring the listener method, so they don't keep the class loader of the
+ * listener from being unloaded.</p>
+ */
+public class AnnotatedEventListenerFactory {
+
+    private final ClassValue<GeneratedListeners> listeners = new ClassValue<GeneratedListeners>() {
+
+        @Override
+        protected GeneratedListeners computeValue(Class<?> type) {
+            return new GeneratedListeners(type.getClassLoader());
+        }
+    };
+    private final AtomicInteger classCounter = new AtomicInteger();
+    private final ListenerClassGenerator generator;
+    private final String targetPackage;
+
+    /**
+     * Create a new instance.
+     *
+     * @param targetPackage The target package to place generated listener
+     *     classes in
+     */
+    public AnnotatedEventListenerFactory(String targetPackage) {
+        this(targetPackage, new ListenerClassGenerator());
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param targetPackage The target package to place generated listener
+     *     classes in
+     * @param generator The generator of the listener classes
+     */
+    public AnnotatedEventListenerFactory(String targetPackage, ListenerClassGenerator generator) {
+        this.targetPackage = checkNotNull(targetPackage, "targetPackage");
+        this.generator = checkNotNull(generator, "generator");
+    }
+
+    /**
+     * Creates an {@link EventListener} invoking the given listener method on
+     * the given object.
+     *
+     * @param handle The object to invoke the method on
+     * @param method The listener method
+     * @return The event listener
+     * @throws IllegalArgumentException If the method can't be invoked by a
+     *     generated listener
+     */
+    @SuppressWarnings("unchecked")
+    public EventListener<Event> create(Object handle, Method method) {
+        checkNotNull(handle, "handle");
+        checkNotNull(method, "method");
+        final GeneratedListeners listeners = this.listeners.get(method.getDeclaringClass());
+        Constructor<?> constructor = listeners.constructors.get(method);
+        if (constructor == null) {
+            synchronized (listeners) {
+                constructor = listeners.constructors.get(method);
+                if (constructor == null) {
+                    constructor = defineClass(listeners.classLoader, method);
+                    listeners.constructors.put(method, constructor);
+                }
+            }
+        }
+        try {
+            return (EventListener<Event>) constructor.newInstance(handle);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException("Failed to create event listener for " + method, e);
+        }
+    }
+
+    private Constructor<?> defineClass(GeneratorUtils.LocalClassLoader classLoader, Method method) {
+        final String name = GeneratorUtils.getClassName(this.targetPackage, method.getDeclaringClass(),
+                "Listener$" + method.getName() + "$" + this.classCounter.incrementAndGet());
+        final byte[] bytes = this.generator.createClass(method, name);
+        final Class<?> generatedClass = classLoader.defineClass(name, bytes);
+        ListenerClassGenerator.initialize(generatedClass, method);
+        try {
+            return generatedClass.getConstructor(Object.class);
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException("Failed to generate event listener for " + method, e);
+        }
+    }
+
+    /**
+     * The listener classes generated for the methods of a class, which are
+     * defined in a class loader of their own.
+     */
+    private static final class GeneratedListeners {
+
+        final GeneratorUtils.LocalClassLoader classLoader;
+        final ConcurrentMap<Method, Constructor<?>> constructors = Maps.newConcurrentMap();
+
+        GeneratedListeners(ClassLoader parent) {
+            this.classLoader = new GeneratorUtils.LocalClassLoader(parent);
+        }
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.listener;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Generates {@link EventListener} classes which invoke a listener method
+ * directly, instead of through reflection.
+ *
+ * <p>The generated class has a public constructor taking the object to
+ * invoke the method on, and implements {@link EventListener#handle(Event)}
+ * by casting the event to the parameter type of the method and invoking
+ * it.</p>
+ *
+ * <p>The filter annotations of the method, such as
+ * {@link org.spongepowered.api.event.filter.Getter} or
+ * {@link org.spongepowered.api.event.filter.cause.First}, are compiled into
+ * the generated method as well, so the listener is only invoked if the event
+ * passes them. Events that are cancelled are not passed to the listener
+ * unless the method is annotated with
+ * {@link org.spongepowered.api.event.filter.IsCancelled}.</p>
+ *
+ * <p>If the class declaring the method isn't public, the generated class
+ * can't invoke the method directly. It still evaluates the filters, but then
+ * invokes the method through reflection, see
+ * {@link #initialize(Class, Method)}.</p>
+ */
+public class ListenerClassGenerator {
+
+    private static final String HANDLE_FIELD = "handle";
+    private static final String METHOD_FIELD = "method";
+    private static final String HANDLE_METHOD_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Event.class));
+
+    /**
+     * Generates the class of an {@link EventListener} invoking the given
+     * method.
+     *
+     * @param method The listener method, a public instance method taking
+     *     an {@link Event} and the filtered parameters
+     * @param name The name of the class to generate
+     * @return The generated class
+     */
+    public byte[] createClass(Method method, String name) {
+        checkNotNull(method, "method");
+        checkNotNull(name, "name");
+        checkListenerMethod(method);
+
+        final String internalName = name.replace('.', '/');
+        final Class<?> handleClass = getHandleType(method);
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, internalName, null, Type.getInternalName(Object.class),
+                new String[] {Type.getInternalName(EventListener.class)});
+        cw.visitField(ACC_PRIVATE | ACC_FINAL, HANDLE_FIELD, Type.getDescriptor(handleClass), null, null).visitEnd();
+        if (!isDirectlyInvokable(method)) {
+            cw.visitField(ACC_PUBLIC | ACC_STATIC, METHOD_FIELD, Type.getDescriptor(Method.class), null, null).visitEnd();
+        }
+
+        final ListenerFilterCompiler filters = new ListenerFilterCompiler(internalName, method);
+        this.generateConstructor(cw, internalName, handleClass);
+        this.generateHandleMethod(cw, internalName, method, filters);
+        filters.generateConstants(cw);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Initializes a class generated by {@link #createClass(Method, String)}
+     * for the given method, which is required before it is instantiated.
+     *
+     * @param generatedClass The generated class
+     * @param method The listener method
+     */
+    public static void initialize(Class<?> generatedClass, Method method) {
+        if (isDirectlyInvokable(method)) {
+            return;
+        }
+        method.setAccessible(true);
+        try {
+            generatedClass.getField(METHOD_FIELD).set(null, method);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Failed to initialize the generated listener class for " + method, e);
+        }
+    }
+
+    /**
+     * Checks whether the given method can be invoked by a generated
+     * listener.
+     *
+     * @param method The method
+     * @throws IllegalArgumentException If the method can't be invoked
+     */
+    public static void checkListenerMethod(Method method) {
+        checkArgument(Modifier.isPublic(method.getModifiers()), "The listener method %s must be public", method);
+        checkArgument(!Modifier.isStatic(method.getModifiers()), "The listener method %s must not be static", method);
+        checkArgument(method.getParameterCount() >= 1 && Event.class.isAssignableFrom(method.getParameterTypes()[0]),
+                "The first parameter of the listener method %s must be an event", method);
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            while (parameterType.isArray()) {
+                parameterType = parameterType.getComponentType();
+            }
+            checkArgument(Modifier.isPublic(parameterType.getModifiers()), "The parameter type %s of the listener method %s must be public",
+                    parameterType.getName(), method);
+        }
+    }
+
+    /**
+     * Gets whether the given method can be invoked directly by a generated
+     * class, which requires its declaring class to be public.
+     *
+     * @param method The method
+     * @return Whether the method can be invoked directly
+     */
+    static boolean isDirectlyInvokable(Method method) {
+        return Modifier.isPublic(method.getDeclaringClass().getModifiers()) && Modifier.isPublic(method.getModifiers());
+    }
+
+    private static Class<?> getHandleType(Method method) {
+        return isDirectlyInvokable(method) ? method.getDeclaringClass() : Object.class;
+    }
+
+    private void generateConstructor(ClassWriter cw, String internalName, Class<?> handleClass) {
+        final MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object.class)),
+                null, null);
+        mv.visitCode();
+
+        // super()
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(Object.class), "<init>", "()V", false);
+
+        // this.handle = (HandleClass) handle
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(handleClass));
+        mv.visitFieldInsn(PUTFIELD, internalName, HANDLE_FIELD, Type.getDescriptor(handleClass));
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void generateHandleMethod(ClassWriter cw, String internalName, Method method, ListenerFilterCompiler filters) {
+        final MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "handle", HANDLE_METHOD_DESCRIPTOR, null,
+                new String[] {Type.getInternalName(Exception.class)});
+        mv.visitCode();
+        final Label skip = new Label();
+        filters.generateFilters(mv, skip);
+        this.generateInvoke(mv, internalName, method, filters);
+        mv.visitLabel(skip);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates the invocation of the listener method with the event, which
+     * is the first argument of the generated method, and the values of the
+     * filtered parameters, once all filters passed.
+     *
+     * @param mv The method visitor
+     * @param internalName The internal name of the generated class
+     * @param method The listener method
+     * @param filters The compiled filters of the method
+     */
+    private void generateInvoke(MethodVisitor mv, String internalName, Method method, ListenerFilterCompiler filters) {
+        final Class<?> handleClass = getHandleType(method);
+        if (isDirectlyInvokable(method)) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, HANDLE_FIELD, Type.getDescriptor(handleClass));
+            filters.generateArguments(mv);
+            invokeMethod(mv, method);
+            popResult(mv, method);
+        } else {
+            // ListenerFilters.invoke(method, this.handle, arguments)
+            mv.visitFieldInsn(GETSTATIC, internalName, METHOD_FIELD, Type.getDescriptor(Method.class));
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, HANDLE_FIELD, Type.getDescriptor(handleClass));
+            filters.generateArgumentArray(mv);
+            mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(ListenerFilters.class), "invoke",
+                    Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Method.class), Type.getType(Object.class), Type.getType(Object[].class)),
+                    false);
+        }
+    }
+
+    static void invokeMethod(MethodVisitor mv, Method method) {
+        final Class<?> owner = method.getDeclaringClass();
+        mv.visitMethodInsn(owner.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL, Type.getInternalName(owner), method.getName(),
+                Type.getMethodDescriptor(method), owner.isInterface());
+    }
+
+    static void popResult(MethodVisitor mv, Method method) {
+        final Class<?> returnType = method.getReturnType();
+        if (returnType == long.class || returnType == double.class) {
+            mv.visitInsn(POP2);
+        } else if (returnType != void.class) {
+            mv.visitInsn(POP);
+        }
+    }
+
+}
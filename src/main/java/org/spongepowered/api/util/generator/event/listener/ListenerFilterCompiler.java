@@ -0,0 +1,396 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.listener;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static org.objectweb.asm.Opcodes.AASTORE;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
+import static org.objectweb.asm.Opcodes.RETURN;
+
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Primitives;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Named;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Compiles the filter annotations of a listener method into the body of the
+ * generated {@link org.spongepowered.api.event.EventListener#handle(Event)}
+ * method.
+ *
+ * <p>The generated code evaluates the type and cancellation filters of the
+ * method, resolves the value of every parameter after the event from its
+ * source annotation and applies the data filters on it, returning before
+ * the listener method is invoked if any of them fail. The values of the
+ * parameters are kept in the local variables following the event.</p>
+ */
+final class ListenerFilterCompiler {
+
+    private static final String FILTERS = Type.getInternalName(ListenerFilters.class);
+    private static final String CLASS_ARRAY = Type.getDescriptor(Class[].class);
+    private static final String CONSTANT_PREFIX = "filter$";
+
+    private static final Class<?>[] SOURCES = {Getter.class, First.class, Last.class, Root.class, Named.class, Before.class, After.class,
+            All.class};
+
+    private final String internalName;
+    private final Method method;
+    private final Class<?>[] parameterTypes;
+    private final Annotation[][] parameterAnnotations;
+    private final List<Class<?>[]> constants = Lists.newArrayList();
+    private final int causeLocal;
+    private boolean causeLoaded;
+
+    ListenerFilterCompiler(String internalName, Method method) {
+        this.internalName = internalName;
+        this.method = method;
+        this.parameterTypes = method.getParameterTypes();
+        this.parameterAnnotations = method.getParameterAnnotations();
+        this.causeLocal = this.parameterTypes.length + 1;
+        checkArgument(method.getAnnotation(Include.class) == null || method.getAnnotation(Exclude.class) == null,
+                "The listener method %s can't both include and exclude event types", method);
+        for (int i = 1; i < this.parameterTypes.length; i++) {
+            checkArgument(getSource(i) != null, "The parameter %s of the listener method %s must have exactly one source annotation", i, method);
+        }
+    }
+
+    /**
+     * Gets the local variable holding the value of the given parameter of the
+     * listener method.
+     *
+     * @param parameter The index of the parameter
+     * @return The index of the local variable
+     */
+    static int getLocal(int parameter) {
+        return parameter + 1;
+    }
+
+    /**
+     * Generates the filters of the listener method, jumping to the given label
+     * if the listener shouldn't be called.
+     *
+     * @param mv The method visitor
+     * @param skip The label to jump to
+     */
+    void generateFilters(MethodVisitor mv, Label skip) {
+        final Include include = this.method.getAnnotation(Include.class);
+        if (include != null) {
+            this.generateConstant(mv, include.value());
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESTATIC, FILTERS, "isInstance", "(" + CLASS_ARRAY + "Ljava/lang/Object;)Z", false);
+            mv.visitJumpInsn(IFEQ, skip);
+        }
+        final Exclude exclude = this.method.getAnnotation(Exclude.class);
+        if (exclude != null) {
+            this.generateConstant(mv, exclude.value());
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESTATIC, FILTERS, "isInstance", "(" + CLASS_ARRAY + "Ljava/lang/Object;)Z", false);
+            mv.visitJumpInsn(IFNE, skip);
+        }
+
+        final IsCancelled isCancelled = this.method.getAnnotation(IsCancelled.class);
+        final Tristate cancelled = isCancelled == null ? Tristate.FALSE : isCancelled.value();
+        if (cancelled != Tristate.UNDEFINED) {
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESTATIC, FILTERS, "isCancelled", "(Ljava/lang/Object;)Z", false);
+            mv.visitJumpInsn(cancelled.asBoolean() ? IFEQ : IFNE, skip);
+        }
+
+        for (int i = 1; i < this.parameterTypes.length; i++) {
+            this.generateParameter(mv, i, skip);
+        }
+    }
+
+    /**
+     * Generates the loading of the arguments of the listener method.
+     *
+     * @param mv The method visitor
+     */
+    void generateArguments(MethodVisitor mv) {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(this.parameterTypes[0]));
+        for (int i = 1; i < this.parameterTypes.length; i++) {
+            final Class<?> type = this.parameterTypes[i];
+            mv.visitVarInsn(ALOAD, getLocal(i));
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(Primitives.wrap(type)));
+            if (type.isPrimitive()) {
+                mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Primitives.wrap(type)), type.getName() + "Value",
+                        Type.getMethodDescriptor(Type.getType(type)), false);
+            }
+        }
+    }
+
+    /**
+     * Generates the loading of an array holding the arguments of the listener
+     * method, with primitive arguments boxed.
+     *
+     * @param mv The method visitor
+     */
+    void generateArgumentArray(MethodVisitor mv) {
+        generateInt(mv, this.parameterTypes.length);
+        mv.visitTypeInsn(ANEWARRAY, Type.getInternalName(Object.class));
+        for (int i = 0; i < this.parameterTypes.length; i++) {
+            mv.visitInsn(DUP);
+            generateInt(mv, i);
+            // The event is the first argument of the generated method, so
+            // it is at the local variable of the first parameter as well
+            mv.visitVarInsn(ALOAD, getLocal(i));
+            mv.visitInsn(AASTORE);
+        }
+    }
+
+    /**
+     * Generates the static fields holding the class arrays used by the
+     * filters, and the static initializer creating them.
+     *
+     * @param cw The class writer
+     */
+    void generateConstants(ClassWriter cw) {
+        if (this.constants.isEmpty()) {
+            return;
+        }
+        final MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+        for (int i = 0; i < this.constants.size(); i++) {
+            final Class<?>[] classes = this.constants.get(i);
+            cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, CONSTANT_PREFIX + i, CLASS_ARRAY, null, null).visitEnd();
+            generateInt(mv, classes.length);
+            mv.visitTypeInsn(ANEWARRAY, Type.getInternalName(Class.class));
+            for (int j = 0; j < classes.length; j++) {
+                mv.visitInsn(DUP);
+                generateInt(mv, j);
+                mv.visitLdcInsn(Type.getType(classes[j]));
+                mv.visitInsn(AASTORE);
+            }
+            mv.visitFieldInsn(PUTSTATIC, this.internalName, CONSTANT_PREFIX + i, CLASS_ARRAY);
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    @Nullable
+    private Annotation getSource(int parameter) {
+        Annotation source = null;
+        for (Annotation annotation : this.parameterAnnotations[parameter]) {
+            for (Class<?> sourceType : SOURCES) {
+                if (sourceType.isInstance(annotation)) {
+                    if (source != null) {
+                        return null;
+                    }
+                    source = annotation;
+                }
+            }
+        }
+        return source;
+    }
+
+    private void generateParameter(MethodVisitor mv, int parameter, Label skip) {
+        final Class<?> type = Primitives.wrap(this.parameterTypes[parameter]);
+        final Annotation source = getSource(parameter);
+
+        if (source instanceof Getter) {
+            this.generateGetter(mv, ((Getter) source).value(), type);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitInsn(ICONST_0);
+            this.generateFilter(mv, "filter", "Ljava/lang/Object;Ljava/lang/Class;");
+        } else if (source instanceof First) {
+            final First first = (First) source;
+            this.generateCauseSource(mv, type, first.typeFilter(), first.inverse());
+            this.generateFilter(mv, "first", "Lorg/spongepowered/api/event/cause/Cause;Ljava/lang/Class;");
+        } else if (source instanceof Last) {
+            final Last last = (Last) source;
+            this.generateCauseSource(mv, type, last.typeFilter(), last.inverse());
+            this.generateFilter(mv, "last", "Lorg/spongepowered/api/event/cause/Cause;Ljava/lang/Class;");
+        } else if (source instanceof Root) {
+            final Root root = (Root) source;
+            this.generateCauseSource(mv, type, root.typeFilter(), root.inverse());
+            this.generateFilter(mv, "root", "Lorg/spongepowered/api/event/cause/Cause;Ljava/lang/Class;");
+        } else if (source instanceof Named) {
+            final Named named = (Named) source;
+            this.loadCause(mv);
+            mv.visitLdcInsn(named.value());
+            mv.visitLdcInsn(Type.getType(type));
+            this.generateTypeFilter(mv, named.typeFilter(), named.inverse());
+            this.generateFilter(mv, "named", "Lorg/spongepowered/api/event/cause/Cause;Ljava/lang/String;Ljava/lang/Class;");
+        } else if (source instanceof Before) {
+            final Before before = (Before) source;
+            this.loadCause(mv);
+            mv.visitLdcInsn(Type.getType(before.value()));
+            mv.visitLdcInsn(Type.getType(type));
+            this.generateTypeFilter(mv, before.typeFilter(), before.inverse());
+            this.generateFilter(mv, "before", "Lorg/spongepowered/api/event/cause/Cause;Ljava/lang/Class;Ljava/lang/Class;");
+        } else if (source instanceof After) {
+            final After after = (After) source;
+            this.loadCause(mv);
+            mv.visitLdcInsn(Type.getType(after.value()));
+            mv.visitLdcInsn(Type.getType(type));
+            this.generateTypeFilter(mv, after.typeFilter(), after.inverse());
+            this.generateFilter(mv, "after", "Lorg/spongepowered/api/event/cause/Cause;Ljava/lang/Class;Ljava/lang/Class;");
+        } else {
+            checkArgument(type.isArray(), "The parameter %s of the listener method %s annotated with @All must be an array", parameter,
+                    this.method);
+            this.loadCause(mv);
+            mv.visitLdcInsn(Type.getType(type.getComponentType()));
+            mv.visitInsn(((All) source).ignoreEmpty() ? ICONST_1 : ICONST_0);
+            mv.visitMethodInsn(INVOKESTATIC, FILTERS, "all", "(Lorg/spongepowered/api/event/cause/Cause;Ljava/lang/Class;Z)Ljava/lang/Object;",
+                    false);
+        }
+
+        mv.visitVarInsn(ASTORE, getLocal(parameter));
+        mv.visitVarInsn(ALOAD, getLocal(parameter));
+        mv.visitJumpInsn(IFNULL, skip);
+
+        for (Annotation annotation : this.parameterAnnotations[parameter]) {
+            if (annotation instanceof Has) {
+                this.generateDataFilter(mv, parameter, "has", ((Has) annotation).value(), ((Has) annotation).inverse(), skip);
+            } else if (annotation instanceof Supports) {
+                this.generateDataFilter(mv, parameter, "supports", ((Supports) annotation).value(), ((Supports) annotation).inverse(), skip);
+            }
+        }
+    }
+
+    private void generateGetter(MethodVisitor mv, String name, Class<?> type) {
+        final Class<?> eventType = this.parameterTypes[0];
+        final Method getter;
+        try {
+            getter = eventType.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("The event " + eventType.getName() + " of the listener method " + this.method
+                    + " has no getter " + name, e);
+        }
+        final Class<?> returnType = getter.getReturnType();
+        checkArgument(returnType != void.class, "The getter %s of the listener method %s returns nothing", getter, this.method);
+
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(eventType));
+        ListenerClassGenerator.invokeMethod(mv, getter);
+        if (returnType.isPrimitive()) {
+            final Class<?> wrapper = Primitives.wrap(returnType);
+            mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(wrapper), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(wrapper), Type.getType(returnType)), false);
+        } else if (returnType == Optional.class && type != Optional.class) {
+            mv.visitMethodInsn(INVOKESTATIC, FILTERS, "orNull", "(Ljava/util/Optional;)Ljava/lang/Object;", false);
+        }
+        mv.visitLdcInsn(Type.getType(type));
+    }
+
+    private void generateCauseSource(MethodVisitor mv, Class<?> type, Class<?>[] typeFilter, boolean inverse) {
+        this.loadCause(mv);
+        mv.visitLdcInsn(Type.getType(type));
+        this.generateTypeFilter(mv, typeFilter, inverse);
+    }
+
+    private void generateTypeFilter(MethodVisitor mv, Class<?>[] typeFilter, boolean inverse) {
+        if (typeFilter.length == 0) {
+            mv.visitInsn(ACONST_NULL);
+        } else {
+            this.generateConstant(mv, typeFilter);
+        }
+        mv.visitInsn(inverse ? ICONST_1 : ICONST_0);
+    }
+
+    private void generateFilter(MethodVisitor mv, String name, String arguments) {
+        mv.visitMethodInsn(INVOKESTATIC, FILTERS, name, "(" + arguments + CLASS_ARRAY + "Z)Ljava/lang/Object;", false);
+    }
+
+    private void generateDataFilter(MethodVisitor mv, int parameter, String name, Class<?> manipulatorClass, boolean inverse, Label skip) {
+        checkArgument(DataHolder.class.isAssignableFrom(this.parameterTypes[parameter]),
+                "The parameter %s of the listener method %s must be a data holder to be filtered by its data", parameter, this.method);
+        mv.visitVarInsn(ALOAD, getLocal(parameter));
+        mv.visitLdcInsn(Type.getType(manipulatorClass));
+        mv.visitInsn(inverse ? ICONST_1 : ICONST_0);
+        mv.visitMethodInsn(INVOKESTATIC, FILTERS, name, "(Ljava/lang/Object;Ljava/lang/Class;Z)Z", false);
+        mv.visitJumpInsn(IFEQ, skip);
+    }
+
+    private void loadCause(MethodVisitor mv) {
+        if (!this.causeLoaded) {
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(Event.class), "getCause",
+                    Type.getMethodDescriptor(Type.getType(Cause.class)), true);
+            mv.visitVarInsn(ASTORE, this.causeLocal);
+            this.causeLoaded = true;
+        }
+        mv.visitVarInsn(ALOAD, this.causeLocal);
+    }
+
+    private void generateConstant(MethodVisitor mv, Class<?>[] classes) {
+        mv.visitFieldInsn(GETSTATIC, this.internalName, CONSTANT_PREFIX + this.constants.size(), CLASS_ARRAY);
+        this.constants.add(classes);
+    }
+
+    private static void generateInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+
+}
@@ -0,0 +1,296 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.listener;
+
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.cause.Cause;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * The filters evaluated by the listener classes generated by a
+ * {@link ListenerClassGenerator}. The generated classes call these methods
+ * directly, so no reflection is involved in filtering events.
+ *
+ * <p>The value returned by each of the parameter sources is null if the
+ * listener should not be called.</p>
+ */
+public final class ListenerFilters {
+
+    /**
+     * Gets whether the given object is an instance of any of the given
+     * classes.
+     *
+     * @param classes The classes
+     * @param object The object
+     * @return Whether the object is an instance of any of the classes
+     */
+    public static boolean isInstance(Class<?>[] classes, Object object) {
+        for (Class<?> clazz : classes) {
+            if (clazz.isInstance(object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets whether the given event is cancelled.
+     *
+     * @param event The event
+     * @return Whether the event is cancellable and cancelled
+     */
+    public static boolean isCancelled(Object event) {
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    /**
+     * Gets the given value if it is an instance of the given type that passes
+     * the given type filter.
+     *
+     * @param value The value
+     * @param type The type of the parameter
+     * @param typeFilter The type filter, or null if there is none
+     * @param inverse Whether the type filter is inverted
+     * @return The value, or null if it doesn't pass
+     */
+    @Nullable
+    public static Object filter(@Nullable Object value, Class<?> type, @Nullable Class<?>[] typeFilter, boolean inverse) {
+        if (!type.isInstance(value)) {
+            return null;
+        }
+        if (typeFilter != null && isInstance(typeFilter, value) == inverse) {
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * Unwraps the given {@link Optional}.
+     *
+     * @param optional The optional
+     * @return The value of the optional, or null if it is absent
+     */
+    @Nullable
+    public static Object orNull(@Nullable Optional<?> optional) {
+        return optional == null ? null : optional.orElse(null);
+    }
+
+    /**
+     * Gets the first object in the cause of the given type that passes the
+     * given type filter.
+     *
+     * @param cause The cause
+     * @param type The type of the parameter
+     * @param typeFilter The type filter, or null if there is none
+     * @param inverse Whether the type filter is inverted
+     * @return The object, or null if there is none
+     * @see Cause#first(Class)
+     */
+    @Nullable
+    public static Object first(Cause cause, Class<?> type, @Nullable Class<?>[] typeFilter, boolean inverse) {
+        if (typeFilter == null) {
+            return cause.first(type).orElse(null);
+        }
+        for (Object object : cause.allOf(type)) {
+            if (isInstance(typeFilter, object) != inverse) {
+                return object;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the last object in the cause of the given type that passes the
+     * given type filter.
+     *
+     * @param cause The cause
+     * @param type The type of the parameter
+     * @param typeFilter The type filter, or null if there is none
+     * @param inverse Whether the type filter is inverted
+     * @return The object, or null if there is none
+     * @see Cause#last(Class)
+     */
+    @Nullable
+    public static Object last(Cause cause, Class<?> type, @Nullable Class<?>[] typeFilter, boolean inverse) {
+        if (typeFilter == null) {
+            return cause.last(type).orElse(null);
+        }
+        final List<?> objects = cause.allOf(type);
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            if (isInstance(typeFilter, objects.get(i)) != inverse) {
+                return objects.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the root of the cause if it passes the filters.
+     *
+     * @param cause The cause
+     * @param type The type of the parameter
+     * @param typeFilter The type filter, or null if there is none
+     * @param inverse Whether the type filter is inverted
+     * @return The root, or null if it doesn't pass
+     * @see Cause#root()
+     */
+    @Nullable
+    public static Object root(Cause cause, Class<?> type, @Nullable Class<?>[] typeFilter, boolean inverse) {
+        return filter(cause.root(), type, typeFilter, inverse);
+    }
+
+    /**
+     * Gets the named object in the cause if it passes the filters.
+     *
+     * @param cause The cause
+     * @param name The name of the object
+     * @param type The type of the parameter
+     * @param typeFilter The type filter, or null if there is none
+     * @param inverse Whether the type filter is inverted
+     * @return The object, or null if it doesn't pass
+     * @see Cause#get(String, Class)
+     */
+    @Nullable
+    public static Object named(Cause cause, String name, Class<?> type, @Nullable Class<?>[] typeFilter, boolean inverse) {
+        return filter(cause.get(name, type).orElse(null), type, typeFilter, inverse);
+    }
+
+    /**
+     * Gets the object before the given class in the cause if it passes the
+     * filters.
+     *
+     * @param cause The cause
+     * @param before The class to get the object before
+     * @param type The type of the parameter
+     * @param typeFilter The type filter, or null if there is none
+     * @param inverse Whether the type filter is inverted
+     * @return The object, or null if it doesn't pass
+     * @see Cause#before(Class)
+     */
+    @Nullable
+    public static Object before(Cause cause, Class<?> before, Class<?> type, @Nullable Class<?>[] typeFilter, boolean inverse) {
+        return filter(cause.before(before).orElse(null), type, typeFilter, inverse);
+    }
+
+    /**
+     * Gets the object after the given class in the cause if it passes the
+     * filters.
+     *
+     * @param cause The cause
+     * @param after The class to get the object after
+     * @param type The type of the parameter
+     * @param typeFilter The type filter, or null if there is none
+     * @param inverse Whether the type filter is inverted
+     * @return The object, or null if it doesn't pass
+     * @see Cause#after(Class)
+     */
+    @Nullable
+    public static Object after(Cause cause, Class<?> after, Class<?> type, @Nullable Class<?>[] typeFilter, boolean inverse) {
+        return filter(cause.after(after).orElse(null), type, typeFilter, inverse);
+    }
+
+    /**
+     * Gets all of the objects in the cause of the given type as an array.
+     *
+     * @param cause The cause
+     * @param componentType The component type of the array parameter
+     * @param ignoreEmpty Whether to return null instead of an empty array
+     * @return The array of objects, or null if it is empty and empty arrays
+     *     are ignored
+     * @see Cause#allOf(Class)
+     */
+    @Nullable
+    public static Object all(Cause cause, Class<?> componentType, boolean ignoreEmpty) {
+        final List<?> objects = cause.allOf(componentType);
+        if (ignoreEmpty && objects.isEmpty()) {
+            return null;
+        }
+        return objects.toArray((Object[]) Array.newInstance(componentType, objects.size()));
+    }
+
+    /**
+     * Gets whether the given {@link DataHolder} has the given
+     * {@link DataManipulator}.
+     *
+     * @param holder The data holder
+     * @param manipulatorClass The manipulator class
+     * @param inverse Whether the result is inverted
+     * @return Whether the holder passes the filter
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static boolean has(Object holder, Class<?> manipulatorClass, boolean inverse) {
+        return ((DataHolder) holder).get((Class) manipulatorClass).isPresent() != inverse;
+    }
+
+    /**
+     * Gets whether the given {@link DataHolder} supports the given
+     * {@link DataManipulator}.
+     *
+     * @param holder The data holder
+     * @param manipulatorClass The manipulator class
+     * @param inverse Whether the result is inverted
+     * @return Whether the holder passes the filter
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static boolean supports(Object holder, Class<?> manipulatorClass, boolean inverse) {
+        return ((DataHolder) holder).supports((Class) manipulatorClass) != inverse;
+    }
+
+    /**
+     * Invokes a listener method which can't be invoked directly by the
+     * generated class, once all filters passed.
+     *
+     * @param method The accessible listener method
+     * @param handle The object to invoke the method on
+     * @param arguments The arguments of the method
+     * @throws Exception If the method throws an exception
+     */
+    public static void invoke(Method method, Object handle, Object[] arguments) throws Exception {
+        try {
+            method.invoke(handle, arguments);
+        } catch (InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private ListenerFilters() {
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
+import static org.spongepowered.api.command.args.GenericArguments.seq;
+import static org.spongepowered.api.command.args.GenericArguments.string;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.parsing.InputTokenizer;
+import org.spongepowered.api.text.TestPlainTextSerializer;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tests for {@link ParseProgram}.
+ */
+public class ParseProgramTest {
+
+    private static final CommandSource MOCK_SOURCE = Mockito.mock(CommandSource.class);
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+    }
+
+    private static CommandContext parse(ParseProgram program, String input) throws ArgumentParseException {
+        final CommandContext context = program.createContext();
+        program.parse(MOCK_SOURCE, new CommandArgs(input, program.tokenize(input)), context);
+        return context;
+    }
+
+    @Test
+    public void testNestedSequences() throws ArgumentParseException {
+        final ParseProgram program = ParseProgram.compile(seq(string(Text.of("a")), seq(integer(Text.of("b")), string(Text.of("a")))),
+                InputTokenizer.quotedStrings(false));
+        final CommandContext context = parse(program, "x 1 \"y z\"");
+        assertEquals(ImmutableList.of("x", "y z"), ImmutableList.copyOf(context.getAll("a")));
+        assertFalse(context.getOne("a").isPresent());
+        assertEquals(Optional.of(1), context.getOne("b"));
+        assertTrue(context.hasAny("b"));
+        assertFalse(context.hasAny("c"));
+        assertTrue(context.getAll("c").isEmpty());
+    }
+
+    @Test(expected = ArgumentParseException.class)
+    public void testTooManyArguments() throws ArgumentParseException {
+        parse(ParseProgram.compile(string(Text.of("a")), InputTokenizer.spaceSplitString()), "x y");
+    }
+
+    @Test
+    public void testUnknownKeys() throws ArgumentParseException {
+        final ParseProgram program = ParseProgram.compile(new CommandElement(null) {
+            @Override
+            protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
+                return null;
+            }
+
+            @Override
+            public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+                context.putArg(args.next(), true);
+            }
+
+            @Override
+            public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
+                return ImmutableList.of();
+            }
+        }, InputTokenizer.spaceSplitString());
+        assertEquals(Optional.of(true), parse(program, "flag").getOne("flag"));
+        // The key is stored in a slot once it is known
+        final CommandContext context = parse(program, "flag");
+        assertTrue(context.getUnslottedKeys().isEmpty());
+        assertEquals(Optional.of(true), context.getOne("flag"));
+    }
+
+    @Test
+    public void testCachedTokens() throws ArgumentParseException {
+        final ParseProgram program = ParseProgram.compile(seq(string(Text.of("a")), string(Text.of("b"))), InputTokenizer.quotedStrings(false));
+        assertSame(program.tokenize("x y"), program.tokenize("x y"));
+
+        final CommandArgs args = new CommandArgs("x y", program.tokenize("x y"));
+        args.insertArg("z");
+        assertEquals(3, args.getAll().size());
+        assertEquals(2, program.tokenize("x y").size());
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.parsing.InputTokenizer;
+import org.spongepowered.api.text.TestPlainTextSerializer;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+
+/**
+ * Tests for {@link PatternMatchingCommandElement}.
+ */
+public class PatternMatchingCommandElementTest {
+
+    private static final CommandSource MOCK_SOURCE = Mockito.mock(CommandSource.class);
+    private static final List<String> CHOICES = ImmutableList.of("minecraft:stone", "minecraft:stone_slab", "minecraft:dirt",
+            "Minecraft:Grass", "mod:stone");
+
+    private final PatternMatchingCommandElement element = new PatternMatchingCommandElement(Text.of("block")) {
+        @Override
+        protected Iterable<String> getChoices(CommandSource source) {
+            return CHOICES;
+        }
+
+        @Override
+        protected Object getValue(String choice) throws IllegalArgumentException {
+            return choice;
+        }
+    };
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+    }
+
+    private static CommandArgs args(String input) {
+        return new CommandArgs(input, InputTokenizer.spaceSplitString().tokenize(input, false));
+    }
+
+    private List<Object> parse(String input) throws ArgumentParseException {
+        return ImmutableList.copyOf((Iterable<?>) this.element.parseValue(MOCK_SOURCE, args(input)));
+    }
+
+    @Test
+    public void testPrefix() throws ArgumentParseException {
+        assertEquals(ImmutableList.of("minecraft:stone", "minecraft:stone_slab"), parse("MINECRAFT:ST"));
+        assertEquals(ImmutableList.of("minecraft:stone"), parse("minecraft:stone"));
+        assertEquals(ImmutableList.of("Minecraft:Grass"), parse("^minecraft:g"));
+    }
+
+    @Test
+    public void testPattern() throws ArgumentParseException {
+        assertEquals(ImmutableList.of("minecraft:stone", "minecraft:stone_slab", "mod:stone"), parse("m.*:stone"));
+        assertEquals(ImmutableList.of("minecraft:dirt", "Minecraft:Grass"), parse("minecraft:(dirt|grass)"));
+    }
+
+    @Test(expected = ArgumentParseException.class)
+    public void testNoMatch() throws ArgumentParseException {
+        parse("other");
+    }
+
+    @Test
+    public void testComplete() {
+        assertEquals(ImmutableList.of("mod:stone"), this.element.complete(MOCK_SOURCE, args("mod"), new CommandContext()));
+        assertEquals(CHOICES, this.element.complete(MOCK_SOURCE, args(""), new CommandContext()));
+    }
+
+    @Test
+    public void testChoiceIndex() {
+        final ChoiceIndex index = ChoiceIndex.of(CHOICES);
+        assertEquals(ImmutableList.of("minecraft:dirt", "Minecraft:Grass", "minecraft:stone", "minecraft:stone_slab", "mod:stone"),
+                index.getChoices());
+        assertEquals(ImmutableList.of("minecraft:stone", "minecraft:stone_slab"), index.getChoicesWithPrefix("Minecraft:S"));
+        assertEquals(ImmutableList.of("mod:stone"), index.getChoicesWithPrefix("mod"));
+        assertEquals(CHOICES.size(), index.getChoicesWithPrefix("").size());
+        assertEquals(0, Iterables.size(index.getChoicesWithPrefix("z")));
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import org.junit.Test;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.command.CommandSource;
+
+import java.util.Optional;
+
+/**
+ * Tests for {@link SimpleDispatcher}.
+ */
+public class SimpleDispatcherTest {
+
+    private static CommandCallable callable(boolean permitted) {
+        final CommandCallable callable = mock(CommandCallable.class);
+        when(callable.testPermission(any(CommandSource.class))).thenReturn(permitted);
+        return callable;
+    }
+
+    @Test
+    public void testRegisterAndGet() {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        final CommandMapping mapping = dispatcher.register(callable(true), "Foo", "f").get();
+        assertEquals(Optional.of(mapping), dispatcher.get("foo"));
+        assertEquals(Optional.of(mapping), dispatcher.get("F"));
+        assertFalse(dispatcher.get("fo").isPresent());
+        assertFalse(dispatcher.get("fooo").isPresent());
+        assertTrue(dispatcher.containsAlias("FOO"));
+        assertTrue(dispatcher.containsMapping(mapping));
+        assertEquals(ImmutableSet.of(mapping), dispatcher.getAll("FOO"));
+        assertEquals(2, dispatcher.size());
+    }
+
+    @Test
+    public void testSuggestions() throws CommandException {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        dispatcher.register(callable(true), "tp", "teleport");
+        dispatcher.register(callable(true), "time");
+        dispatcher.register(callable(false), "tell");
+        dispatcher.register(callable(true), "kill");
+
+        final CommandSource source = mock(CommandSource.class);
+        assertEquals(ImmutableList.of("teleport", "time", "tp"), dispatcher.getSuggestions(source, "t"));
+        assertEquals(ImmutableList.of("teleport"), dispatcher.getSuggestions(source, "TE"));
+        assertEquals(ImmutableList.of(), dispatcher.getSuggestions(source, "x"));
+        assertEquals(ImmutableList.of("kill", "teleport", "time", "tp"), dispatcher.getSuggestions(source, ""));
+    }
+
+    @Test
+    public void testRemove() {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        final CommandMapping foo = dispatcher.register(callable(true), "foo", "foobar").get();
+        final CommandMapping bar = dispatcher.register(callable(true), "bar").get();
+        final Multimap<String, CommandMapping> snapshot = dispatcher.getAll();
+
+        assertEquals(ImmutableList.of(foo), dispatcher.remove("FOO"));
+        assertFalse(dispatcher.containsAlias("foo"));
+        assertTrue(dispatcher.containsAlias("foobar"));
+        assertEquals(3, snapshot.size());
+
+        assertEquals(Optional.of(foo), dispatcher.removeMapping(foo));
+        assertFalse(dispatcher.containsMapping(foo));
+        assertFalse(dispatcher.removeMapping(foo).isPresent());
+
+        assertTrue(dispatcher.removeAll(ImmutableList.of("bar", "baz")));
+        assertFalse(dispatcher.containsMapping(bar));
+        assertEquals(0, dispatcher.size());
+        assertTrue(dispatcher.getAll().isEmpty());
+    }
+
+    @Test
+    public void testSharedAlias() {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        final CommandMapping first = dispatcher.register(callable(true), "cmd", "first").get();
+        final CommandMapping second = dispatcher.register(callable(true), "cmd", "second").get();
+        assertEquals(ImmutableList.of(first, second), dispatcher.getAll().get("cmd"));
+        assertEquals(Optional.of(first), dispatcher.get("cmd"));
+
+        assertTrue(dispatcher.removeMappings(ImmutableList.of(first)));
+        assertEquals(Optional.of(second), dispatcher.get("cmd"));
+        assertFalse(dispatcher.containsAlias("first"));
+        assertEquals(2, dispatcher.size());
+    }
+
+}
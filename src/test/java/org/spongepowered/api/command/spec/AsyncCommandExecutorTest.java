@@ -0,0 +1,277 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.spec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.ArgumentParseException;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.command.args.GenericArguments;
+import org.spongepowered.api.scheduler.SpongeExecutorService;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.text.TestPlainTextSerializer;
+import org.spongepowered.api.text.Text;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tests for {@link AsyncCommandExecutor}.
+ */
+public class AsyncCommandExecutorTest {
+
+    private static final CommandSource MOCK_SOURCE = Mockito.mock(CommandSource.class);
+
+    private TestExecutorService executorService;
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+        this.executorService = new TestExecutorService();
+    }
+
+    @After
+    public void shutdown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void testProcessAsync() throws Exception {
+        final CommandSpec spec = CommandSpec.builder()
+                .arguments(GenericArguments.integer(Text.of("count")))
+                .asyncExecutor((src, args) -> {
+                    assertNotSame(Thread.currentThread(), this.executorService.caller);
+                    return CommandResult.builder().successCount(args.<Integer>getOne("count").get()).build();
+                }, this.executorService)
+                .build();
+        this.executorService.caller = Thread.currentThread();
+        assertEquals(Integer.valueOf(3), spec.processAsync(MOCK_SOURCE, "3").get(5, TimeUnit.SECONDS).getSuccessCount().get());
+    }
+
+    @Test(expected = ArgumentParseException.class)
+    public void testParseOnCaller() throws CommandException {
+        final CommandSpec spec = CommandSpec.builder()
+                .arguments(GenericArguments.integer(Text.of("count")))
+                .asyncExecutor((src, args) -> CommandResult.success(), this.executorService)
+                .build();
+        spec.processAsync(MOCK_SOURCE, "three");
+    }
+
+    @Test
+    public void testExceptionalCompletion() throws Exception {
+        final CommandException exception = new CommandException(Text.of("failed"));
+        final AsyncCommandExecutor executor = new AsyncCommandExecutor((src, args) -> {
+            throw exception;
+        }, this.executorService, 0, TimeUnit.SECONDS);
+        try {
+            executor.executeAsync(MOCK_SOURCE, new CommandContext()).get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertEquals(exception, e.getCause());
+        }
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        // Long enough for the command to start before it times out
+        final AsyncCommandExecutor executor = new AsyncCommandExecutor(blockingExecutor(started, interrupted), this.executorService,
+                1, TimeUnit.SECONDS);
+        final CompletableFuture<CommandResult> result = executor.executeAsync(MOCK_SOURCE, new CommandContext());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final AsyncCommandExecutor executor = new AsyncCommandExecutor(blockingExecutor(started, interrupted), this.executorService,
+                0, TimeUnit.SECONDS);
+        final CompletableFuture<CommandResult> result = executor.executeAsync(MOCK_SOURCE,
+                new CommandContext());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        result.cancel(true);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        try {
+            result.get();
+            fail();
+        } catch (CancellationException ignored) {
+        }
+    }
+
+    @Test
+    public void testReportFailures() throws Exception {
+        final CommandSource source = Mockito.mock(CommandSource.class);
+        new AsyncCommandExecutor((src, args) -> {
+            throw new IllegalStateException("failed");
+        }, this.executorService, 0, TimeUnit.SECONDS).execute(source, new CommandContext());
+        Mockito.verify(source, Mockito.timeout(5000)).sendMessage(Mockito.any(Text.class));
+
+        final CommandSource timedOutSource = Mockito.mock(CommandSource.class);
+        new AsyncCommandExecutor(blockingExecutor(new CountDownLatch(1), new CountDownLatch(1)), this.executorService, 50, TimeUnit.MILLISECONDS)
+                .execute(timedOutSource, new CommandContext());
+        Mockito.verify(timedOutSource, Mockito.timeout(5000)).sendMessage(Mockito.any(Text.class));
+    }
+
+    private static CommandExecutor blockingExecutor(CountDownLatch started, CountDownLatch interrupted) {
+        return (src, args) -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return CommandResult.empty();
+        };
+    }
+
+    private static final class TestExecutorService extends ScheduledThreadPoolExecutor implements SpongeExecutorService {
+
+        volatile Thread caller;
+
+        TestExecutorService() {
+            super(2);
+        }
+
+        @Override
+        protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+            return new TestFuture<>(task);
+        }
+
+        @Override
+        protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+            return new TestFuture<>(task);
+        }
+
+        @Override
+        public SpongeFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return (SpongeFuture<?>) super.schedule(command, delay, unit);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> SpongeFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            return (SpongeFuture<V>) super.schedule(callable, delay, unit);
+        }
+
+        @Override
+        public SpongeFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            return (SpongeFuture<?>) super.scheduleAtFixedRate(command, initialDelay, period, unit);
+        }
+
+        @Override
+        public SpongeFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            return (SpongeFuture<?>) super.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+        }
+
+    }
+
+    private static final class TestFuture<V> implements SpongeExecutorService.SpongeFuture<V> {
+
+        private final RunnableScheduledFuture<V> future;
+
+        TestFuture(RunnableScheduledFuture<V> future) {
+            this.future = future;
+        }
+
+        @Override
+        public Task getTask() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return this.future.isPeriodic();
+        }
+
+        @Override
+        public void run() {
+            this.future.run();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return this.future.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.future.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return this.future.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return this.future.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return this.future.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return this.future.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return this.future.compareTo(o instanceof TestFuture ? ((TestFuture<?>) o).future : o);
+        }
+
+    }
+
+}
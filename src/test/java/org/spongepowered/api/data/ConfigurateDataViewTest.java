@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.data;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.Lists;
@@ -34,6 +35,7 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class ConfigurateDataViewTest {
 
@@ -67,4 +69,30 @@ public void testNodeToData() {
         // assertTrue(node.equals(translated)); // TODO Pending Configurate equals implementation
     }
 
+    @Test
+    public void testLazyAndParallelTranslation() {
+        ConfigurationNode node = SimpleConfigurationNode.root();
+        node.getNode("foo", "int").setValue(1);
+        node.getNode("foo", "nested", "string").setValue("bar");
+        node.getNode("foo", "nested", "empty").setValue(Collections.emptyMap());
+        node.getNode("list").setValue(Lists.newArrayList("a", "b"));
+
+        DataContainer expected = ConfigurateTranslator.instance().translateFrom(node);
+        assertEquals(expected, ConfigurateTranslator.instance().translateFromLazily(node));
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(expected, ConfigurateTranslator.instance().translateFrom(node, pool));
+
+            // Top level keys containing a '.' are split by both overloads
+            node.getNode("dotted.key", "int").setValue(2);
+            node.getNode("dotted.value").setValue("baz");
+            expected = ConfigurateTranslator.instance().translateFrom(node);
+            assertEquals(2, expected.getInt(DataQuery.of("dotted", "key", "int")).get().intValue());
+            assertEquals(expected, ConfigurateTranslator.instance().translateFrom(node, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 }
@@ -25,6 +25,7 @@
 package org.spongepowered.api.data;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import com.google.common.collect.ImmutableList;
@@ -154,4 +155,19 @@ public void testEquals() {
         assertThat(query1.equals(nonEqual), is(false));
     }
 
+    /**
+     * Method: then(String part)
+     */
+    @Test
+    public void testInterning() {
+        DataQuery query = DataQuery.of("a", "b", "c");
+        assertThat(DataQuery.of('.', "a.b.c"), is(sameInstance(query)));
+        assertThat(DataQuery.of("a").then("b").then("c"), is(sameInstance(query)));
+        assertThat(DataQuery.of("a").then(DataQuery.of("b", "c")), is(sameInstance(query)));
+        assertThat(query.pop(), is(sameInstance(DataQuery.of("a", "b"))));
+        assertThat(query.last(), is(sameInstance(DataQuery.of("c"))));
+        assertThat(query.size(), is(3));
+        assertThat(query.hashCode(), is(query.getParts().hashCode()));
+    }
+
 }
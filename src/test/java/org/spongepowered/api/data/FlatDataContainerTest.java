@@ -0,0 +1,140 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+public class FlatDataContainerTest {
+
+    @Test
+    public void testSetAndGet() {
+        DataContainer container = DataContainer.createFlat();
+        container.set(of("foo", "int"), 1)
+                .set(of("foo", "double"), 2.5D)
+                .set(of("foo", "bool"), true)
+                .set(of("bar"), "baz");
+        assertEquals(Optional.of(1), container.getInt(of("foo", "int")));
+        assertEquals(Optional.of(2L), container.getLong(of("foo", "double")));
+        assertEquals(Optional.of(2.5D), container.get(of("foo", "double")));
+        assertEquals(Optional.of(true), container.getBoolean(of("foo", "bool")));
+        assertEquals(Optional.of("baz"), container.getString(of("bar")));
+        assertFalse(container.getInt(of("bar")).isPresent());
+        assertFalse(container.get(of("bar", "baz")).isPresent());
+    }
+
+    @Test
+    public void testViews() {
+        DataContainer container = DataContainer.createFlat();
+        container.set(of("foo", "bar", "baz"), 1);
+        DataView view = container.getView(of("foo", "bar")).get();
+        assertEquals(of("foo", "bar"), view.getCurrentPath());
+        assertEquals("bar", view.getName());
+        assertTrue(view.getContainer() == container);
+        assertEquals(of("foo"), view.getParent().get().getCurrentPath());
+        assertEquals(ImmutableSet.of(of("foo"), of("foo", "bar"), of("foo", "bar", "baz")), container.getKeys(true));
+
+        view.set(of("qux"), 2);
+        assertEquals(Optional.of(2), container.getInt(of("foo", "bar", "qux")));
+
+        container.remove(of("foo"));
+        assertFalse(container.contains(of("foo", "bar", "baz")));
+        assertTrue(container.getKeys(true).isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRemovedView() {
+        DataContainer container = DataContainer.createFlat();
+        DataView view = container.createView(of("foo"));
+        container.set(of("foo"), 1);
+        view.set(of("bar"), 2);
+    }
+
+    @Test
+    public void testReplaceValues() {
+        DataContainer container = DataContainer.createFlat();
+        container.set(of("foo", "bar"), 1);
+        container.set(of("foo"), "baz");
+        assertEquals(Optional.of("baz"), container.getString(of("foo")));
+        container.set(of("foo", "bar"), 2);
+        assertEquals(Optional.of(2), container.getInt(of("foo", "bar")));
+    }
+
+    @Test
+    public void testCopy() {
+        DataContainer container = DataContainer.createFlat();
+        List<Integer> list = ImmutableList.of(1, 2, 3);
+        container.set(of("foo", "list"), list).set(of("foo", "int"), 1);
+        DataContainer copy = container.copy();
+        assertEquals(container, copy);
+        copy.set(of("foo", "int"), 2);
+        assertEquals(Optional.of(1), container.getInt(of("foo", "int")));
+
+        DataContainer viewCopy = container.getView(of("foo")).get().copy();
+        assertEquals(Optional.of(list), viewCopy.getIntegerList(of("list")));
+        assertEquals(Optional.of(1), viewCopy.getInt(of("int")));
+    }
+
+    @Test
+    public void testCopyIsolatesListElements() {
+        DataContainer container = DataContainer.createFlat();
+        container.set(of("foo", "list"), ImmutableList.of(DataContainer.createNew().set(of("int"), 1)));
+
+        DataContainer copy = container.copy();
+        copy.getViewList(of("foo", "list")).get().get(0).set(of("int"), 2);
+        assertEquals(Optional.of(1), container.getViewList(of("foo", "list")).get().get(0).getInt(of("int")));
+
+        DataContainer viewCopy = container.getView(of("foo")).get().copy();
+        viewCopy.getViewList(of("list")).get().get(0).set(of("int"), 3);
+        assertEquals(Optional.of(1), container.getViewList(of("foo", "list")).get().get(0).getInt(of("int")));
+
+        container.getViewList(of("foo", "list")).get().get(0).set(of("int"), 4);
+        assertEquals(Optional.of(2), copy.getViewList(of("foo", "list")).get().get(0).getInt(of("int")));
+        assertEquals(Optional.of(3), viewCopy.getViewList(of("list")).get().get(0).getInt(of("int")));
+    }
+
+    @Test
+    public void testMatchesMemoryContainer() {
+        DataContainer flat = DataContainer.createFlat();
+        DataContainer memory = DataContainer.createNew();
+        for (DataContainer container : ImmutableList.of(flat, memory)) {
+            container.set(of("foo", "int"), 1)
+                    .set(of("foo", "long"), Long.MAX_VALUE)
+                    .set(of("foo", "list"), ImmutableList.of("a", "b"))
+                    .set(of("bar"), 0.5F);
+        }
+        assertEquals(memory.getValues(true), flat.getValues(true));
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Optional;
+
+public class PersistentDataContainerTest {
+
+    @Test
+    public void testViews() {
+        DataContainer container = DataContainer.createPersistent();
+        container.set(of("foo", "bar", "baz"), 1);
+        DataView view = container.getView(of("foo", "bar")).get();
+        assertEquals(of("foo", "bar"), view.getCurrentPath());
+        assertEquals("bar", view.getName());
+        assertTrue(view.getContainer() == container);
+        assertEquals(of("foo"), view.getParent().get().getCurrentPath());
+        assertEquals(ImmutableSet.of(of("foo"), of("foo", "bar"), of("foo", "bar", "baz")), container.getKeys(true));
+
+        view.set(of("qux"), 2);
+        assertEquals(Optional.of(2), container.getInt(of("foo", "bar", "qux")));
+
+        container.remove(of("foo"));
+        assertFalse(container.contains(of("foo", "bar", "baz")));
+        assertTrue(container.getKeys(true).isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRemovedView() {
+        DataContainer container = DataContainer.createPersistent();
+        DataView view = container.createView(of("foo"));
+        container.set(of("foo"), 1);
+        view.set(of("bar"), 2);
+    }
+
+    @Test
+    public void testCopyIsIsolated() {
+        DataContainer container = DataContainer.createPersistent();
+        container.set(of("foo", "int"), 1).set(of("foo", "array"), new int[] {1, 2}).set(of("bar", "int"), 3);
+        DataContainer copy = container.copy();
+        // Arrays are compared by identity, and every access returns a new array
+        assertEquals(container.getKeys(true), copy.getKeys(true));
+        assertArrayEquals(new int[] {1, 2}, (int[]) copy.get(of("foo", "array")).get());
+
+        copy.set(of("foo", "int"), 2);
+        copy.remove(of("bar"));
+        assertEquals(Optional.of(1), container.getInt(of("foo", "int")));
+        assertEquals(Optional.of(3), container.getInt(of("bar", "int")));
+        assertEquals(Optional.of(2), copy.getInt(of("foo", "int")));
+        assertFalse(copy.contains(of("bar")));
+
+        container.getView(of("foo")).get().set(of("new"), "value");
+        assertFalse(copy.contains(of("foo", "new")));
+    }
+
+    @Test
+    public void testCopyIsolatesListElements() {
+        DataContainer container = DataContainer.createPersistent();
+        DataContainer element = DataContainer.createNew().set(of("int"), 1);
+        container.set(of("list"), ImmutableList.of(element));
+        element.set(of("int"), 2);
+        assertEquals(Optional.of(1), container.getViewList(of("list")).get().get(0).getInt(of("int")));
+
+        DataContainer copy = container.copy();
+        copy.getViewList(of("list")).get().get(0).set(of("int"), 3);
+        container.getViewList(of("list")).get().get(0).set(of("int"), 4);
+        assertEquals(Optional.of(1), container.getViewList(of("list")).get().get(0).getInt(of("int")));
+        assertEquals(Optional.of(1), copy.getViewList(of("list")).get().get(0).getInt(of("int")));
+        assertEquals(container, copy);
+    }
+
+    @Test
+    public void testSetView() {
+        DataContainer container = DataContainer.createPersistent();
+        container.set(of("foo", "int"), 1);
+        container.set(of("bar"), container.getView(of("foo")).get());
+        container.set(of("foo", "int"), 2);
+        assertEquals(Optional.of(1), container.getInt(of("bar", "int")));
+
+        DataContainer memory = DataContainer.createNew().set(of("baz", "string"), "value");
+        container.set(of("bar"), memory);
+        assertEquals(Optional.of(1), container.getInt(of("bar", "int")));
+        assertEquals(Optional.of("value"), container.getString(of("bar", "baz", "string")));
+    }
+
+    @Test
+    public void testMatchesMemoryContainer() {
+        DataContainer persistent = DataContainer.createPersistent();
+        DataContainer memory = DataContainer.createNew();
+        for (DataContainer container : ImmutableList.of(persistent, memory)) {
+            container.set(of("foo", "int"), 1)
+                    .set(of("foo", "long"), Long.MAX_VALUE)
+                    .set(of("foo", "list"), ImmutableList.of("a", "b"))
+                    .set(of("bar"), 0.5F);
+            container.remove(of("foo", "long"));
+        }
+        assertEquals(memory.getValues(true), persistent.getValues(true));
+    }
+
+}
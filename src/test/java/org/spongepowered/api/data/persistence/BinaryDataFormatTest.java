@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class BinaryDataFormatTest {
+
+    private static DataContainer createContainer() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("foo", "int"), 1)
+                .set(of("foo", "negative"), -42)
+                .set(of("foo", "long"), Long.MIN_VALUE)
+                .set(of("foo", "double"), 10.5D)
+                .set(of("foo", "float"), 0.25F)
+                .set(of("foo", "byte"), (byte) 3)
+                .set(of("foo", "short"), (short) -7)
+                .set(of("foo", "boolean"), true)
+                .set(of("foo", "char"), 'c')
+                .set(of("bar", "string"), "Hello world é")
+                .set(of("bar", "list"), ImmutableList.of("a", "b", "c"))
+                .set(of("bar", "nested", "map"), ImmutableMap.of("int", 5, "string", "foo"));
+        return container;
+    }
+
+    private static byte[] write(DataContainer container) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryDataFormat.instance().writeTo(output, container);
+        return output.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        DataContainer container = createContainer();
+        DataContainer read = BinaryDataFormat.instance().readFrom(new ByteArrayInputStream(write(container)));
+        assertEquals(container, read);
+    }
+
+    @Test
+    public void testArrays() throws IOException {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("bytes"), new byte[] {1, 2, 3})
+                .set(of("ints"), new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE})
+                .set(of("longs"), new long[] {Long.MIN_VALUE, Long.MAX_VALUE})
+                .set(of("doubles"), new double[] {0.5D, -1.5D});
+        DataContainer read = BinaryDataFormat.instance().readFrom(new ByteArrayInputStream(write(container)));
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) read.get(of("bytes")).get());
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, (int[]) read.get(of("ints")).get());
+        assertArrayEquals(new long[] {Long.MIN_VALUE, Long.MAX_VALUE}, (long[]) read.get(of("longs")).get());
+        assertArrayEquals(new double[] {0.5D, -1.5D}, (double[]) read.get(of("doubles")).get(), 0.0D);
+    }
+
+    @Test
+    public void testStreamingSkip() throws IOException {
+        BinaryDataReader reader = BinaryDataFormat.instance().newReader(new ByteArrayInputStream(write(createContainer())));
+        reader.beginView();
+        assertEquals("foo", reader.nextName());
+        assertEquals(BinaryValueType.VIEW, reader.peek());
+        reader.skipValue();
+        DataQuery bar = reader.nextQuery();
+        assertEquals(of("bar"), bar);
+        reader.beginView();
+        assertEquals("string", reader.nextName());
+        assertEquals("Hello world é", reader.nextString());
+        // The remainder of the view is skipped when it is ended early
+        reader.endView();
+        assertFalse(reader.hasNext());
+        reader.endView();
+    }
+
+    @Test
+    public void testInternedKeys() throws IOException {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("a", "key"), 1).set(of("b", "key"), 2);
+        BinaryDataReader reader = BinaryDataFormat.instance().newReader(new ByteArrayInputStream(write(container)));
+        reader.beginView();
+        reader.nextName();
+        reader.beginView();
+        DataQuery first = reader.nextQuery();
+        assertEquals(1, reader.nextInt());
+        reader.endView();
+        reader.nextName();
+        reader.beginView();
+        assertTrue(first == reader.nextQuery());
+        assertEquals(2, reader.nextInt());
+        reader.endView();
+        reader.endView();
+    }
+
+    @Test(expected = InvalidDataFormatException.class)
+    public void testInvalidStream() throws IOException {
+        BinaryDataFormat.instance().readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+}
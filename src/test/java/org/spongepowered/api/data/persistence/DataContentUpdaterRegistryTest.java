@@ -0,0 +1,150 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.data.Queries;
+import org.spongepowered.api.util.Color;
+
+import java.util.Optional;
+
+public class DataContentUpdaterRegistryTest {
+
+    private static final DataQuery STEPS = DataQuery.of("Steps");
+
+    @Test
+    public void testChainResolution() {
+        DataContentUpdaterRegistry registry = new DataContentUpdaterRegistry();
+        DataContentUpdater oneToTwo = new TestUpdater(1, 2);
+        DataContentUpdater twoToThree = new TestUpdater(2, 3);
+        DataContentUpdater oneToThree = new TestUpdater(1, 3);
+        DataContentUpdater threeToFour = new TestUpdater(3, 4);
+        registry.register(Color.class, oneToTwo);
+        registry.register(Color.class, twoToThree);
+        registry.register(Color.class, threeToFour);
+
+        Optional<DataContentUpdater> updater = registry.getWrappedContentUpdater(Color.class, 1, 4);
+        assertTrue(updater.isPresent());
+        assertEquals(ImmutableList.of(oneToTwo, twoToThree, threeToFour), ((DataContentUpdaterChain) updater.get()).getSteps());
+        assertSame(updater.get(), registry.getWrappedContentUpdater(Color.class, 1, 4).get());
+        assertFalse(registry.getWrappedContentUpdater(Color.class, 1, 5).isPresent());
+        assertFalse(registry.getWrappedContentUpdater(Color.class, 0, 4).isPresent());
+
+        // Registering invalidates the cached chains, and shorter chains win
+        registry.register(Color.class, oneToThree);
+        DataContentUpdaterChain chain = (DataContentUpdaterChain) registry.getWrappedContentUpdater(Color.class, 1, 4).get();
+        assertEquals(ImmutableList.of(oneToThree, threeToFour), chain.getSteps());
+        assertEquals(1, chain.getInputVersion());
+        assertEquals(4, chain.getOutputVersion());
+    }
+
+    @Test
+    public void testChainResolutionAvoidsDeadEnds() {
+        DataContentUpdaterRegistry registry = new DataContentUpdaterRegistry();
+        DataContentUpdater oneToThree = new TestUpdater(1, 3);
+        DataContentUpdater oneToTwo = new TestUpdater(1, 2);
+        DataContentUpdater twoToFour = new TestUpdater(2, 4);
+        registry.register(Color.class, oneToThree);
+        registry.register(Color.class, oneToTwo);
+        registry.register(Color.class, twoToFour);
+
+        Optional<DataContentUpdater> updater = registry.getWrappedContentUpdater(Color.class, 1, 4);
+        assertTrue(updater.isPresent());
+        assertEquals(ImmutableList.of(oneToTwo, twoToFour), ((DataContentUpdaterChain) updater.get()).getSteps());
+        assertEquals(ImmutableList.of(oneToThree), ((DataContentUpdaterChain) registry.getWrappedContentUpdater(Color.class, 1, 3).get()).getSteps());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSelfLoopRejected() {
+        new DataContentUpdaterRegistry().register(Color.class, new TestUpdater(2, 2));
+    }
+
+    @Test
+    public void testChainResolutionSkipsSelfLoops() {
+        DataContentUpdaterRegistry registry = new DataContentUpdaterRegistry();
+        TestUpdater oneToTwo = new TestUpdater(1, 2);
+        registry.register(Color.class, oneToTwo);
+        registry.register(Color.class, new TestUpdater(2, 3));
+        // An updater reporting different versions after it was registered
+        oneToTwo.output = 1;
+        assertFalse(registry.getWrappedContentUpdater(Color.class, 1, 3).isPresent());
+    }
+
+    @Test
+    public void testUpdateAndMetrics() {
+        DataContentUpdaterRegistry registry = new DataContentUpdaterRegistry();
+        registry.register(Color.class, new TestUpdater(1, 2));
+        registry.register(Color.class, new TestUpdater(2, 3));
+        DataContentUpdater updater = registry.getWrappedContentUpdater(Color.class, 1, 3).get();
+
+        DataContainer container = new MemoryDataContainer().set(Queries.CONTENT_VERSION, 1).set(STEPS, 0);
+        DataView updated = updater.update(container);
+        updater.update(new MemoryDataContainer().set(Queries.CONTENT_VERSION, 1).set(STEPS, 0));
+        assertEquals(Optional.of(3), updated.getInt(Queries.CONTENT_VERSION));
+        assertEquals(Optional.of(2), updated.getInt(STEPS));
+        assertEquals(2, registry.getMetrics(Color.class).getUpdateCount());
+
+        registry.getMetrics(Color.class).reset();
+        assertEquals(0, registry.getMetrics(Color.class).getUpdateCount());
+    }
+
+    private static final class TestUpdater implements DataContentUpdater {
+
+        private final int input;
+        int output;
+
+        TestUpdater(int input, int output) {
+            this.input = input;
+            this.output = output;
+        }
+
+        @Override
+        public int getInputVersion() {
+            return this.input;
+        }
+
+        @Override
+        public int getOutputVersion() {
+            return this.output;
+        }
+
+        @Override
+        public DataView update(DataView content) {
+            return content.set(Queries.CONTENT_VERSION, this.output).set(STEPS, content.getInt(STEPS).get() + 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.util.Color;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class DeserializationResultTest {
+
+    private static final DataQuery RGB = DataQuery.of("Rgb");
+
+    private static final DataBuilder<Color> BUILDER = view -> {
+        if (!view.contains(RGB)) {
+            return Optional.empty();
+        }
+        return Optional.of(Color.ofRgb(view.getInt(RGB).orElseThrow(() -> new InvalidDataException("Rgb is not a number"))));
+    };
+
+    private static List<DataView> createViews(int count) {
+        List<DataView> views = Lists.newArrayList();
+        for (int i = 0; i < count; i++) {
+            if (i % 10 == 3) {
+                views.add(new MemoryDataContainer());
+            } else if (i % 10 == 7) {
+                views.add(new MemoryDataContainer().set(RGB, "invalid"));
+            } else {
+                views.add(new MemoryDataContainer().set(RGB, i));
+            }
+        }
+        return views;
+    }
+
+    private static void assertResult(DeserializationResult<Color> result, int count) {
+        assertEquals(count - count / 5, result.getValues().size());
+        assertEquals(count / 5, result.getFailures().size());
+        int value = 0;
+        for (Color color : result.getValues()) {
+            while (value % 10 == 3 || value % 10 == 7) {
+                value++;
+            }
+            assertEquals(value++, color.getRgb());
+        }
+        for (DeserializationResult.Failure failure : result.getFailures()) {
+            assertEquals(failure.getIndex() % 10 == 7, failure.getCause().isPresent());
+        }
+    }
+
+    @Test
+    public void testBuildAll() {
+        DeserializationResult<Color> result = BUILDER.buildAll(createViews(100));
+        assertTrue(result.hasFailures());
+        assertResult(result, 100);
+    }
+
+    @Test
+    public void testBuildAllOnExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertResult(BUILDER.buildAll(createViews(1000), executor).join(), 1000);
+            assertFalse(BUILDER.buildAll(createViews(0), executor).join().hasFailures());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailed() {
+        DeserializationResult<Color> result = DeserializationResult.failed(createViews(10), new InvalidDataException());
+        assertTrue(result.getValues().isEmpty());
+        assertEquals(10, result.getFailures().size());
+        assertEquals(9, result.getFailures().get(9).getIndex());
+    }
+
+}
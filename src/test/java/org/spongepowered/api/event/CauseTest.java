@@ -218,5 +218,25 @@ public void testListedArray() {
         assertThat(stringList.equals(fooList), is(true));
     }
 
+    @Test
+    public void testIndexedLookups() {
+        final Cause cause = Cause.source("source").named("first", 1).named("Second", 2L).named("third", 3).named("fourth", "fourth").build();
+        assertThat(cause.first(Integer.class), is(Optional.of(1)));
+        assertThat(cause.last(Number.class), is(Optional.<Number>of(3)));
+        assertThat(cause.allOf(Number.class), is(equalTo(ImmutableList.<Number>of(1, 2L, 3))));
+        assertThat(cause.allOf(Double.class).isEmpty(), is(true));
+        assertThat(cause.containsType(Comparable.class), is(true));
+        assertThat(cause.containsType(Double.class), is(false));
+        assertThat(cause.get("second", Long.class), is(Optional.of(2L)));
+        assertThat(cause.get("second", Integer.class).isPresent(), is(false));
+        assertThat(cause.containsNamed("FOURTH"), is(true));
+        assertThat(cause.before(String.class), is(Optional.of(3)));
+        assertThat(cause.before("source").isPresent(), is(false));
+        assertThat(cause.before("third"), is(Optional.of(2L)));
+        assertThat(cause.after(Long.class), is(Optional.of(3)));
+        assertThat(cause.after(String.class), is(Optional.of(1)));
+        assertThat(cause.after("fourth").isPresent(), is(false));
+    }
+
 
 }
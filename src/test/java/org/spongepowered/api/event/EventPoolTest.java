@@ -0,0 +1,143 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+
+import org.junit.After;
+import org.junit.Test;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.event.block.TickBlockEvent;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.entity.HealEntityEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class EventPoolTest {
+
+    private final Cause cause = Cause.source(mock(Game.class)).build();
+
+    @After
+    public void disableDebug() {
+        EventPool.setDebug(false);
+    }
+
+    private Map<String, Object> values(EventPool<TickBlockEvent> pool, BlockSnapshot block) {
+        Map<String, Object> values = pool.getValues();
+        values.put("cause", this.cause);
+        values.put("targetBlock", block);
+        return values;
+    }
+
+    @Test
+    public void testReuse() {
+        EventPool<TickBlockEvent> pool = EventPool.of(TickBlockEvent.class);
+        BlockSnapshot first = mock(BlockSnapshot.class);
+        BlockSnapshot second = mock(BlockSnapshot.class);
+
+        TickBlockEvent event = pool.create(this.values(pool, first));
+        assertSame(first, event.getTargetBlock());
+        event.setCancelled(true);
+        pool.release(event);
+        assertNull(event.getTargetBlock());
+        assertFalse(event.isCancelled());
+
+        TickBlockEvent reused = pool.create(this.values(pool, second));
+        assertSame(event, reused);
+        assertSame(second, reused.getTargetBlock());
+        assertSame(this.cause, reused.getCause());
+        assertFalse(reused.isCancelled());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testMissingProperty() {
+        EventPool<TickBlockEvent> pool = EventPool.of(TickBlockEvent.class);
+        pool.release(pool.create(this.values(pool, mock(BlockSnapshot.class))));
+        pool.create(this.values(pool, null));
+    }
+
+    @Test
+    public void testPost() {
+        EventPool<TickBlockEvent> pool = EventPool.of(TickBlockEvent.class);
+        EventManager eventManager = mock(EventManager.class);
+        List<BlockSnapshot> blocks = new ArrayList<>();
+        BlockSnapshot block = mock(BlockSnapshot.class);
+        assertFalse(pool.post(eventManager, this.values(pool, block), event -> blocks.add(event.getTargetBlock())));
+        assertEquals(1, blocks.size());
+        assertSame(block, blocks.get(0));
+    }
+
+    @Test
+    public void testRetainedEvents() throws InterruptedException {
+        EventPool.setDebug(true);
+        EventPool<TickBlockEvent> pool = EventPool.of(TickBlockEvent.class);
+        // The mock keeps the events it was invoked with
+        EventManager eventManager = mock(EventManager.class);
+        pool.post(eventManager, this.values(pool, mock(BlockSnapshot.class)));
+        pool.post(eventManager, this.values(pool, mock(BlockSnapshot.class)));
+        assertEquals(2, pool.countRetainedEvents());
+        reset(eventManager);
+        // System.gc() is only a hint, so collecting the events may take a few
+        // attempts, or never happen if explicit collections are disabled
+        int retained = pool.countRetainedEvents();
+        for (int i = 0; i < 20 && retained != 0; i++) {
+            Thread.sleep(50);
+            retained = pool.countRetainedEvents();
+        }
+        assumeTrue("The released events were not garbage collected", retained == 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDoubleRelease() {
+        EventPool<TickBlockEvent> pool = EventPool.of(TickBlockEvent.class);
+        TickBlockEvent event = pool.create(this.values(pool, mock(BlockSnapshot.class)));
+        pool.release(event);
+        pool.release(event);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDoubleReleaseInDebugMode() {
+        EventPool.setDebug(true);
+        EventPool<TickBlockEvent> pool = EventPool.of(TickBlockEvent.class);
+        TickBlockEvent event = pool.create(this.values(pool, mock(BlockSnapshot.class)));
+        pool.release(event);
+        pool.release(event);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStatefulParent() {
+        EventPool.of(HealEntityEvent.class);
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.dispatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.slf4j.helpers.NOPLogger;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+public class BakedEventDispatcherTest {
+
+    @Test
+    public void testPostInOrder() {
+        BakedEventDispatcher dispatcher = new BakedEventDispatcher(NOPLogger.NOP_LOGGER);
+        TestListener listener = new TestListener();
+        assertFalse(dispatcher.post(new TestEvent()));
+        assertEquals(0, dispatcher.getListeners(TestEvent.class).size());
+
+        dispatcher.registerListeners("plugin", listener);
+        assertEquals(2, dispatcher.getListeners(TestEvent.class).size());
+        assertEquals(3, dispatcher.getListeners(SubTestEvent.class).size());
+
+        assertTrue(dispatcher.post(new SubTestEvent()));
+        assertEquals("first default ", listener.calls.toString());
+
+        listener.calls.setLength(0);
+        assertFalse(dispatcher.post(new TestEvent()));
+        assertEquals("default late ", listener.calls.toString());
+
+        dispatcher.register(new RegisteredListener<>("other", TestEvent.class, Order.PRE, false, event -> listener.calls.append("pre "), "handle"));
+        listener.calls.setLength(0);
+        dispatcher.post(new TestEvent());
+        assertEquals("pre default late ", listener.calls.toString());
+    }
+
+    @Test
+    public void testUnregister() {
+        BakedEventDispatcher dispatcher = new BakedEventDispatcher(NOPLogger.NOP_LOGGER);
+        TestListener listener = new TestListener();
+        dispatcher.registerListeners("plugin", listener);
+        dispatcher.register(new RegisteredListener<>("other", TestEvent.class, Order.PRE, false, event -> { }, "handle"));
+
+        dispatcher.unregisterListeners(listener);
+        assertEquals(1, dispatcher.getListeners(SubTestEvent.class).size());
+        dispatcher.post(new SubTestEvent());
+        assertEquals("", listener.calls.toString());
+
+        dispatcher.unregisterPluginListeners("other");
+        assertEquals(0, dispatcher.getListeners(SubTestEvent.class).size());
+    }
+
+    @Test
+    public void testListenerExceptionsAreCaught() {
+        BakedEventDispatcher dispatcher = new BakedEventDispatcher(NOPLogger.NOP_LOGGER);
+        TestListener listener = new TestListener();
+        dispatcher.register(new RegisteredListener<>("plugin", TestEvent.class, Order.FIRST, false, event -> {
+            throw new IllegalStateException();
+        }, "handle"));
+        dispatcher.registerListeners("plugin", listener);
+        dispatcher.post(new TestEvent());
+        assertEquals("default late ", listener.calls.toString());
+    }
+
+    @Test
+    public void testNonPublicListenerClass() {
+        BakedEventDispatcher dispatcher = new BakedEventDispatcher(NOPLogger.NOP_LOGGER);
+        HiddenListener listener = new HiddenListener();
+        dispatcher.registerListeners("plugin", listener);
+        dispatcher.post(new SubTestEvent());
+        assertEquals(1, listener.calls);
+        dispatcher.post(new TestEvent());
+        assertEquals(1, listener.calls);
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private boolean cancelled;
+
+        @Override
+        public Cause getCause() {
+            return Cause.source(this).build();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+    public static class SubTestEvent extends TestEvent {
+
+    }
+
+    public static class TestListener {
+
+        final StringBuilder calls = new StringBuilder();
+
+        @Listener(order = Order.LATE)
+        public void onLate(TestEvent event) {
+            this.calls.append("late ");
+        }
+
+        @Listener(order = Order.FIRST)
+        public boolean onFirst(SubTestEvent event) {
+            this.calls.append("first ");
+            event.setCancelled(true);
+            return true;
+        }
+
+        @Listener
+        @IsCancelled(Tristate.UNDEFINED)
+        public void onDefault(Event event) {
+            this.calls.append("default ");
+        }
+
+    }
+
+    private static class HiddenListener {
+
+        int calls;
+
+        @Listener
+        @Include(SubTestEvent.class)
+        public void onEvent(TestEvent event) {
+            this.calls++;
+        }
+
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.filter;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+import org.slf4j.helpers.NOPLogger;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.dispatch.BakedEventDispatcher;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Named;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Optional;
+import java.util.Set;
+
+public class EventFilterTest {
+
+    @Test
+    public void testCauseFilters() {
+        TestListener listener = post(new TestEvent(Cause.source("source").named("count", 5).named("ratio", 2.5D).named("last", 7).build()));
+        assertEquals(ImmutableSet.of("root source 7", "named 5 2.5", "first 5 2"), listener.calls);
+    }
+
+    @Test
+    public void testGetterFilters() {
+        GetterListener listener = new GetterListener();
+        BakedEventDispatcher dispatcher = new BakedEventDispatcher(NOPLogger.NOP_LOGGER);
+        dispatcher.registerListeners("plugin", listener);
+        dispatcher.post(new TestEvent(Cause.source("source").build()));
+        assertEquals(ImmutableSet.of("getter 3 name name"), listener.calls);
+    }
+
+    @Test
+    public void testTypeAndCancellationFilters() {
+        TypeListener listener = new TypeListener();
+        BakedEventDispatcher dispatcher = new BakedEventDispatcher(NOPLogger.NOP_LOGGER);
+        dispatcher.registerListeners("plugin", listener);
+        dispatcher.post(new TestEvent(Cause.source("source").build()));
+        assertEquals(ImmutableSet.of("exclude", "any"), listener.calls);
+
+        listener.calls.clear();
+        SubTestEvent event = new SubTestEvent(Cause.source("source").build());
+        event.setCancelled(true);
+        dispatcher.post(event);
+        assertEquals(ImmutableSet.of("cancelled", "any"), listener.calls);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSource() {
+        new BakedEventDispatcher(NOPLogger.NOP_LOGGER).registerListeners("plugin", new InvalidListener());
+    }
+
+    private static TestListener post(Event event) {
+        TestListener listener = new TestListener();
+        BakedEventDispatcher dispatcher = new BakedEventDispatcher(NOPLogger.NOP_LOGGER);
+        dispatcher.registerListeners("plugin", listener);
+        dispatcher.post(event);
+        return listener;
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+
+        public TestEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+        public int getCount() {
+            return 3;
+        }
+
+        public Optional<String> getName() {
+            return Optional.of("name");
+        }
+
+        public Optional<String> getMissing() {
+            return Optional.empty();
+        }
+
+    }
+
+    public static class SubTestEvent extends TestEvent {
+
+        public SubTestEvent(Cause cause) {
+            super(cause);
+        }
+
+    }
+
+    public static class TestListener {
+
+        final Set<String> calls = Sets.newHashSet();
+
+        @Listener
+        public void onRoot(TestEvent event, @Root String root, @Last Integer last) {
+            this.calls.add("root " + root + " " + last);
+        }
+
+        @Listener
+        public void onNamed(TestEvent event, @Named("count") Integer count, @First(typeFilter = Integer.class, inverse = true) Number ratio) {
+            this.calls.add("named " + count + " " + ratio);
+        }
+
+        @Listener
+        public void onFirst(TestEvent event, @First(typeFilter = Integer.class) Number count, @All Integer[] all) {
+            this.calls.add("first " + count + " " + all.length);
+        }
+
+        @Listener
+        public void onMissing(TestEvent event, @First Long missing) {
+            this.calls.add("missing");
+        }
+
+        @Listener
+        public void onEmpty(TestEvent event, @All Long[] empty) {
+            this.calls.add("empty");
+        }
+
+    }
+
+    public static class GetterListener {
+
+        final Set<String> calls = Sets.newHashSet();
+
+        @Listener
+        public void onGetter(TestEvent event, @Getter("getCount") int count, @Getter("getName") String name,
+                @Getter("getName") Optional<String> optionalName) {
+            this.calls.add("getter " + count + " " + name + " " + optionalName.get());
+        }
+
+        @Listener
+        public void onMissing(TestEvent event, @Getter("getMissing") String missing) {
+            this.calls.add("missing");
+        }
+
+    }
+
+    public static class TypeListener {
+
+        final Set<String> calls = Sets.newHashSet();
+
+        @Listener
+        @Include(SubTestEvent.class)
+        public void onInclude(TestEvent event) {
+            this.calls.add("include");
+        }
+
+        @Listener
+        @Exclude(SubTestEvent.class)
+        public void onExclude(TestEvent event) {
+            this.calls.add("exclude");
+        }
+
+        @Listener
+        @IsCancelled
+        public void onCancelled(TestEvent event) {
+            this.calls.add("cancelled");
+        }
+
+        @Listener
+        @IsCancelled(Tristate.UNDEFINED)
+        public void onAny(TestEvent event) {
+            this.calls.add("any");
+        }
+
+    }
+
+    public static class InvalidListener {
+
+        @Listener
+        public void onEvent(TestEvent event, String missingSource) {
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Set;
+
+public class ContextPipelineTest {
+
+    @Test
+    public void testCachedContexts() {
+        ContextPipeline<TestContextual> pipeline = new ContextPipeline<>();
+        TestCalculator world = new TestCalculator(Context.WORLD_KEY, true);
+        TestCalculator dimension = new TestCalculator(Context.DIMENSION_KEY, false);
+        pipeline.register(world);
+        pipeline.register(dimension);
+
+        TestContextual contextual = new TestContextual("world", "overworld");
+        ContextSet contexts = pipeline.getActiveContexts(contextual);
+        assertEquals(ImmutableSet.of(new Context(Context.WORLD_KEY, "world"), new Context(Context.DIMENSION_KEY, "overworld")), contexts);
+        assertSame(contexts, pipeline.getActiveContexts(contextual));
+        assertEquals(1, world.calculations);
+        assertEquals(2, dimension.calculations);
+
+        contextual.world = "nether";
+        assertSame(contexts, pipeline.getActiveContexts(contextual));
+        world.invalidator.invalidate(contextual);
+        assertEquals(ImmutableSet.of(new Context(Context.WORLD_KEY, "nether"), new Context(Context.DIMENSION_KEY, "overworld")),
+                pipeline.getActiveContexts(contextual));
+        assertEquals(2, world.calculations);
+
+        contextual.world = "end";
+        contextual.dimension = "end";
+        world.invalidator.invalidateAll();
+        assertEquals(ImmutableSet.of(new Context(Context.WORLD_KEY, "end"), new Context(Context.DIMENSION_KEY, "end")),
+                pipeline.getActiveContexts(contextual));
+        assertEquals(3, world.calculations);
+        assertEquals(3, pipeline.getMetrics(world).get().getCalculationCount());
+        assertEquals(5, pipeline.getMetrics(dimension).get().getCalculationCount());
+    }
+
+    private static class TestContextual implements Contextual {
+
+        String world;
+        String dimension;
+
+        TestContextual(String world, String dimension) {
+            this.world = world;
+            this.dimension = dimension;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "test";
+        }
+
+        @Override
+        public Set<Context> getActiveContexts() {
+            return ImmutableSet.of();
+        }
+
+    }
+
+    private static class TestCalculator implements ContextCalculator<TestContextual> {
+
+        private final String key;
+        private final boolean cacheable;
+        ContextInvalidator<TestContextual> invalidator;
+        int calculations;
+
+        TestCalculator(String key, boolean cacheable) {
+            this.key = key;
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public void accumulateContexts(TestContextual calculable, Set<Context> accumulator) {
+            this.calculations++;
+            accumulator.add(new Context(this.key, this.key.equals(Context.WORLD_KEY) ? calculable.world : calculable.dimension));
+        }
+
+        @Override
+        public boolean matches(Context context, TestContextual subject) {
+            return false;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return this.cacheable;
+        }
+
+        @Override
+        public void registerInvalidator(ContextInvalidator<TestContextual> invalidator) {
+            this.invalidator = invalidator;
+        }
+
+    }
+
+}
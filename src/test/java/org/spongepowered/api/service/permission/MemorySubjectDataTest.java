@@ -0,0 +1,144 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.service.context.ContextSet;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class MemorySubjectDataTest {
+
+    private static final Set<Context> GLOBAL = ImmutableSet.of();
+    private static final Set<Context> WORLD = ImmutableSet.of(new Context(Context.WORLD_KEY, "world"));
+
+    @Test
+    public void testContextSetInterning() {
+        Set<Context> contexts = new HashSet<>(WORLD);
+        assertSame(ContextSet.of(WORLD), ContextSet.of(contexts));
+        assertEquals(WORLD, ContextSet.of(contexts));
+        assertEquals(ContextSet.of(contexts), WORLD);
+        assertEquals(WORLD.hashCode(), ContextSet.of(contexts).hashCode());
+        assertSame(ContextSet.empty(), ContextSet.of(GLOBAL));
+    }
+
+    @Test
+    public void testResolvedPermissionsFollowChanges() {
+        PermissionService service = mock(PermissionService.class);
+        SubjectCollection groups = mock(SubjectCollection.class);
+        Subject parent = mock(Subject.class);
+        MemorySubjectData parentData = new MemorySubjectData(service);
+        when(service.getSubjects("group")).thenReturn(groups);
+        when(groups.getIdentifier()).thenReturn("group");
+        when(groups.get("parent")).thenReturn(parent);
+        when(parent.getIdentifier()).thenReturn("parent");
+        when(parent.getContainingCollection()).thenReturn(groups);
+        when(parent.getSubjectData()).thenReturn(parentData);
+
+        MemorySubjectData data = new MemorySubjectData(service);
+        data.addParent(WORLD, parent);
+        assertEquals(Tristate.UNDEFINED, data.getPermissionValue(WORLD, "build.place"));
+
+        parentData.setPermission(WORLD, "build", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, data.getPermissionValue(WORLD, "build.place"));
+        assertEquals(Tristate.UNDEFINED, data.getPermissionValue(GLOBAL, "build.place"));
+
+        data.setPermission(WORLD, "build.place", Tristate.FALSE);
+        assertEquals(Tristate.FALSE, data.getPermissionValue(new HashSet<>(WORLD), "build.place"));
+
+        data.setPermission(WORLD, "build.place", Tristate.UNDEFINED);
+        assertEquals(Tristate.TRUE, data.getPermissionValue(WORLD, "build.place"));
+
+        data.removeParent(WORLD, parent);
+        assertEquals(Tristate.UNDEFINED, data.getPermissionValue(WORLD, "build.place"));
+    }
+
+    @Test
+    public void testParentCycle() {
+        PermissionService service = mock(PermissionService.class);
+        SubjectCollection groups = mock(SubjectCollection.class);
+        when(service.getSubjects("group")).thenReturn(groups);
+        when(groups.getIdentifier()).thenReturn("group");
+        MemorySubjectData firstData = new MemorySubjectData(service);
+        MemorySubjectData secondData = new MemorySubjectData(service);
+        Subject first = mockGroup(groups, "first", firstData);
+        Subject second = mockGroup(groups, "second", secondData);
+        firstData.addParent(GLOBAL, second);
+        secondData.addParent(GLOBAL, first);
+
+        assertEquals(Tristate.UNDEFINED, firstData.getPermissionValue(GLOBAL, "build"));
+        secondData.setPermission(GLOBAL, "build", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, firstData.getPermissionValue(GLOBAL, "build"));
+        assertEquals(Tristate.TRUE, secondData.getPermissionValue(GLOBAL, "build"));
+    }
+
+    @Test
+    public void testCachedPerSubject() {
+        PermissionService service = mock(PermissionService.class);
+        SubjectCollection groups = mock(SubjectCollection.class);
+        when(service.getSubjects("group")).thenReturn(groups);
+        when(groups.getIdentifier()).thenReturn("group");
+        MemorySubjectData grandparentData = new MemorySubjectData(service);
+        MemorySubjectData parentData = new MemorySubjectData(service);
+        Subject grandparent = mockGroup(groups, "grandparent", grandparentData);
+        Subject parent = mockGroup(groups, "parent", parentData);
+        parentData.addParent(GLOBAL, grandparent);
+        MemorySubjectData data = new MemorySubjectData(service);
+        data.addParent(GLOBAL, parent);
+
+        assertEquals(Tristate.UNDEFINED, data.getPermissionValue(GLOBAL, "build"));
+        verify(groups, times(1)).get("parent");
+
+        // Changes to unrelated subjects don't invalidate the resolved value
+        new MemorySubjectData(service).setPermission(GLOBAL, "build", Tristate.TRUE);
+        assertEquals(Tristate.UNDEFINED, data.getPermissionValue(GLOBAL, "build"));
+        verify(groups, times(1)).get("parent");
+
+        grandparentData.setPermission(GLOBAL, "build", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, data.getPermissionValue(GLOBAL, "build"));
+        verify(groups, times(2)).get("parent");
+    }
+
+    private static Subject mockGroup(SubjectCollection groups, String identifier, MemorySubjectData data) {
+        Subject subject = mock(Subject.class);
+        when(groups.get(identifier)).thenReturn(subject);
+        when(subject.getIdentifier()).thenReturn(identifier);
+        when(subject.getContainingCollection()).thenReturn(groups);
+        when(subject.getSubjectData()).thenReturn(data);
+        return subject;
+    }
+
+}
@@ -107,4 +107,63 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testRepeatedLookups() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("Generate.Rainbow", true);
+        testPermissions.put("generate.sunset", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Tristate.TRUE, nodes.get("generate.rainbow"));
+            assertEquals(Tristate.TRUE, nodes.get("GENERATE.RAINBOW.double"));
+            assertEquals(Tristate.FALSE, nodes.get("generate.sunset."));
+            assertEquals(Tristate.UNDEFINED, nodes.get("generate"));
+            assertEquals(Tristate.UNDEFINED, nodes.get("generate.unknown"));
+        }
+        NodeTree newNodes = nodes.withValue("generate.rainbow", Tristate.FALSE);
+        assertEquals(Tristate.TRUE, nodes.get("generate.rainbow"));
+        assertEquals(Tristate.FALSE, newNodes.get("generate.rainbow"));
+    }
+
+    @Test
+    public void testCollidingSegments() throws Exception {
+        // "aik", "ak-" and "c--" have the same hash code
+        assertEquals("aik".hashCode(), "ak-".hashCode());
+        assertEquals("aik".hashCode(), "c--".hashCode());
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        testPermissions.put("root.aik", true);
+        testPermissions.put("root.c--", false);
+        testPermissions.put("root.other", true);
+
+        NodeTree oldTree = NodeTree.of(testPermissions);
+        assertEquals(Tristate.TRUE, oldTree.get("root.aik"));
+        assertEquals(Tristate.UNDEFINED, oldTree.get("root.ak-"));
+        assertEquals(Tristate.FALSE, oldTree.get("root.c--"));
+
+        NodeTree newTree = oldTree.withValue("root.ak-", Tristate.FALSE).withValue("root.aik", Tristate.FALSE);
+        assertEquals(Tristate.FALSE, newTree.get("root.aik"));
+        assertEquals(Tristate.FALSE, newTree.get("root.ak-"));
+        assertEquals(Tristate.FALSE, newTree.get("root.c--"));
+        assertEquals(Tristate.TRUE, newTree.get("root.other"));
+        assertEquals(Tristate.UNDEFINED, oldTree.get("root.ak-"));
+    }
+
+    @Test
+    public void testLargeTree() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            testPermissions.put("plugin.node" + i + ".child", i % 2 == 0);
+        }
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+        for (int j = 0; j < 2; j++) {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(Tristate.fromBoolean(i % 2 == 0), nodes.get("plugin.node" + i + ".child"));
+                assertEquals(Tristate.UNDEFINED, nodes.get("plugin.node" + i));
+            }
+        }
+        assertEquals(testPermissions, nodes.asMap());
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class PermissionIndexTest {
+
+    @Test
+    public void testUpdate() {
+        Subject first = mock(Subject.class);
+        Subject second = mock(Subject.class);
+        PermissionIndex index = new PermissionIndex();
+        index.update(first, ImmutableMap.of("Chat.Receive", true, "chat.send", false));
+        index.update(second, ImmutableMap.of("chat.receive", true));
+
+        assertEquals(ImmutableMap.of(first, true, second, true), index.getAllWithPermission("chat.receive"));
+        assertEquals(ImmutableMap.of(first, false), index.getAllWithPermission("CHAT.SEND"));
+        assertTrue(index.getAllWithPermission("chat").isEmpty());
+
+        long sendVersion = index.getVersion("chat.send");
+        long receiveVersion = index.getVersion("chat.receive");
+        Map<Subject, Boolean> receiveSubjects = index.getAllWithPermission("chat.receive");
+        index.update(first, ImmutableMap.of("chat.receive", true));
+        assertEquals(receiveVersion, index.getVersion("chat.receive"));
+        assertNotEquals(sendVersion, index.getVersion("CHAT.SEND"));
+        assertTrue(index.getAllWithPermission("chat.send").isEmpty());
+
+        index.remove(second);
+        assertNotEquals(receiveVersion, index.getVersion("chat.receive"));
+        assertEquals(ImmutableMap.of(first, true), index.getAllWithPermission("chat.receive"));
+        assertEquals(ImmutableMap.of(first, true), receiveSubjects);
+    }
+
+}
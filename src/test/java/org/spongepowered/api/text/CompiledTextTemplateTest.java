@@ -0,0 +1,101 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextFormat;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.util.test.TestHooks;
+
+public class CompiledTextTemplateTest {
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+        TestHooks.mockFields(TextColors.class, TextColor.class);
+        TestHooks.mockFields(TextStyles.class, TextStyle.class);
+    }
+
+    @Test
+    public void testApplyPositional() {
+        TextTemplate template = TextTemplate.of("Hello ", TextTemplate.arg("name").color(TextColors.RED), "!");
+        Text expected = Text.builder("Hello ")
+                .append(Text.builder().format(TextFormat.of(TextColors.RED)).append(Text.of("World")).build())
+                .append(Text.of("!"))
+                .build();
+
+        assertThat(template.compile().apply("World").build(), is(expected));
+        assertThat(template.compile().apply(ImmutableMap.of("name", "World")).build(), is(expected));
+        assertThat(template.apply(ImmutableMap.of("name", "World")).build(), is(expected));
+    }
+
+    @Test
+    public void testArgumentSlots() {
+        TextTemplate template = TextTemplate.of(TextTemplate.arg("b"), " ", TextTemplate.arg("a"), " ", TextTemplate.arg("b"));
+        CompiledTextTemplate compiled = template.compile();
+        assertThat(compiled.getArgumentNames(), contains("b", "a"));
+        assertThat(compiled.getArgumentIndex("b"), is(0));
+        assertThat(compiled.getArgumentIndex("a"), is(1));
+        assertThat(compiled.getArgumentIndex("c"), is(-1));
+        assertThat(compiled.apply("x", "y").build().toPlain(), is("x y x"));
+    }
+
+    @Test
+    public void testDefaultValue() {
+        TextTemplate template = TextTemplate.of("Value: ", TextTemplate.arg("value").optional().defaultValue(Text.of("none")));
+        assertThat(template.compile().apply().build().toPlain(), is("Value: none"));
+        assertThat(template.compile().apply((Object) null).build().toPlain(), is("Value: none"));
+        assertThat(template.compile().apply(Text.of("some")).build().toPlain(), is("Value: some"));
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testMissingRequiredArgument() {
+        TextTemplate.of("Value: ", TextTemplate.arg("value")).compile().apply();
+    }
+
+    @Test
+    public void testLiteralSegmentsAreShared() {
+        TextTemplate template = TextTemplate.of(TextTemplate.arg("value"), " literal");
+        CompiledTextTemplate compiled = template.compile();
+        assertThat(template.compile(), is(sameInstance(compiled)));
+
+        Text first = compiled.apply("first").build();
+        Text second = compiled.apply("second").build();
+        assertThat(first.toPlain(), is("first literal"));
+        assertThat(second.toPlain(), is("second literal"));
+        assertThat(second.getChildren().get(1), is(sameInstance(first.getChildren().get(1))));
+    }
+
+}
@@ -26,17 +26,22 @@
 
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.spongepowered.api.text.action.TextActions.insertText;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.text.format.TextColor;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.text.serializer.TextSerializer;
 import org.spongepowered.api.util.test.TestHooks;
 
 public class TextTest {
@@ -100,6 +105,57 @@ public void testCompositeText() {
         assertThat(server.getShiftClickAction().get(), is(insertText("Welcome Spongie!")));
     }
 
+    @Test
+    public void testSerializedCache() {
+        CountingSerializer serializer = new CountingSerializer();
+        Text text = Text.of(TextColors.RED, "Red", Text.of(TextColors.YELLOW, "Yellow"));
+        assertThat(text.toSerialized(serializer), is("RedYellow"));
+        assertThat(text.toSerialized(serializer), is("RedYellow"));
+        assertThat(serializer.count, is(1));
+
+        assertThat(text.toPlain(), is("RedYellow"));
+        assertThat(text.toSerialized(serializer), is("RedYellow"));
+        assertThat(serializer.count, is(1));
+    }
+
+    @Test
+    public void testScoreTextNotCached() {
+        Score score = mock(Score.class);
+        when(score.getScore()).thenReturn(1, 2);
+        CountingSerializer serializer = new CountingSerializer();
+        Text text = Text.of("Score: ", Text.of(score));
+        assertThat(text.toSerialized(serializer), is("Score: 1"));
+        assertThat(text.toSerialized(serializer), is("Score: 2"));
+        assertThat(serializer.count, is(2));
+    }
+
+    @Test
+    public void testHashCode() {
+        Text text = Text.of(TextColors.RED, "Red", Text.of(TextColors.YELLOW, "Yellow"));
+        Text equal = Text.of(TextColors.RED, "Red", Text.of(TextColors.YELLOW, "Yellow"));
+        assertThat(text.hashCode(), is(equal.hashCode()));
+        assertThat(text.hashCode(), is(text.hashCode()));
+        assertTrue(text.equals(equal));
+        assertFalse(text.equals(Text.of(TextColors.RED, "Red", Text.of(TextColors.YELLOW, "Orange"))));
+    }
+
+    private static final class CountingSerializer implements TextSerializer {
+
+        private final TestPlainTextSerializer plain = new TestPlainTextSerializer();
+        int count;
+
+        @Override
+        public String serialize(Text text) {
+            this.count++;
+            return this.plain.serialize(text);
+        }
+
+        @Override
+        public Text deserialize(String input) {
+            return this.plain.deserialize(input);
+        }
+    }
+
     private static Text findText(Text root, String text) {
         for (Text t : root.withChildren()) {
             if (t instanceof LiteralText && ((LiteralText) t).getContent().contains(text)) {
@@ -0,0 +1,201 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.impl.DelegateMessageChannel;
+import org.spongepowered.api.text.chat.ChatType;
+import org.spongepowered.api.text.chat.ChatTypes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+public class MessageChannelTest {
+
+    private final List<Receiver> receivers = ImmutableList.of(new Receiver(), new Receiver(), new Receiver());
+
+    @Test
+    public void testDefaultIndependent() {
+        MessageChannel channel = () -> ImmutableList.copyOf(this.receivers);
+        assertTrue(channel.isRecipientIndependent());
+        assertTrue(MessageChannel.fixed(this.receivers).isRecipientIndependent());
+        assertTrue(new DelegateMessageChannel(channel).isRecipientIndependent());
+    }
+
+    @Test
+    public void testTransformOnce() {
+        CountingChannel channel = new IndependentChannel(this.receivers);
+        assertTrue(channel.isRecipientIndependent());
+        channel.send(null, Text.EMPTY, ChatTypes.SYSTEM);
+        assertEquals(1, channel.transformed);
+        for (Receiver receiver : this.receivers) {
+            assertEquals(1, receiver.messages.size());
+            assertSame(this.receivers.get(0).messages.get(0), receiver.messages.get(0));
+        }
+    }
+
+    @Test
+    public void testTransformPerRecipient() {
+        CountingChannel channel = new CountingChannel(this.receivers);
+        assertFalse(channel.isRecipientIndependent());
+        channel.send(null, Text.EMPTY, ChatTypes.SYSTEM);
+        assertEquals(3, channel.transformed);
+        for (Receiver receiver : this.receivers) {
+            assertEquals(1, receiver.messages.size());
+        }
+    }
+
+    @Test
+    public void testCombined() {
+        MessageChannel fixed = MessageChannel.fixed(this.receivers);
+        assertTrue(MessageChannel.combined(fixed, new IndependentChannel(this.receivers)).isRecipientIndependent());
+        assertFalse(MessageChannel.combined(fixed, new CountingChannel(this.receivers)).isRecipientIndependent());
+        assertFalse(new DelegateMessageChannel(new CountingChannel(this.receivers)).isRecipientIndependent());
+    }
+
+    @Test
+    public void testCachedMembers() {
+        CountingMembersChannel channel = new CountingMembersChannel(this.receivers);
+        assertSame(channel.getMembers(), channel.getMembers());
+        assertEquals(1, channel.computed);
+        CachedMessageChannel.invalidateMembers();
+        assertEquals(3, channel.getMembers().size());
+        assertEquals(2, channel.computed);
+    }
+
+    @Test
+    public void testUntrackedMembersNotCached() {
+        CountingMembersChannel channel = new CountingMembersChannel(this.receivers, false);
+        assertFalse(CachedMessageChannel.isMembershipTracked());
+        assertFalse(channel.isMembershipCached());
+        channel.getMembers();
+        channel.getMembers();
+        assertEquals(2, channel.computed);
+        assertFalse(((CachedMessageChannel) MessageChannel.combined(channel, new CountingMembersChannel(this.receivers))).isMembershipCached());
+    }
+
+    @Test
+    public void testCombinedCachedMembers() {
+        CachedMessageChannel combined = (CachedMessageChannel) MessageChannel.combined(new CountingMembersChannel(this.receivers),
+                new CountingMembersChannel(this.receivers.subList(0, 1)));
+        assertTrue(combined.isMembershipCached());
+        assertSame(combined.getMembers(), combined.getMembers());
+        assertEquals(3, combined.getMembers().size());
+
+        combined = (CachedMessageChannel) MessageChannel.combined(new CountingMembersChannel(this.receivers), MessageChannel.fixed(this.receivers));
+        assertFalse(combined.isMembershipCached());
+    }
+
+    private static class CountingChannel implements MessageChannel {
+
+        private final Collection<MessageReceiver> members;
+        int transformed;
+
+        CountingChannel(Collection<? extends MessageReceiver> members) {
+            this.members = ImmutableList.copyOf(members);
+        }
+
+        @Override
+        public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original, ChatType type) {
+            this.transformed++;
+            return Optional.of(Text.of("Transformed"));
+        }
+
+        @Override
+        public Collection<MessageReceiver> getMembers() {
+            return this.members;
+        }
+    }
+
+    private static final class IndependentChannel extends CountingChannel {
+
+        IndependentChannel(Collection<? extends MessageReceiver> members) {
+            super(members);
+        }
+
+        @Override
+        public boolean isRecipientIndependent() {
+            return true;
+        }
+    }
+
+    private static final class CountingMembersChannel extends CachedMessageChannel {
+
+        private final Collection<MessageReceiver> members;
+        private final boolean cached;
+        int computed;
+
+        CountingMembersChannel(Collection<? extends MessageReceiver> members) {
+            this(members, true);
+        }
+
+        CountingMembersChannel(Collection<? extends MessageReceiver> members, boolean cached) {
+            this.members = ImmutableList.copyOf(members);
+            this.cached = cached;
+        }
+
+        @Override
+        public boolean isMembershipCached() {
+            return this.cached || super.isMembershipCached();
+        }
+
+        @Override
+        protected Collection<MessageReceiver> computeMembers() {
+            this.computed++;
+            return this.members;
+        }
+    }
+
+    private static final class Receiver implements MessageReceiver {
+
+        final List<Text> messages = new ArrayList<>();
+
+        @Override
+        public void sendMessage(Text message) {
+            this.messages.add(message);
+        }
+
+        @Override
+        public MessageChannel getMessageChannel() {
+            return MessageChannel.TO_NONE;
+        }
+
+        @Override
+        public void setMessageChannel(MessageChannel channel) {
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.serializer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.network.ChannelBuf;
+import org.spongepowered.api.text.TestPlainTextSerializer;
+import org.spongepowered.api.text.Text;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class TextSerializerTest {
+
+    private final Text text = Text.of("Hello ", Text.of("W\u00f6rld"));
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+    }
+
+    @Test
+    public void testSerializeAppendable() throws Exception {
+        StringBuilder output = new StringBuilder("> ");
+        TextSerializers.PLAIN.serialize(this.text, output);
+        assertEquals("> Hello W\u00f6rld", output.toString());
+    }
+
+    @Test
+    public void testSerializeChannelBuf() {
+        ChannelBuf buf = mock(ChannelBuf.class);
+        TextSerializers.PLAIN.serialize(this.text, buf);
+        verify(buf).writeString("Hello W\u00f6rld");
+    }
+
+    @Test
+    public void testSerializeByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        buffer.put((byte) 1);
+        TextSerializers.PLAIN.serialize(this.text, buffer);
+        buffer.flip();
+        assertEquals(1, buffer.get());
+        assertEquals("Hello W\u00f6rld", StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void testSerializeByteBufferOverflow() {
+        TextSerializers.PLAIN.serialize(this.text, ByteBuffer.allocate(4));
+    }
+
+    @Test
+    public void testDeserializeCharSequence() throws Exception {
+        assertEquals(Text.of("Hello"), TextSerializers.PLAIN.deserialize(new StringBuilder("Hello")));
+    }
+
+}
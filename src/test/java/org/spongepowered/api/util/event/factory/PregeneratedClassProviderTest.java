@@ -0,0 +1,130 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.Maps;
+import org.junit.Test;
+import org.spongepowered.api.event.SpongeEventFactoryUtils;
+import org.spongepowered.api.util.generator.event.factory.ClassGeneratorProvider;
+import org.spongepowered.api.util.generator.event.factory.EventFactory;
+import org.spongepowered.api.util.generator.event.factory.NullPolicy;
+import org.spongepowered.api.util.generator.event.factory.PregeneratedClassProvider;
+
+import java.util.Map;
+
+public class PregeneratedClassProviderTest {
+
+    private static final String TARGET_PACKAGE = "org.spongepowered.test";
+
+    @Test
+    public void testLoadPregenerated() throws Exception {
+        ClassMapLoader classLoader = new ClassMapLoader();
+        new ClassGeneratorProvider(TARGET_PACKAGE) {
+
+            @Override
+            protected Class<?> defineClass(String name, byte[] bytes) {
+                classLoader.classes.put(name, bytes);
+                return super.defineClass(name, bytes);
+            }
+        }.create(NamedContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        assertEquals(2, classLoader.classes.size());
+
+        PregeneratedClassProvider provider = new PregeneratedClassProvider(TARGET_PACKAGE, classLoader);
+        EventFactory<NamedContainer> factory = provider.create(NamedContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        assertSame(classLoader, factory.getClass().getClassLoader());
+
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("name", "foo");
+        NamedContainer result = factory.apply(values);
+        assertSame(classLoader, result.getClass().getClassLoader());
+        assertEquals("foo", result.getName());
+    }
+
+    @Test
+    public void testIgnoreStalePregenerated() throws Exception {
+        ClassMapLoader classLoader = new ClassMapLoader();
+        ClassGeneratorProvider generator = new ClassGeneratorProvider(TARGET_PACKAGE) {
+
+            @Override
+            protected Class<?> defineClass(String name, byte[] bytes) {
+                classLoader.classes.put(name, bytes);
+                return super.defineClass(name, bytes);
+            }
+        };
+        generator.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        generator.create(NamedContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        assertEquals(2, classLoader.classes.size());
+
+        // The classes were generated with another null policy, so their signature doesn't match
+        PregeneratedClassProvider provider = new PregeneratedClassProvider(TARGET_PACKAGE, classLoader);
+        provider.setNullPolicy(NullPolicy.DISABLE_PRECONDITIONS);
+        EventFactory<NamedContainer> factory = provider.create(NamedContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        assertNotSame(classLoader, factory.getClass().getClassLoader());
+
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("name", "foo");
+        assertEquals("foo", factory.apply(values).getName());
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        ClassMapLoader classLoader = new ClassMapLoader();
+        PregeneratedClassProvider provider = new PregeneratedClassProvider(TARGET_PACKAGE, classLoader);
+        EventFactory<NamedContainer> factory = provider.create(NamedContainer.class, Object.class, SpongeEventFactoryUtils.plugins);
+        assertNotSame(classLoader, factory.getClass().getClassLoader());
+
+        Map<String, Object> values = Maps.newHashMap();
+        values.put("name", "foo");
+        assertEquals("foo", factory.apply(values).getName());
+    }
+
+    private static final class ClassMapLoader extends ClassLoader {
+
+        final Map<String, byte[]> classes = Maps.newHashMap();
+
+        ClassMapLoader() {
+            super(PregeneratedClassProviderTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            final byte[] bytes = this.classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return this.defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    public interface NamedContainer {
+
+        String getName();
+    }
+
+}